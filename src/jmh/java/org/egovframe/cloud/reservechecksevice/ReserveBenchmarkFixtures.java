@@ -0,0 +1,144 @@
+package org.egovframe.cloud.reservechecksevice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveSaveRequestDto;
+import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
+import org.egovframe.cloud.reservechecksevice.codec.IsoLocalDateTimeSerializer;
+import org.egovframe.cloud.reservechecksevice.domain.location.Location;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveItem;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.ReserveBenchmarkFixtures
+ * <p>
+ * 벤치마크 공통 테스트 데이터
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      직렬화 최적화(JsonCodecConfig) ObjectMapper 추가
+ * </pre>
+ */
+public final class ReserveBenchmarkFixtures {
+
+    private ReserveBenchmarkFixtures() {
+    }
+
+    /**
+     * spring boot 기본 설정과 같은 ObjectMapper (날짜는 ISO 문자열)
+     *
+     * @return
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * JsonCodecConfig 를 적용한 ObjectMapper (Afterburner, IsoLocalDateTimeSerializer)
+     *
+     * @return
+     */
+    public static ObjectMapper optimizedObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new AfterburnerModule())
+                .serializerByType(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE)
+                .build();
+    }
+
+    public static ReserveItem reserveItem(long reserveItemId) {
+        Location location = Location.builder()
+                .locationId(reserveItemId % 10)
+                .locationName("location-" + (reserveItemId % 10))
+                .build();
+        return ReserveItem.builder()
+                .reserveItemId(reserveItemId)
+                .reserveItemName("item-" + reserveItemId)
+                .locationId(location.getLocationId())
+                .location(location)
+                .categoryId("equipment")
+                .categoryName("장비")
+                .totalQty(100)
+                .inventoryQty(80)
+                .reserveMethodId("internet")
+                .reserveMeansId("realtime")
+                .requestStartDate(LocalDateTime.of(2021, 1, 1, 0, 0))
+                .requestEndDate(LocalDateTime.of(2021, 12, 31, 23, 59))
+                .operationStartDate(LocalDateTime.of(2021, 1, 1, 0, 0))
+                .operationEndDate(LocalDateTime.of(2021, 12, 31, 23, 59))
+                .build();
+    }
+
+    public static UserResponseDto user(String userId) {
+        return UserResponseDto.builder()
+                .userId(userId)
+                .userName("name-" + userId)
+                .email(userId + "@email.com")
+                .build();
+    }
+
+    /**
+     * relation(예약 물품, 사용자)이 채워진 예약
+     *
+     * @param index
+     * @return
+     */
+    public static Reserve reserve(int index) {
+        Reserve reserve = Reserve.builder()
+                .reserveId("reserve-" + index)
+                .reserveItemId((long) (index % 50))
+                .reserveQty(1 + index % 5)
+                .reservePurposeContent("purpose " + index)
+                .reserveStatusId(ReserveStatus.REQUEST.getKey())
+                .reserveStartDate(LocalDateTime.of(2021, 10, 1, 9, 0).plusDays(index % 30))
+                .reserveEndDate(LocalDateTime.of(2021, 10, 1, 18, 0).plusDays(index % 30))
+                .userId("user-" + (index % 20))
+                .userContactNo("010-0000-0000")
+                .userEmail("user@email.com")
+                .build();
+        reserve.setReserveItem(reserveItem(index % 50));
+        reserve.setUser(user("user-" + (index % 20)));
+        return reserve;
+    }
+
+    public static List<Reserve> reserves(int size) {
+        List<Reserve> reserves = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            reserves.add(reserve(i));
+        }
+        return reserves;
+    }
+
+    public static ReserveSaveRequestDto saveRequestDto(String categoryId) {
+        return ReserveSaveRequestDto.builder()
+                .reserveItemId(1L)
+                .locationId(1L)
+                .categoryId(categoryId)
+                .reserveQty(10)
+                .reservePurposeContent("purpose")
+                .reserveStartDate(LocalDateTime.of(2021, 10, 1, 9, 0))
+                .reserveEndDate(LocalDateTime.of(2021, 10, 2, 18, 0))
+                .userId("user")
+                .userContactNo("010-0000-0000")
+                .userEmail("user@email.com")
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package org.egovframe.cloud.reservechecksevice.api.reserve;
+
+import java.util.concurrent.TimeUnit;
+
+import org.egovframe.cloud.reservechecksevice.ReserveBenchmarkFixtures;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveListResponseDto;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveResponseDto;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveSaveRequestDto;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveListRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.api.reserve.ReserveDtoMappingBenchmark
+ * <p>
+ * entity <-> dto 변환 비용 (목록/단건 응답 dto 생성, 저장 요청 dto 의 toEntity)
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      목록 응답 dto 는 목록 행(ReserveListRow)에서 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReserveDtoMappingBenchmark {
+
+    private Reserve reserve;
+    private ReserveListRow row;
+    private ReserveSaveRequestDto saveRequestDto;
+
+    @Setup
+    public void setup() {
+        reserve = ReserveBenchmarkFixtures.reserve(1);
+        row = ReserveListRow.of(reserve);
+        saveRequestDto = ReserveBenchmarkFixtures.saveRequestDto("equipment");
+        saveRequestDto.setReserveId("reserve-1");
+    }
+
+    @Benchmark
+    public ReserveListResponseDto listResponseDto() {
+        return ReserveListResponseDto.builder().row(row).build();
+    }
+
+    @Benchmark
+    public ReserveResponseDto responseDto() {
+        return ReserveResponseDto.builder().entity(reserve).build();
+    }
+
+    @Benchmark
+    public Reserve saveRequestToEntity() {
+        return saveRequestDto.toEntity();
+    }
+}
@@ -0,0 +1,119 @@
+package org.egovframe.cloud.reservechecksevice.api.reserve;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.egovframe.cloud.reservechecksevice.ReserveBenchmarkFixtures;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveCountResponseDto;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveListResponseDto;
+import org.egovframe.cloud.reservechecksevice.codec.PooledBufferJackson2JsonEncoder;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveListRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.api.reserve.ReservePageSerializationBenchmark
+ * <p>
+ * 목록 응답 (Page&lt;ReserveListResponseDto&gt; 100건) 및 기간 조회 응답 (ReserveCountResponseDto 100건) JSON 직렬화 비용
+ * mapper=default 는 spring boot 기본 설정, optimized 는 JsonCodecConfig(Afterburner, LocalDateTime serializer, pooled buffer encoder) 적용
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      직렬화 최적화 비교(mapper param), 기간 조회 응답, encoder 측정 추가
+ *  2026/10/19    shinmj      목록 응답 dto 는 목록 행(ReserveListRow)에서 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservePageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final ResolvableType PAGE_TYPE = ResolvableType.forClass(Page.class);
+
+    @Param({"default", "optimized"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private Jackson2JsonEncoder encoder;
+    private NettyDataBufferFactory bufferFactory;
+    private Page<ReserveListResponseDto> page;
+    private List<ReserveCountResponseDto> counts;
+
+    @Setup
+    public void setup() {
+        if ("optimized".equals(mapper)) {
+            objectMapper = ReserveBenchmarkFixtures.optimizedObjectMapper();
+            encoder = new PooledBufferJackson2JsonEncoder(objectMapper);
+        } else {
+            objectMapper = ReserveBenchmarkFixtures.objectMapper();
+            encoder = new Jackson2JsonEncoder(objectMapper);
+        }
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+        List<Reserve> reserves = ReserveBenchmarkFixtures.reserves(PAGE_SIZE);
+        List<ReserveListResponseDto> content = reserves.stream()
+                .map(reserve -> ReserveListResponseDto.builder().row(ReserveListRow.of(reserve)).build())
+                .collect(Collectors.toList());
+        page = new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 1000);
+        counts = reserves.stream()
+                .map(reserve -> ReserveCountResponseDto.builder().entity(reserve).build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeCounts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(counts);
+    }
+
+    /**
+     * WebFlux 응답 encoder 로 netty buffer 까지 기록
+     *
+     * @return
+     */
+    @Benchmark
+    public int encodePage() {
+        DataBuffer buffer = encoder.encodeValue(page, bufferFactory, PAGE_TYPE, MediaType.APPLICATION_JSON,
+                Collections.emptyMap());
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+}
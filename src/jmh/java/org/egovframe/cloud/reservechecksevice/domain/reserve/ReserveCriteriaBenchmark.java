@@ -0,0 +1,67 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.util.concurrent.TimeUnit;
+
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveRequestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveCriteriaBenchmark
+ * <p>
+ * 목록 조회조건 sql 생성 비용
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      Criteria 대신 shape 별 cache 된 sql(ReserveSearchSql) 측정
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReserveCriteriaBenchmark {
+
+    private ReserveRequestDto emptyRequest;
+    private ReserveRequestDto fullRequest;
+    private Pageable pageable;
+
+    @Setup
+    public void setup() {
+        emptyRequest = new ReserveRequestDto();
+
+        fullRequest = new ReserveRequestDto();
+        DirectFieldAccessor accessor = new DirectFieldAccessor(fullRequest);
+        accessor.setPropertyValue("locationId", 1L);
+        accessor.setPropertyValue("categoryId", "equipment");
+        accessor.setPropertyValue("keywordType", "item");
+        accessor.setPropertyValue("keyword", "1");
+
+        pageable = PageRequest.of(3, 10);
+    }
+
+    @Benchmark
+    public ReserveSearchSql noFilter() {
+        return ReserveSearchSql.list(emptyRequest, pageable, null);
+    }
+
+    @Benchmark
+    public ReserveSearchSql allFilters() {
+        return ReserveSearchSql.list(fullRequest, pageable, "user");
+    }
+}
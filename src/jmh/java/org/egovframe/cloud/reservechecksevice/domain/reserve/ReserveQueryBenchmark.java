@@ -0,0 +1,103 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveRequestDto;
+import org.egovframe.cloud.reservechecksevice.dataset.ReserveDatasetGenerator;
+import org.egovframe.cloud.reservechecksevice.jfr.ReserveFlightRecorder;
+import org.egovframe.cloud.reservechecksevice.metrics.ReserveStageMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveQueryBenchmark
+ * <p>
+ * 대량 데이터(ReserveDatasetGenerator)가 적재된 H2 에서 목록 건수, 기간별 예약 조회 비용 측정
+ * relation 조회(외부 서비스 호출)가 없는 쿼리만 대상으로 한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReserveQueryBenchmark {
+
+    /**
+     * 1.0 = 1,000,000 건
+     */
+    @Param({"0.01", "0.1"})
+    private double scale;
+
+    private H2ConnectionFactory connectionFactory;
+    private ReserveRepositoryImpl repository;
+    private ReserveRequestDto categoryRequest;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory("benchmark-" + scale)
+                .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+                .build());
+        ReserveDatasetGenerator generator = ReserveDatasetGenerator.builder(connectionFactory)
+                .scaleFactor(scale)
+                .build();
+        generator.createH2Schema().block();
+        generator.load().block();
+
+        repository = new ReserveRepositoryImpl(new R2dbcEntityTemplate(connectionFactory), null, null, null,
+                new ReserveStageMetrics(new SimpleMeterRegistry()), new ReserveFlightRecorder(false), null, null, null);
+
+        categoryRequest = new ReserveRequestDto();
+        new DirectFieldAccessor(categoryRequest).setPropertyValue("categoryId", "equipment");
+        to = LocalDateTime.now();
+        from = to.minusDays(30);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.close();
+    }
+
+    @Benchmark
+    public Long searchCount() {
+        return repository.searchCount(categoryRequest, PageRequest.of(0, 10)).block();
+    }
+
+    /**
+     * 인기 물품(1번)의 최근 30일 예약
+     */
+    @Benchmark
+    public List<Reserve> findAllByReserveDateHotItem() {
+        return repository.findAllByReserveDate(1L, from, to).collectList().block();
+    }
+}
@@ -0,0 +1,67 @@
+package org.egovframe.cloud.reservechecksevice.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.security.VerifiedTokenCacheBenchmark
+ * <p>
+ * 요청마다 JWT 서명을 검증하는 경우와 캐시를 거치는 경우의 요청당 비용 비교
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VerifiedTokenCacheBenchmark {
+
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setup() {
+        String secret = Base64.getEncoder().encodeToString(
+                "reserve-check-service-benchmark-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+        cache = new VerifiedTokenCache(secret, "authorities", 10_000, 3600);
+        token = Jwts.builder()
+                .setSubject("user")
+                .claim("authorities", "ROLE_USER")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+        cache.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyEveryRequest() {
+        return cache.parse(token, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cache.verify(token);
+    }
+}
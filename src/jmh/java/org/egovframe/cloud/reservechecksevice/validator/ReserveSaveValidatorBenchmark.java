@@ -0,0 +1,89 @@
+package org.egovframe.cloud.reservechecksevice.validator;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintValidatorContext;
+
+import org.egovframe.cloud.reservechecksevice.ReserveBenchmarkFixtures;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveSaveRequestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.validator.ReserveSaveValidatorBenchmark
+ * <p>
+ * reflection 기반 이전 validator 와 accessor 기반 validator 비교 (ReserveSaveRequestDto)
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReserveSaveValidatorBenchmark {
+
+    @Param({"education", "equipment", "place"})
+    private String categoryId;
+
+    private ReserveSaveRequestDto requestDto;
+    private ConstraintValidatorContext context;
+    private LegacyReserveSaveValidator legacyValidator;
+    private ReserveSaveValidator validator;
+
+    @Setup
+    public void setup() {
+        requestDto = ReserveBenchmarkFixtures.saveRequestDto(categoryId);
+        context = noopContext();
+        legacyValidator = new LegacyReserveSaveValidator();
+        validator = new ReserveSaveValidator();
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        return legacyValidator.isValid(requestDto, context);
+    }
+
+    @Benchmark
+    public boolean compiledAccessor() {
+        return validator.isValid(requestDto, context);
+    }
+
+    /**
+     * 위반 항목을 기록하지 않는 ConstraintValidatorContext
+     * builder 체인 호출은 모두 자기 자신 타입의 proxy 를 반환한다.
+     *
+     * @return
+     */
+    static ConstraintValidatorContext noopContext() {
+        return (ConstraintValidatorContext) noopProxy(ConstraintValidatorContext.class);
+    }
+
+    private static Object noopProxy(Class<?> type) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (returnType.isInterface()) {
+                return noopProxy(returnType);
+            }
+            if (returnType == boolean.class) {
+                return false;
+            }
+            return null;
+        });
+    }
+}
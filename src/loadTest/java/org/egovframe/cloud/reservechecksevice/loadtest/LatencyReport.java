@@ -0,0 +1,144 @@
+package org.egovframe.cloud.reservechecksevice.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.loadtest.LatencyReport
+ * <p>
+ * endpoint 별 응답 지연 histogram 과 처리량 집계
+ * 결과는 콘솔 표와 JSON 파일로 출력하여 빌드 간 비교할 수 있도록 한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class LatencyReport {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<LoadEndpoint, Histogram> histograms = new EnumMap<>(LoadEndpoint.class);
+    private final Map<LoadEndpoint, LongAdder> errors = new EnumMap<>(LoadEndpoint.class);
+
+    public LatencyReport() {
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(MAX_LATENCY_NANOS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * 요청 한건 기록
+     *
+     * @param endpoint
+     * @param latencyNanos
+     * @param success
+     */
+    public void record(LoadEndpoint endpoint, long latencyNanos, boolean success) {
+        histograms.get(endpoint).recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    /**
+     * endpoint 별 집계 결과
+     *
+     * @param elapsedSeconds 측정 구간(초)
+     * @return
+     */
+    public Map<String, Object> summary(double elapsedSeconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        long totalCount = 0;
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            totalCount += count;
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", count);
+            stats.put("errors", errors.get(endpoint).sum());
+            stats.put("throughputPerSec", round(count / elapsedSeconds));
+            stats.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            stats.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+            stats.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            stats.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+            stats.put("maxMs", millis(histogram.getMaxValue()));
+            result.put(endpoint.getKey(), stats);
+        }
+        Map<String, Object> total = new LinkedHashMap<>();
+        total.put("requests", totalCount);
+        total.put("throughputPerSec", round(totalCount / elapsedSeconds));
+        result.put("total", total);
+        return result;
+    }
+
+    /**
+     * 콘솔 출력
+     *
+     * @param elapsedSeconds
+     */
+    @SuppressWarnings("unchecked")
+    public void print(double elapsedSeconds) {
+        System.out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (Map.Entry<String, Object> entry : summary(elapsedSeconds).entrySet()) {
+            Map<String, Object> stats = (Map<String, Object>) entry.getValue();
+            if ("total".equals(entry.getKey())) {
+                System.out.printf("%-10s %10s %8s %10s%n", "total", stats.get("requests"), "", stats.get("throughputPerSec"));
+                continue;
+            }
+            System.out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n", entry.getKey(),
+                    stats.get("requests"), stats.get("errors"), stats.get("throughputPerSec"),
+                    stats.get("p50Ms"), stats.get("p90Ms"), stats.get("p99Ms"), stats.get("p999Ms"), stats.get("maxMs"));
+        }
+    }
+
+    /**
+     * JSON 파일 출력
+     *
+     * @param file
+     * @param settings 실행 조건
+     * @param elapsedSeconds
+     * @throws IOException
+     */
+    public void write(File file, Map<String, Object> settings, double elapsedSeconds) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("settings", settings);
+        document.put("endpoints", summary(elapsedSeconds));
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("cannot create directory " + parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, document);
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,114 @@
+package org.egovframe.cloud.reservechecksevice.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.loadtest.LoadEndpoint
+ * <p>
+ * 부하 테스트 대상 endpoint 와 요청 생성 방법
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public enum LoadEndpoint {
+
+    LIST("list") {
+        @Override
+        Mono<?> call(WebClient webClient, LoadTarget target) {
+            int page = ThreadLocalRandom.current().nextInt(10);
+            return webClient.get()
+                    .uri("/api/v1/reserves?page={page}&size=10", page)
+                    .header(HttpHeaders.AUTHORIZATION, target.getAdminAuthorization())
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    },
+    DETAIL("detail") {
+        @Override
+        Mono<?> call(WebClient webClient, LoadTarget target) {
+            return webClient.get()
+                    .uri("/api/v1/reserves/{reserveId}", target.randomReserveId())
+                    .header(HttpHeaders.AUTHORIZATION, target.getAdminAuthorization())
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    },
+    APPROVE("approve") {
+        @Override
+        Mono<?> call(WebClient webClient, LoadTarget target) {
+            return webClient.put()
+                    .uri("/api/v1/reserves/approve/{reserveId}", target.randomReserveId())
+                    .header(HttpHeaders.AUTHORIZATION, target.getAdminAuthorization())
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    },
+    CREATE("create") {
+        @Override
+        Mono<?> call(WebClient webClient, LoadTarget target) {
+            LocalDateTime start = LocalDateTime.now().plusDays(ThreadLocalRandom.current().nextInt(1, 60)).withNano(0);
+            Map<String, Object> body = new HashMap<>();
+            body.put("reserveItemId", target.randomReserveItemId());
+            body.put("categoryId", "equipment");
+            body.put("reserveQty", 1);
+            body.put("reservePurposeContent", "load test");
+            body.put("reserveStartDate", start);
+            body.put("reserveEndDate", start.plusHours(2));
+            body.put("reserveStatusId", "request");
+            body.put("userId", "loadtest-user");
+            body.put("userContactNo", "010-0000-0000");
+            body.put("userEmail", "loadtest@email.com");
+            return webClient.post()
+                    .uri("/api/v1/reserves")
+                    .header(HttpHeaders.AUTHORIZATION, target.getAdminAuthorization())
+                    .bodyValue(body)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    };
+
+    private final String key;
+
+    LoadEndpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 요청 한건 실행
+     *
+     * @param webClient
+     * @param target
+     * @return
+     */
+    abstract Mono<?> call(WebClient webClient, LoadTarget target);
+
+    public static LoadEndpoint of(String key) {
+        for (LoadEndpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("unknown endpoint : " + key);
+    }
+}
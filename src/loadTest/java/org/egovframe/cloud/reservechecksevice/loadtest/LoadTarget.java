@@ -0,0 +1,49 @@
+package org.egovframe.cloud.reservechecksevice.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.loadtest.LoadTarget
+ * <p>
+ * 부하 테스트 요청에 사용하는 대상 데이터 (적재된 예약 id 범위, 인증 토큰)
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Getter
+public class LoadTarget {
+
+    private final long reserveRows;
+    private final long reserveItemCount;
+    private final String adminAuthorization;
+
+    public LoadTarget(long reserveRows, long reserveItemCount, String adminToken) {
+        this.reserveRows = reserveRows;
+        this.reserveItemCount = reserveItemCount;
+        this.adminAuthorization = "Bearer " + adminToken;
+    }
+
+    /**
+     * 적재된 예약 id 중 임의 선택 (예약 id 는 1 ~ reserveRows 의 숫자 문자열)
+     *
+     * @return
+     */
+    public long randomReserveId() {
+        return ThreadLocalRandom.current().nextLong(1, reserveRows + 1);
+    }
+
+    public long randomReserveItemId() {
+        return ThreadLocalRandom.current().nextLong(1, reserveItemCount + 1);
+    }
+}
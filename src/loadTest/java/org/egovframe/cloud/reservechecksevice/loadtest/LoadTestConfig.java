@@ -0,0 +1,44 @@
+package org.egovframe.cloud.reservechecksevice.loadtest;
+
+import org.egovframe.cloud.reservechecksevice.dataset.ReserveDatasetGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.loadtest.LoadTestConfig
+ * <p>
+ * 부하 테스트 profile 설정 - in-memory H2 에 reserve, reserve_view, reserve_item_snapshot 테이블 생성
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      목록 조회 read model, 예약 물품 snapshot 테이블 생성 추가
+ * </pre>
+ */
+@Profile("loadtest")
+@Configuration
+public class LoadTestConfig {
+
+    @Bean
+    public ConnectionFactoryInitializer loadTestSchemaInitializer(ConnectionFactory connectionFactory) {
+        ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(connectionFactory);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(
+                new ClassPathResource(ReserveDatasetGenerator.SCHEMA_H2),
+                new ClassPathResource(ReserveDatasetGenerator.SCHEMA_READ_MODEL_H2)));
+        return initializer;
+    }
+}
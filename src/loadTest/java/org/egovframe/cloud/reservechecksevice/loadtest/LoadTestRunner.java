@@ -0,0 +1,165 @@
+package org.egovframe.cloud.reservechecksevice.loadtest;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.egovframe.cloud.common.domain.Role;
+import org.egovframe.cloud.reservechecksevice.ReserveCheckSeviceApplication;
+import org.egovframe.cloud.reservechecksevice.blockhound.BlockHoundInstaller;
+import org.egovframe.cloud.reservechecksevice.dataset.ReserveDatasetGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.loadtest.LoadTestRunner
+ * <p>
+ * 부하 테스트 harness
+ * user/reserve-item stub 서버를 띄우고 loadtest profile(H2 R2DBC)로 서비스를 실행한 뒤,
+ * 설정된 비율(list/detail/approve/create)로 요청을 발생시켜 endpoint 별 처리량과 지연 백분위를 출력한다.
+ *
+ * 실행 : ./gradlew loadTest -Pduration=60 -Pconcurrency=32 -Pmix=list:50,detail:30,approve:10,create:10
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      관리자 토큰 생성을 smoke test 와 공유
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private static final int RESERVE_ITEM_COUNT = 50;
+
+    public static void main(String[] args) throws Exception {
+        long durationSeconds = Long.getLong("loadtest.duration", 30);
+        long warmupSeconds = Long.getLong("loadtest.warmup", 10);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        double seedScale = Double.parseDouble(System.getProperty("loadtest.seedScale", "0.001"));
+        long stubLatencyMs = Long.getLong("loadtest.stubLatencyMs", 10);
+        double stubErrorRate = Double.parseDouble(System.getProperty("loadtest.stubErrorRate", "0"));
+        List<LoadEndpoint> mix = parseMix(System.getProperty("loadtest.mix", "list:50,detail:30,approve:10,create:10"));
+        File resultsFile = new File(System.getProperty("loadtest.resultsFile", "build/reports/loadtest/results.json"));
+
+        StubServiceServer stubServer = new StubServiceServer(Duration.ofMillis(stubLatencyMs), stubErrorRate);
+        stubServer.start();
+
+        System.setProperty("loadtest.stub.user-port", String.valueOf(stubServer.getUserPort()));
+        System.setProperty("loadtest.stub.item-port", String.valueOf(stubServer.getItemPort()));
+        System.setProperty("spring.cloud.config.enabled", "false");
+        System.setProperty("eureka.client.enabled", "false");
+
+        SpringApplication application = new SpringApplication(ReserveCheckSeviceApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        application.addListeners(new BlockHoundInstaller());
+        ConfigurableApplicationContext context = application.run(args);
+
+        try {
+            // 대량 데이터 생성기로 예약 적재 (scale 0.001 = 1,000 건)
+            ReserveDatasetGenerator generator = ReserveDatasetGenerator.builder(context.getBean(ConnectionFactory.class))
+                    .scaleFactor(seedScale)
+                    .itemCount(RESERVE_ITEM_COUNT)
+                    .userCount(1_000)
+                    .build();
+            long seedRows = generator.load().block();
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String adminToken = adminToken(context.getEnvironment().getProperty("token.secret"));
+            LoadTarget target = new LoadTarget(seedRows, generator.getItemCount(), adminToken);
+            WebClient webClient = WebClient.builder().baseUrl("http://localhost:" + port).build();
+
+            LatencyReport report = new LatencyReport();
+            long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long end = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+            Flux.range(0, concurrency)
+                    .flatMap(worker -> Mono.defer(() -> request(webClient, target, mix, report, measureStart))
+                            .repeat(() -> System.nanoTime() < end), concurrency)
+                    .blockLast();
+
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("durationSeconds", durationSeconds);
+            settings.put("warmupSeconds", warmupSeconds);
+            settings.put("concurrency", concurrency);
+            settings.put("seedScale", seedScale);
+            settings.put("seedRows", seedRows);
+            settings.put("stubLatencyMs", stubLatencyMs);
+            settings.put("stubErrorRate", stubErrorRate);
+            settings.put("mix", System.getProperty("loadtest.mix", "list:50,detail:30,approve:10,create:10"));
+
+            report.print(durationSeconds);
+            report.write(resultsFile, settings, durationSeconds);
+            System.out.println("results : " + resultsFile.getAbsolutePath());
+        } finally {
+            context.close();
+            stubServer.stop();
+        }
+    }
+
+    /**
+     * 비율에 따라 endpoint 하나를 골라 호출하고 측정 구간이면 지연을 기록
+     */
+    private static Mono<Boolean> request(WebClient webClient, LoadTarget target, List<LoadEndpoint> mix,
+                                         LatencyReport report, long measureStart) {
+        LoadEndpoint endpoint = mix.get(ThreadLocalRandom.current().nextInt(mix.size()));
+        long start = System.nanoTime();
+        return endpoint.call(webClient, target)
+                .thenReturn(true)
+                .onErrorReturn(false)
+                .doOnNext(success -> {
+                    if (start >= measureStart) {
+                        report.record(endpoint, System.nanoTime() - start, success);
+                    }
+                });
+    }
+
+    /**
+     * "list:50,detail:30" 형식의 비율을 가중치만큼 반복된 목록으로 변환
+     */
+    static List<LoadEndpoint> parseMix(String mix) {
+        List<LoadEndpoint> weighted = new ArrayList<>();
+        for (String token : mix.split(",")) {
+            String[] pair = token.trim().split(":");
+            LoadEndpoint endpoint = LoadEndpoint.of(pair[0].trim());
+            int weight = pair.length > 1 ? Integer.parseInt(pair[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("empty mix : " + mix);
+        }
+        return weighted;
+    }
+
+    /**
+     * loadtest profile 의 token.secret 으로 서명한 관리자 토큰
+     */
+    static String adminToken(String secret) {
+        return Jwts.builder()
+                .setSubject("loadtest-admin")
+                .claim("authorities", Role.ADMIN.getKey())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(2)))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+    }
+}
@@ -0,0 +1,76 @@
+package org.egovframe.cloud.reservechecksevice.loadtest;
+
+import org.egovframe.cloud.reservechecksevice.ReserveCheckSeviceApplication;
+import org.egovframe.cloud.reservechecksevice.dataset.ReserveDatasetGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestSmokeTest {
+
+    private StubServiceServer stubServer;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    public void setup() {
+        stubServer = new StubServiceServer(Duration.ZERO, 0);
+        stubServer.start();
+        System.setProperty("loadtest.stub.user-port", String.valueOf(stubServer.getUserPort()));
+        System.setProperty("loadtest.stub.item-port", String.valueOf(stubServer.getItemPort()));
+        System.setProperty("spring.cloud.config.enabled", "false");
+        System.setProperty("eureka.client.enabled", "false");
+
+        SpringApplication application = new SpringApplication(ReserveCheckSeviceApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        context = application.run();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+        stubServer.stop();
+        System.clearProperty("loadtest.stub.user-port");
+        System.clearProperty("loadtest.stub.item-port");
+        System.clearProperty("spring.cloud.config.enabled");
+        System.clearProperty("eureka.client.enabled");
+    }
+
+    @Test
+    public void loadtest_profile_로_기동하여_목록_조회_성공() {
+        Long rows = ReserveDatasetGenerator.builder(context.getBean(ConnectionFactory.class))
+                .scaleFactor(0.00002)
+                .itemCount(5)
+                .userCount(5)
+                .build()
+                .load()
+                .block();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String adminToken = LoadTestRunner.adminToken(context.getEnvironment().getProperty("token.secret"));
+
+        ResponseEntity<String> response = WebClient.builder().baseUrl("http://localhost:" + port).build()
+                .get()
+                .uri("/api/v1/reserves?page=0&size=10")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .retrieve()
+                .toEntity(String.class)
+                .block(Duration.ofSeconds(30));
+
+        assertThat(rows).isPositive();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"totalElements\":" + rows);
+    }
+}
@@ -0,0 +1,159 @@
+package org.egovframe.cloud.reservechecksevice.loadtest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.loadtest.StubServiceServer
+ * <p>
+ * user-service, reserve-item-service 를 대신하는 내장 stub HTTP 서버
+ * 응답 지연(latency)과 오류율(errorRate)을 설정할 수 있다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class StubServiceServer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Duration latency;
+    private final double errorRate;
+
+    private DisposableServer userServer;
+    private DisposableServer itemServer;
+
+    public StubServiceServer(Duration latency, double errorRate) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * user-service, reserve-item-service stub 서버 시작 (임의 포트)
+     */
+    public void start() {
+        userServer = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/api/v1/users/{userId}", (request, response) -> respond(response, user(request.param("userId")))))
+                .bindNow();
+
+        itemServer = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/api/v1/reserve-items/relations/{reserveItemId}",
+                                (request, response) -> respond(response, reserveItem(itemId(request), true)))
+                        .get("/api/v1/reserve-items/{reserveItemId}",
+                                (request, response) -> respond(response, reserveItem(itemId(request), false)))
+                        .put("/api/v1/reserve-items/{reserveItemId}/inventories",
+                                (request, response) -> respond(response, Boolean.TRUE)))
+                .bindNow();
+    }
+
+    public void stop() {
+        if (userServer != null) {
+            userServer.disposeNow();
+        }
+        if (itemServer != null) {
+            itemServer.disposeNow();
+        }
+    }
+
+    public int getUserPort() {
+        return userServer.port();
+    }
+
+    public int getItemPort() {
+        return itemServer.port();
+    }
+
+    /**
+     * 설정된 지연 후 응답, errorRate 확률로 500 응답
+     *
+     * @param response
+     * @param body
+     * @return
+     */
+    private Mono<Void> respond(HttpServerResponse response, Object body) {
+        Mono<Void> send = Mono.defer(() -> {
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                return response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send().then();
+            }
+            return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                    .sendByteArray(Mono.just(toJson(body)))
+                    .then();
+        });
+        return latency.isZero() ? send : Mono.delay(latency).then(send);
+    }
+
+    private static Long itemId(HttpServerRequest request) {
+        return Long.valueOf(request.param("reserveItemId"));
+    }
+
+    private static byte[] toJson(Object body) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> user(String userId) {
+        Map<String, Object> user = new HashMap<>();
+        user.put("userId", userId);
+        user.put("userName", "name-" + userId);
+        user.put("email", userId + "@email.com");
+        user.put("roleId", "ROLE_USER");
+        return user;
+    }
+
+    private static Map<String, Object> reserveItem(Long reserveItemId, boolean withRelations) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("reserveItemId", reserveItemId);
+        item.put("reserveItemName", "item-" + reserveItemId);
+        item.put("locationId", reserveItemId % 10);
+        item.put("categoryId", "equipment");
+        item.put("totalQty", 1_000_000);
+        item.put("inventoryQty", 1_000_000);
+        item.put("reserveMethodId", "internet");
+        item.put("reserveMeansId", "realtime");
+        item.put("operationStartDate", LocalDateTime.of(2000, 1, 1, 0, 0));
+        item.put("operationEndDate", LocalDateTime.of(2099, 12, 31, 23, 59));
+        item.put("requestStartDate", LocalDateTime.of(2000, 1, 1, 0, 0));
+        item.put("requestEndDate", LocalDateTime.of(2099, 12, 31, 23, 59));
+        if (withRelations) {
+            Map<String, Object> location = new HashMap<>();
+            location.put("locationId", reserveItemId % 10);
+            location.put("locationName", "location-" + (reserveItemId % 10));
+            item.put("location", location);
+            item.put("categoryName", "장비");
+        }
+        return item;
+    }
+}
@@ -0,0 +1,139 @@
+package org.egovframe.cloud.reservechecksevice.api.reserve;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.api.reserve.ConditionalGet
+ * <p>
+ * ETag 조건부 조회
+ * If-None-Match 가 현재 ETag 와 같으면 본문 조회 없이 304 로 응답하고, 다르면 ETag 와 함께 본문을 조회하여 응답한다.
+ * 응답은 저장하되 매번 재검증(no-cache)하도록 한다.
+ * ETag 는 응답 본문을 만드는 값이 모두 포함된 version 으로 만들어야 한다.
+ * 같은 본문도 Accept 에 따라 JSON/Smile 로 응답하므로 선택될 media type 을 ETag 에 포함하고 Vary: Accept 를 설정한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      단건 조건부 조회 제거
+ *  2026/10/19    shinmj      단건 조건부 조회 복원, 응답 media type 별 ETag 와 Vary: Accept 추가
+ * </pre>
+ */
+final class ConditionalGet {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /**
+     * 조건부 조회 응답으로 선택될 수 있는 media type (encoder 등록 순서 - Accept 가 없거나 모든 type 이면 JSON)
+     */
+    private static final List<MediaType> PRODUCIBLE = Arrays.asList(MediaType.APPLICATION_JSON, APPLICATION_SMILE);
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 단건 조건부 조회
+     *
+     * @param exchange
+     * @param eTag      응답 media type 별 ETag, 비어 있으면(대상 없음, version 을 알 수 없음) 본문 조회
+     * @param body
+     * @param cacheable false 인 본문(snapshot 등 대체 정보로 만든 응답)은 ETag 를 붙이지 않는다
+     * @param <T>
+     * @return
+     */
+    static <T> Mono<T> ifModified(ServerWebExchange exchange, Function<MediaType, Mono<String>> eTag,
+                                  Supplier<Mono<T>> body, Predicate<T> cacheable) {
+        return isNotModified(exchange, eTag)
+                .flatMap(notModified -> notModified ? Mono.<T>empty() : body.get()
+                        .doOnNext(value -> {
+                            if (!cacheable.test(value)) {
+                                exchange.getResponse().getHeaders().remove(HttpHeaders.ETAG);
+                            }
+                        }));
+    }
+
+    /**
+     * 단건 조건부 조회
+     *
+     * @param exchange
+     * @param eTag     응답 media type 별 ETag, 비어 있으면(대상 없음, version 을 알 수 없음) 본문 조회
+     * @param body
+     * @param <T>
+     * @return
+     */
+    static <T> Mono<T> ifModified(ServerWebExchange exchange, Function<MediaType, Mono<String>> eTag, Supplier<Mono<T>> body) {
+        return ifModified(exchange, eTag, body, value -> true);
+    }
+
+    /**
+     * 목록 조건부 조회
+     *
+     * @param exchange
+     * @param eTag     응답 media type 별 ETag, 비어 있으면(대상 없음) 본문 조회
+     * @param body
+     * @param <T>
+     * @return
+     */
+    static <T> Flux<T> ifModifiedMany(ServerWebExchange exchange, Function<MediaType, Mono<String>> eTag, Supplier<Flux<T>> body) {
+        return isNotModified(exchange, eTag)
+                .flatMapMany(notModified -> notModified ? Flux.<T>empty() : body.get());
+    }
+
+    private static Mono<Boolean> isNotModified(ServerWebExchange exchange, Function<MediaType, Mono<String>> eTag) {
+        exchange.getResponse().getHeaders().setVary(Arrays.asList(HttpHeaders.ACCEPT));
+        return eTag.apply(negotiate(exchange))
+                .map(value -> {
+                    exchange.getResponse().getHeaders().setCacheControl(CACHE_CONTROL);
+                    return exchange.checkNotModified(value);
+                })
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * 요청의 Accept 로 선택될 응답 media type
+     * WebFlux 와 같이 Accept 를 구체적인 순, quality 순으로 정렬하여 처음 호환되는 media type 을 선택한다.
+     * (잘못된 Accept 는 WebFlux 가 오류로 응답하므로 JSON 으로 본다)
+     *
+     * @param exchange
+     * @return
+     */
+    private static MediaType negotiate(ServerWebExchange exchange) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(exchange.getRequest().getHeaders().getAccept());
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType.sortBySpecificityAndQuality(acceptable);
+        for (MediaType mediaType : acceptable) {
+            for (MediaType producible : PRODUCIBLE) {
+                if (mediaType.isCompatibleWith(producible)) {
+                    return producible;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
@@ -3,15 +3,21 @@ package org.egovframe.cloud.reservechecksevice.api.reserve;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.*;
+import org.egovframe.cloud.reservechecksevice.event.ReserveChangeEvent;
 import org.egovframe.cloud.reservechecksevice.service.reserve.ReserveService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -32,38 +38,111 @@ import javax.validation.Valid;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/17    shinmj      최초 생성
+ *  2026/10/19    shinmj      관리자 예약 내려받기(NDJSON/CSV) 추가
+ *  2026/10/19    shinmj      예약 변경 event(SSE) 구독 추가
+ *  2026/10/19    shinmj      목록/한건/기간 조회 ETag 조건부 조회 적용
+ *  2026/10/19    shinmj      ETag 조건부 조회는 기간 조회만 적용
+ *  2026/10/19    shinmj      내려받기는 관리자 확인 후 응답 (관리자가 아니면 본문 없이 403)
+ *  2026/10/19    shinmj      목록/한건 조회 ETag 조건부 조회 복원 (read model version 포함)
  * </pre>
  */
 @RequiredArgsConstructor
 @RestController
 public class ReserveApiController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final ReserveService reserveService;
 
     /**
      * 예약 확인(신청) 목록 조회
      * 관리자인 경우 모두 조회
+     * If-None-Match 가 조회조건/page 의 ETag 와 같으면 304
      *
      * @param requestDto
      * @param page
      * @param size
+     * @param exchange
      * @return
      */
     @GetMapping("/api/v1/reserves")
     @ResponseStatus(HttpStatus.OK)
     public Mono<Page<ReserveListResponseDto>> search(ReserveRequestDto requestDto,
                                                      @RequestParam(name = "page") int page,
-                                                     @RequestParam(name = "size") int size) {
-        return reserveService.search(requestDto, PageRequest.of(page, size));
+                                                     @RequestParam(name = "size") int size,
+                                                     ServerWebExchange exchange) {
+        PageRequest pageable = PageRequest.of(page, size);
+        return ConditionalGet.ifModified(exchange,
+                mediaType -> reserveService.searchETag(requestDto, pageable, null, mediaType),
+                () -> reserveService.search(requestDto, pageable));
+    }
+
+    /**
+     * 예약 변경 event 구독 (SSE)
+     * 목록/상세 화면을 주기적으로 다시 조회하는 대신 예약 신청/수정/승인/취소를 push 로 받는다.
+     * 사용자는 본인 예약만 받고, 관리자는 userId 로 예약자를 지정할 수 있다.
+     *
+     * @param userId
+     * @param reserveItemId
+     * @return
+     */
+    @GetMapping(value = "/api/v1/reserves/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ReserveChangeEvent>> events(@RequestParam(name = "userId", required = false) String userId,
+                                                            @RequestParam(name = "reserveItemId", required = false) Long reserveItemId) {
+        return reserveService.subscribeChanges(userId, reserveItemId);
+    }
+
+    /**
+     * 관리자 예약 내려받기 (NDJSON, 한 줄에 예약 한건)
+     * 목록 조회와 같은 조회조건의 전체 예약을 page 없이 내려준다.
+     * 관리자가 아니면 본문 없이 403 을 반환한다.
+     *
+     * @param requestDto
+     * @param relations  true 이면 예약자/예약 물품 정보 포함
+     * @return
+     */
+    @GetMapping(value = "/api/v1/reserves/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<ReserveExportDto>>> export(ReserveRequestDto requestDto,
+                                                               @RequestParam(name = "relations", defaultValue = "false") boolean relations) {
+        return reserveService.canExport()
+                .map(allowed -> allowed
+                        ? ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .body(reserveService.export(requestDto, relations))
+                        : ResponseEntity.status(HttpStatus.FORBIDDEN).<Flux<ReserveExportDto>>build());
+    }
+
+    /**
+     * 관리자 예약 내려받기 (CSV 파일)
+     * 권한 확인 후 header 행과 예약 행을 내려주고, 관리자가 아니면 본문 없이 403 을 반환한다.
+     *
+     * @param requestDto
+     * @param relations  true 이면 예약자/예약 물품 정보 포함
+     * @return
+     */
+    @GetMapping(value = "/api/v1/reserves/export", params = "format=csv", produces = "text/csv")
+    public Mono<ResponseEntity<Flux<String>>> exportCsv(ReserveRequestDto requestDto,
+                                                        @RequestParam(name = "relations", defaultValue = "false") boolean relations) {
+        return reserveService.canExport()
+                .map(allowed -> allowed
+                        ? ResponseEntity.ok()
+                                .contentType(TEXT_CSV)
+                                .headers(headers -> headers.setContentDisposition(
+                                        ContentDisposition.attachment().filename("reserves.csv").build()))
+                                .body(Flux.concat(Flux.just(ReserveExportDto.CSV_HEADER),
+                                        reserveService.export(requestDto, relations).map(ReserveExportDto::toCsvLine)))
+                        : ResponseEntity.status(HttpStatus.FORBIDDEN).<Flux<String>>build());
     }
 
     /**
      * 사용자별 예약 목록 조회
+     * If-None-Match 가 조회조건/page 의 ETag 와 같으면 304
      *
      * @param userId
      * @param requestDto
      * @param page
      * @param size
+     * @param exchange
      * @return
      */
     @GetMapping("/api/v1/{userId}/reserves")
@@ -71,20 +150,30 @@ public class ReserveApiController {
     public Mono<Page<ReserveListResponseDto>> searchForUser(@PathVariable String userId,
                                                             ReserveRequestDto requestDto,
                                                             @RequestParam(name = "page") int page,
-                                                            @RequestParam(name = "size") int size) {
-        return reserveService.searchForUser(userId, requestDto, PageRequest.of(page, size));
+                                                            @RequestParam(name = "size") int size,
+                                                            ServerWebExchange exchange) {
+        PageRequest pageable = PageRequest.of(page, size);
+        return ConditionalGet.ifModified(exchange,
+                mediaType -> reserveService.searchETag(requestDto, pageable, userId, mediaType),
+                () -> reserveService.searchForUser(userId, requestDto, pageable));
     }
 
     /**
      * 예약 한건 조회
+     * If-None-Match 가 ETag 와 같으면 예약자/예약 물품 정보를 조회하지 않고 304
+     * 예약 물품 snapshot 을 사용했거나 예약자/예약 물품 정보를 조회하지 못한 응답에는 ETag 를 붙이지 않는다.
      *
      * @param reserveId
+     * @param exchange
      * @return
      */
     @GetMapping("/api/v1/reserves/{reserveId}")
     @ResponseStatus(HttpStatus.OK)
-    public Mono<ReserveResponseDto> findById(@PathVariable Long reserveId) {
-        return reserveService.findReserveById(reserveId);
+    public Mono<ReserveResponseDto> findById(@PathVariable Long reserveId, ServerWebExchange exchange) {
+        return ConditionalGet.ifModified(exchange,
+                mediaType -> reserveService.findReserveETag(reserveId, mediaType),
+                () -> reserveService.findReserveById(reserveId),
+                ReserveResponseDto::isRelationsCurrent);
     }
 
     /**
@@ -139,14 +228,20 @@ public class ReserveApiController {
 
     /**
      * 예약물품 별 조회기간 내 예약 목록 조회
+     * If-None-Match 가 예약 물품의 ETag 와 같으면 304
+     * 응답이 reserve 컬럼으로만 만들어지므로 reserve 의 version 으로 ETag 를 만든다.
      *
      * @param reserveItemId
      * @param requestDto
+     * @param exchange
      * @return
      */
     @GetMapping("/api/v1/reserves/{reserveItemId}/dates")
     @ResponseStatus(HttpStatus.OK)
-    public Flux<ReserveCountResponseDto> findAllByReserveDate(@PathVariable Long reserveItemId, ReserveCountRequestDto requestDto) {
-        return reserveService.findAllByReserveDate(reserveItemId, requestDto);
+    public Flux<ReserveCountResponseDto> findAllByReserveDate(@PathVariable Long reserveItemId, ReserveCountRequestDto requestDto,
+                                                              ServerWebExchange exchange) {
+        return ConditionalGet.ifModifiedMany(exchange,
+                mediaType -> reserveService.findAllByReserveDateETag(reserveItemId, requestDto, mediaType),
+                () -> reserveService.findAllByReserveDate(reserveItemId, requestDto));
     }
 }
@@ -0,0 +1,79 @@
+package org.egovframe.cloud.reservechecksevice.api.reserve;
+
+import java.util.List;
+
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveCountRequestDto;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveCountResponseDto;
+import org.egovframe.cloud.reservechecksevice.event.ReserveChangePublisher;
+import org.egovframe.cloud.reservechecksevice.service.reserve.ReserveService;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.api.reserve.ReserveRSocketController
+ * <p>
+ * 예약 물품별 조회기간 내 예약 목록 RSocket 조회 (/rsocket websocket)
+ * 예약 물품 서비스, 달력 화면처럼 자주 조회하는 내부 호출이 하나의 연결에서 여러 조회를 동시에 보낼 수 있다.
+ * - request-response : reserves.{reserveItemId}.dates
+ * - request-stream   : reserves.{reserveItemId}.dates.stream (현재 목록 이후 해당 물품 예약이 변경될 때마다 목록)
+ * 응답은 /api/v1/reserves/{reserveItemId}/dates 와 같다.
+ * 요청마다 metadata(message/x.rsocket.authentication.bearer.v0)에 JWT 를 보내야 한다. (RSocketSecurityConfig)
+ * request-stream 은 rabbit 으로 전파된 다른 서버의 예약 변경도 받는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      요청 JWT 인증 추가
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Controller
+public class ReserveRSocketController {
+
+    private final ReserveService reserveService;
+    private final ReserveChangePublisher changePublisher;
+
+    /**
+     * 예약물품 별 조회기간 내 예약 목록 조회
+     *
+     * @param reserveItemId
+     * @param requestDto
+     * @return
+     */
+    @MessageMapping("reserves.{reserveItemId}.dates")
+    public Mono<List<ReserveCountResponseDto>> findAllByReserveDate(@DestinationVariable Long reserveItemId,
+                                                                    ReserveCountRequestDto requestDto) {
+        return reserveService.findAllByReserveDate(reserveItemId, requestDto).collectList();
+    }
+
+    /**
+     * 예약물품 별 조회기간 내 예약 목록 구독
+     * 첫 조회 전에 변경 event 를 구독하므로 첫 조회 중의 변경도 놓치지 않고,
+     * 조회 중에 들어온 event 는 마지막 한건으로 합쳐 한번만 다시 조회한다.
+     *
+     * @param reserveItemId
+     * @param requestDto
+     * @return
+     */
+    @MessageMapping("reserves.{reserveItemId}.dates.stream")
+    public Flux<List<ReserveCountResponseDto>> streamAllByReserveDate(@DestinationVariable Long reserveItemId,
+                                                                      ReserveCountRequestDto requestDto) {
+        return changePublisher.changes(null, reserveItemId)
+                .map(event -> reserveItemId)
+                .startWith(reserveItemId)
+                .onBackpressureLatest()
+                .concatMap(changed -> findAllByReserveDate(reserveItemId, requestDto), 1);
+    }
+}
@@ -0,0 +1,134 @@
+package org.egovframe.cloud.reservechecksevice.api.reserve.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveItem;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveExportDto
+ * <p>
+ * 관리자 예약 내려받기(NDJSON/CSV) 한 행
+ * 예약자/예약 물품 정보는 relation 을 함께 조회한 경우에만 채워진다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class ReserveExportDto {
+
+    /**
+     * CSV header (엑셀에서 UTF-8 로 열리도록 BOM 포함)
+     */
+    public static final String CSV_HEADER = "\uFEFF"
+            + "reserveId,reserveItemId,reserveItemName,locationId,locationName,categoryId,categoryName,"
+            + "reserveQty,reserveStartDate,reserveEndDate,reserveStatusId,userId,userName,createDate\n";
+
+    private String reserveId;
+    private Long reserveItemId;
+    private String reserveItemName;
+    private Long locationId;
+    private String locationName;
+    private String categoryId;
+    private String categoryName;
+    private Integer reserveQty;
+    private LocalDateTime reserveStartDate;
+    private LocalDateTime reserveEndDate;
+    private String reserveStatusId;
+    private String userId;
+    private String userName;
+    private LocalDateTime createDate;
+
+    public ReserveExportDto(Reserve entity) {
+        this.reserveId = entity.getReserveId();
+        this.reserveItemId = entity.getReserveItemId();
+        this.locationId = entity.getLocationId();
+        this.categoryId = entity.getCategoryId();
+        this.reserveQty = entity.getReserveQty();
+        this.reserveStartDate = entity.getReserveStartDate();
+        this.reserveEndDate = entity.getReserveEndDate();
+        this.reserveStatusId = entity.getReserveStatusId();
+        this.userId = entity.getUserId();
+        this.createDate = entity.getCreateDate();
+
+        ReserveItem reserveItem = entity.getReserveItem();
+        if (reserveItem != null) {
+            this.reserveItemName = reserveItem.getReserveItemName();
+            this.locationId = reserveItem.getLocationId();
+            this.locationName = reserveItem.getLocation() != null ? reserveItem.getLocation().getLocationName() : null;
+            this.categoryId = reserveItem.getCategoryId();
+            this.categoryName = reserveItem.getCategoryName();
+        }
+        if (entity.getUser() != null) {
+            this.userName = entity.getUser().getUserName();
+        }
+    }
+
+    /**
+     * CSV 한 행
+     *
+     * @return
+     */
+    public String toCsvLine() {
+        StringBuilder line = new StringBuilder(256);
+        append(line, reserveId).append(',');
+        append(line, reserveItemId).append(',');
+        append(line, reserveItemName).append(',');
+        append(line, locationId).append(',');
+        append(line, locationName).append(',');
+        append(line, categoryId).append(',');
+        append(line, categoryName).append(',');
+        append(line, reserveQty).append(',');
+        append(line, reserveStartDate).append(',');
+        append(line, reserveEndDate).append(',');
+        append(line, reserveStatusId).append(',');
+        append(line, userId).append(',');
+        append(line, userName).append(',');
+        append(line, createDate).append('\n');
+        return line.toString();
+    }
+
+    private static StringBuilder append(StringBuilder line, Object value) {
+        if (value == null) {
+            return line;
+        }
+        if (value instanceof LocalDateTime) {
+            return line.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) value));
+        }
+        if (value instanceof Number) {
+            return line.append(value);
+        }
+        return appendText(line, value.toString());
+    }
+
+    /**
+     * 문자열 값
+     * 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 스프레드시트 수식으로 해석되는 값(=,+,-,@ 시작)은 앞에 ' 를 붙인다.
+     *
+     * @param line
+     * @param text
+     * @return
+     */
+    private static StringBuilder appendText(StringBuilder line, String text) {
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return line.append(text);
+        }
+        return line.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -4,7 +4,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveItem;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveListRow;
 
 import java.time.LocalDateTime;
 
@@ -23,6 +24,8 @@ import java.time.LocalDateTime;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/17    shinmj      최초 생성
+ *  2026/10/19    shinmj      예약 물품 snapshot 사용 여부 추가, 예약 물품/예약자 정보가 없는 경우 처리
+ *  2026/10/19    shinmj      Reserve entity 대신 목록 행(ReserveListRow)에서 변환
  * </pre>
  */
 @Getter
@@ -37,6 +40,8 @@ public class ReserveListResponseDto {
     private Long reserveItemId;
     private String reserveItemName;
     private Integer inventoryQty;
+    private boolean reserveItemStale;   // 예약 물품 서비스 장애로 마지막으로 조회한 정보(snapshot)를 표시하는 경우 true
+    private LocalDateTime reserveItemSnapshotDate;
 
     private String userId;
     private String userName;
@@ -45,17 +50,22 @@ public class ReserveListResponseDto {
     private LocalDateTime createDate;
 
     @Builder
-    public ReserveListResponseDto(Reserve entity) {
-        this.reserveId = entity.getReserveId();
-        this.locationId = entity.getReserveItem().getLocationId();
-        this.categoryId = entity.getReserveItem().getCategoryId();
-        this.reserveItemId = entity.getReserveItemId();
-        this.reserveItemName = entity.getReserveItem().getReserveItemName();
-        this.inventoryQty = entity.getReserveItem().getInventoryQty();
-        this.userId = entity.getUserId();
-        this.userName = entity.getUser().getUserName();
-        this.reserveStatusId = entity.getReserveStatusId();
-        this.createDate = entity.getCreateDate();
+    public ReserveListResponseDto(ReserveListRow row) {
+        this.reserveId = row.getReserveId();
+        this.reserveItemId = row.getReserveItemId();
+        ReserveItem reserveItem = row.getReserveItem();
+        if (reserveItem != null) {
+            this.locationId = reserveItem.getLocationId();
+            this.categoryId = reserveItem.getCategoryId();
+            this.reserveItemName = reserveItem.getReserveItemName();
+            this.inventoryQty = reserveItem.getInventoryQty();
+            this.reserveItemStale = reserveItem.isStale();
+            this.reserveItemSnapshotDate = reserveItem.getSnapshotDate();
+        }
+        this.userId = row.getUserId();
+        this.userName = row.getUser() != null ? row.getUser().getUserName() : null;
+        this.reserveStatusId = row.getReserveStatusId();
+        this.createDate = row.getCreateDate();
     }
 
 }
@@ -1,5 +1,6 @@
 package org.egovframe.cloud.reservechecksevice.api.reserve.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,6 +26,8 @@ import java.time.LocalDateTime;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/17    shinmj      최초 생성
+ *  2026/10/19    shinmj      예약 물품 snapshot 사용 여부 추가, 예약 물품/예약자 정보가 없는 경우 처리
+ *  2026/10/19    shinmj      예약 물품/예약자 정보를 서비스에서 조회했는지 여부 추가
  * </pre>
  */
 @Getter
@@ -36,6 +39,8 @@ public class ReserveResponseDto {
 
     private Long reserveItemId;
     private ReserveItemRelationResponseDto reserveItem;
+    private boolean reserveItemStale;   // 예약 물품 서비스 장애로 마지막으로 조회한 정보(snapshot)를 표시하는 경우 true
+    private LocalDateTime reserveItemSnapshotDate;
 
     private Integer reserveQty;
     private LocalDateTime reserveStartDate;
@@ -48,19 +53,27 @@ public class ReserveResponseDto {
     private String userContactNo;
     private String userEmail;
 
+    @JsonIgnore
+    private boolean relationsCurrent;   // 예약 물품/예약자 정보를 모두 서비스에서 조회한 경우 true (snapshot 이나 조회 실패가 아니면 ETag 사용)
+
     @Builder
     public ReserveResponseDto(Reserve entity) {
         this.reserveId = entity.getReserveId();
         this.reserveItemId = entity.getReserveItemId();
-        this.reserveItem = ReserveItemRelationResponseDto.builder().entity(entity.getReserveItem()).build();
+        if (entity.getReserveItem() != null) {
+            this.reserveItem = ReserveItemRelationResponseDto.builder().entity(entity.getReserveItem()).build();
+            this.reserveItemStale = entity.getReserveItem().isStale();
+            this.reserveItemSnapshotDate = entity.getReserveItem().getSnapshotDate();
+        }
         this.reserveQty = entity.getReserveQty();
         this.reserveStartDate = entity.getReserveStartDate();
         this.reserveEndDate = entity.getReserveEndDate();
         this.reservePurposeContent = entity.getReservePurposeContent();
         this.attachmentCode = entity.getAttachmentCode();
         this.userId = entity.getUserId();
-        this.userName = entity.getUser().getUserName();
+        this.userName = entity.getUser() != null ? entity.getUser().getUserName() : null;
         this.userContactNo = entity.getUserContactNo();
         this.userEmail = entity.getUserEmail();
+        this.relationsCurrent = entity.getUser() != null && entity.getReserveItem() != null && !entity.getReserveItem().isStale();
     }
 }
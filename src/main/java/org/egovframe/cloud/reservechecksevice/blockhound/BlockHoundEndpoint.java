@@ -0,0 +1,54 @@
+package org.egovframe.cloud.reservechecksevice.blockhound;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.blockhound.BlockHoundEndpoint
+ * <p>
+ * 감지된 blocking 호출 집계를 조회/초기화하는 actuator endpoint (/actuator/blockhound)
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Component
+@Endpoint(id = "blockhound")
+public class BlockHoundEndpoint {
+
+    @ReadOperation
+    public Map<String, Object> violations() {
+        List<BlockingCallRegistry.Violation> violations = BlockingCallRegistry.violations();
+        long total = 0;
+        for (BlockingCallRegistry.Violation violation : violations) {
+            total += violation.getCount();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", BlockingCallRegistry.getMode());
+        result.put("fingerprints", violations.size());
+        result.put("total", total);
+        result.put("overflow", BlockingCallRegistry.overflow());
+        result.put("violations", violations);
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        BlockingCallRegistry.reset();
+    }
+}
@@ -0,0 +1,78 @@
+package org.egovframe.cloud.reservechecksevice.blockhound;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.context.ApplicationListener;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.blockhound.BlockHound;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.blockhound.BlockHoundInstaller
+ * <p>
+ * reserve.blockhound.mode 설정(off/report/fail)에 따라 BlockHound 를 설치하는 listener
+ * config server 와 profile 별 설정이 반영된 뒤, bean 이 생성되기 전에 설치하기 위해 ApplicationContextInitializedEvent 를 사용한다.
+ * report 모드는 blocking 호출을 BlockingCallRegistry 에 기록만 하고 요청은 그대로 진행시킨다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Slf4j
+public class BlockHoundInstaller implements ApplicationListener<ApplicationContextInitializedEvent> {
+
+    public static final String MODE_PROPERTY = "reserve.blockhound.mode";
+
+    // BlockHound 는 JVM 당 한번만 설치할 수 있다
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+
+    @Override
+    public void onApplicationEvent(ApplicationContextInitializedEvent event) {
+        BlockHoundMode mode = BlockHoundMode.from(
+                event.getApplicationContext().getEnvironment().getProperty(MODE_PROPERTY));
+        install(mode);
+    }
+
+    /**
+     * BlockHound 설치
+     *
+     * @param mode
+     */
+    public static void install(BlockHoundMode mode) {
+        if (mode == BlockHoundMode.OFF || !INSTALLED.compareAndSet(false, true)) {
+            return;
+        }
+
+        //blocking 코드 감지
+        BlockHound.Builder builder = BlockHound.builder()
+                //mysql r2dbc 에서 호출되는 FileInputStream.readBytes() 가 블로킹코드인데 이를 허용해주도록 한다.
+                //해당 코드가 어디서 호출되는지 알지 못하는 상태에서 FileInputStream.readBytes() 자체를 허용해주는 것은 좋지 않다.
+                // 누군가 무분별하게 사용하게 되면 검출해 낼 수 없어 시스템의 위험요소로 남게 된다.
+                // r2dbc를 사용하기 위해 해당 호출부분만 허용하고 나머지는 여전히 검출대상으로 남기도록 한다.
+                .allowBlockingCallsInside("dev.miku.r2dbc.mysql.client.ReactorNettyClient", "init");
+
+        if (mode == BlockHoundMode.REPORT) {
+            builder.blockingMethodCallback(method ->
+                    BlockingCallRegistry.record(method.toString(), new Exception().getStackTrace()));
+        } else {
+            builder.blockingMethodCallback(method -> {
+                Error error = new Error("Blocking call! " + method);
+                BlockingCallRegistry.record(method.toString(), error.getStackTrace());
+                throw error;
+            });
+        }
+
+        builder.install();
+        BlockingCallRegistry.setMode(mode);
+        log.info("BlockHound installed : mode={}", mode);
+    }
+}
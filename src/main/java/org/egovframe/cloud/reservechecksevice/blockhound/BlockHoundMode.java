@@ -0,0 +1,54 @@
+package org.egovframe.cloud.reservechecksevice.blockhound;
+
+import java.util.Locale;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.blockhound.BlockHoundMode
+ * <p>
+ * BlockHound 설치 모드 (reserve.blockhound.mode)
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public enum BlockHoundMode {
+
+    /**
+     * 설치하지 않음 (bytecode instrumentation 비용 없음)
+     */
+    OFF,
+    /**
+     * 설치하고 blocking 호출은 기록만 한다
+     */
+    REPORT,
+    /**
+     * 설치하고 blocking 호출시 오류를 발생시킨다 (기존 동작)
+     */
+    FAIL;
+
+    /**
+     * 설정값 변환
+     * yaml 에서 따옴표 없이 off 를 쓰면 boolean false 로 읽히므로 false 도 OFF 로 처리한다.
+     *
+     * @param value
+     * @return
+     */
+    public static BlockHoundMode from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return OFF;
+        }
+        String mode = value.trim().toUpperCase(Locale.ROOT);
+        if ("FALSE".equals(mode)) {
+            return OFF;
+        }
+        return valueOf(mode);
+    }
+}
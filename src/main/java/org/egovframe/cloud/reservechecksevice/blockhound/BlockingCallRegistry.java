@@ -0,0 +1,152 @@
+package org.egovframe.cloud.reservechecksevice.blockhound;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.blockhound.BlockingCallRegistry
+ * <p>
+ * BlockHound 가 감지한 blocking 호출을 stack fingerprint 별로 집계한다.
+ * BlockHound 는 spring context 생성 전에 설치되므로 bean 이 아닌 static 저장소로 둔다.
+ * fingerprint 는 blocking method 와 BlockHound 내부 frame 을 제외한 상위 stack frame 으로 만든다.
+ * 기록은 blocking 이 감지된 thread 에서 실행되므로 logging 등 I/O 를 하지 않는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public final class BlockingCallRegistry {
+
+    // fingerprint 에 사용하는 stack frame 수
+    static final int FINGERPRINT_DEPTH = 12;
+    // 보관하는 fingerprint 최대 개수 (초과분은 overflow 로만 집계)
+    static final int MAX_FINGERPRINTS = 500;
+
+    private static final Map<String, Violation> VIOLATIONS = new ConcurrentHashMap<>();
+    private static final AtomicLong OVERFLOW = new AtomicLong();
+    private static volatile BlockHoundMode mode = BlockHoundMode.OFF;
+
+    private BlockingCallRegistry() {
+    }
+
+    static void setMode(BlockHoundMode blockHoundMode) {
+        mode = blockHoundMode;
+    }
+
+    public static BlockHoundMode getMode() {
+        return mode;
+    }
+
+    /**
+     * blocking 호출 기록
+     *
+     * @param blockingMethod
+     * @param stackTrace
+     */
+    public static void record(String blockingMethod, StackTraceElement[] stackTrace) {
+        List<String> frames = frames(stackTrace);
+        String key = blockingMethod + '|' + String.join("|", frames);
+        Violation violation = VIOLATIONS.get(key);
+        if (violation == null) {
+            if (VIOLATIONS.size() >= MAX_FINGERPRINTS) {
+                OVERFLOW.incrementAndGet();
+                return;
+            }
+            Violation created = new Violation(Integer.toHexString(key.hashCode()), blockingMethod, frames,
+                    Thread.currentThread().getName());
+            violation = VIOLATIONS.putIfAbsent(key, created);
+            if (violation == null) {
+                violation = created;
+            }
+        }
+        violation.hit();
+    }
+
+    /**
+     * fingerprint 별 집계 (발생 건수 내림차순)
+     *
+     * @return
+     */
+    public static List<Violation> violations() {
+        List<Violation> list = new ArrayList<>(VIOLATIONS.values());
+        list.sort(Comparator.comparingLong(Violation::getCount).reversed());
+        return list;
+    }
+
+    public static long overflow() {
+        return OVERFLOW.get();
+    }
+
+    public static void reset() {
+        VIOLATIONS.clear();
+        OVERFLOW.set(0);
+    }
+
+    private static List<String> frames(StackTraceElement[] stackTrace) {
+        if (stackTrace == null) {
+            return Collections.emptyList();
+        }
+        List<String> frames = new ArrayList<>(FINGERPRINT_DEPTH);
+        for (StackTraceElement element : Arrays.asList(stackTrace)) {
+            String className = element.getClassName();
+            if (className.startsWith("reactor.blockhound.")
+                    || className.startsWith(BlockingCallRegistry.class.getPackage().getName())
+                    || className.equals(Thread.class.getName())) {
+                continue;
+            }
+            frames.add(element.toString());
+            if (frames.size() == FINGERPRINT_DEPTH) {
+                break;
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * fingerprint 한건의 집계
+     */
+    @Getter
+    public static class Violation {
+        private final String fingerprint;
+        private final String method;
+        private final List<String> stack;
+        private final String thread;
+        private final long firstSeen = System.currentTimeMillis();
+        private volatile long lastSeen;
+        @Getter(AccessLevel.NONE)
+        private final AtomicLong counter = new AtomicLong();
+
+        Violation(String fingerprint, String method, List<String> stack, String thread) {
+            this.fingerprint = fingerprint;
+            this.method = method;
+            this.stack = Collections.unmodifiableList(stack);
+            this.thread = thread;
+        }
+
+        void hit() {
+            counter.incrementAndGet();
+            lastSeen = System.currentTimeMillis();
+        }
+
+        public long getCount() {
+            return counter.get();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.egovframe.cloud.reservechecksevice.cache;
+
+import java.util.function.Consumer;
+
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.cache.ReserveCacheInvalidationListener
+ * <p>
+ * 다른 서버에서 보낸 예약 near cache 무효화 수신 (binding: reserveCacheInvalidation-in-0)
+ * consumer group 없이 구독하여 서버마다 자기 queue 로 모든 message 를 받는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component("reserveCacheInvalidation")
+public class ReserveCacheInvalidationListener implements Consumer<Message<String>> {
+
+    private final ReserveNearCache reserveNearCache;
+
+    @Override
+    public void accept(Message<String> message) {
+        reserveNearCache.onInvalidation(message);
+    }
+}
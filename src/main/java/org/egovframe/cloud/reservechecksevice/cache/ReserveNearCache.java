@@ -0,0 +1,201 @@
+package org.egovframe.cloud.reservechecksevice.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveVersion;
+import org.egovframe.cloud.reservechecksevice.r2dbc.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.cache.ReserveNearCache
+ * <p>
+ * 서버(node)별 예약 entity near cache
+ * 예약을 조회할 때 전체 컬럼 대신 version(수정일, 상태, 예약 물품 version)만 조회하고, cache 의 version 과 같으면 cache 값을 사용한다.
+ * - version 이 다르거나 없으면 DB 에서 조회한다. version 과 cache 값은 같은 connection 에서 조회하므로 replica 지연, 다른 서버나
+ *   다른 서비스의 변경이 있어도 version 이 같을 때만 cache 값을 사용한다. (다른 서비스가 같은 초 안에 상태 외 컬럼만 바꾼 경우는 제외)
+ * - cache 는 primary 조회(승인/취소/수정 transaction 의 조회)와 이 서버에서 저장(commit)한 값으로 채운다.
+ *   readOnly 조회(replica)는 cache 를 사용만 하고 채우지 않는다.
+ * - 크기는 entity 수가 아닌 추정 메모리(max-memory)로 제한하고, 적중률 metric(cache.gets, cache.evictions 등, cache=reserve)을 기록한다.
+ * - 저장시(write-through) commit 이후 저장된 값으로 갱신하고, 다른 서버에는 rabbit(reserve-cache-invalidation)으로 무효화를 전파한다.
+ *   (무효화 전송에 실패해도 다른 서버는 version 확인으로 DB 에서 다시 조회한다)
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      조회 결과로 cache 를 채우지 않고 commit 된 저장 값만 사용
+ *  2026/10/19    shinmj      DB version 이 같을 때만 사용, primary 조회 결과로 cache 채움
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReserveNearCache {
+
+    public static final String CACHE_NAME = "reserve";
+    public static final String INVALIDATION_OUTPUT = "reserveCacheInvalidation-out-0";
+    public static final String ORIGIN_HEADER = "reserve-cache-origin";
+
+    /**
+     * 무효화 message 를 보낸 서버 - 자신이 보낸 message 는 무시한다
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final boolean enabled;
+    private final R2dbcConverter converter;
+    private final StreamBridge streamBridge;
+    private final Cache<String, ReserveSnapshot> cache;
+
+    public ReserveNearCache(R2dbcEntityTemplate entityTemplate,
+                            StreamBridge streamBridge,
+                            MeterRegistry meterRegistry,
+                            @Value("${reserve.cache.enabled:true}") boolean enabled,
+                            @Value("${reserve.cache.max-memory-bytes:33554432}") long maxMemoryBytes,
+                            @Value("${reserve.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.converter = entityTemplate.getConverter();
+        this.streamBridge = streamBridge;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemoryBytes)
+                .weigher((String reserveId, ReserveSnapshot snapshot) -> snapshot.getWeight())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * cache 의 version 이 DB 의 현재 version 과 같으면 cache 에서, 아니면 loader 로 조회 (loader 의 결과는 cache 에 저장하지 않는다)
+     * readOnly(replica 로 갈 수 있는) 조회에 사용한다.
+     * 매번 새 entity 를 반환하므로 호출한 쪽에서 변경해도 cache 에 영향이 없다.
+     *
+     * @param reserveId
+     * @param version   DB 의 현재 version, 없으면(예약 없음) loader 로 조회
+     * @param loader
+     * @return
+     */
+    public Mono<Reserve> get(String reserveId, Mono<ReserveVersion> version, Mono<Reserve> loader) {
+        return get(reserveId, version, loader, false);
+    }
+
+    /**
+     * cache 의 version 이 DB 의 현재 version 과 같으면 cache 에서, 아니면 loader 로 조회하여 cache 에 저장
+     * primary 로 조회하는 transaction(승인/취소/수정)에서 사용한다.
+     *
+     * @param reserveId
+     * @param version   DB 의 현재 version, 없으면(예약 없음) loader 로 조회
+     * @param loader
+     * @return
+     */
+    public Mono<Reserve> load(String reserveId, Mono<ReserveVersion> version, Mono<Reserve> loader) {
+        return get(reserveId, version, loader, true);
+    }
+
+    /**
+     * version 을 먼저 조회하고 loader 로 조회해야 cache 값이 version 보다 이전 값이 되지 않는다.
+     * (version 이후에 변경되었으면 다음 확인시 version 이 달라 다시 조회한다)
+     */
+    private Mono<Reserve> get(String reserveId, Mono<ReserveVersion> version, Mono<Reserve> loader, boolean fill) {
+        if (!enabled) {
+            return loader;
+        }
+        return version.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(current -> {
+                    if (!current.isPresent()) {
+                        cache.invalidate(reserveId);
+                        return loader;
+                    }
+                    ReserveSnapshot snapshot = cache.getIfPresent(reserveId);
+                    if (snapshot != null && snapshot.isVersion(current.get())) {
+                        return Mono.just(converter.read(Reserve.class, snapshot.toRow()));
+                    }
+                    if (!fill) {
+                        return loader;
+                    }
+                    return loader.doOnNext(reserve -> cache.put(reserveId, snapshot(reserve, current.get())));
+                });
+    }
+
+    /**
+     * 저장 후 처리 (write-through)
+     * commit 전에는 이 서버의 값을 제거하고, commit 이후 저장된 값과 저장 transaction 에서 조회한 version 으로 갱신한 뒤
+     * 다른 서버에 무효화를 전파한다.
+     * rollback 되면 제거된 상태로 남아 다음 조회시 DB 에서 읽는다.
+     *
+     * @param reserve
+     * @param version 저장한 transaction 에서 조회한 version, 없으면 갱신하지 않고 제거만 한다
+     * @return
+     */
+    public Mono<Reserve> saved(Reserve reserve, Mono<ReserveVersion> version) {
+        if (!enabled) {
+            return Mono.just(reserve);
+        }
+        String reserveId = reserve.getReserveId();
+        cache.invalidate(reserveId);
+        return version.map(current -> Optional.of(snapshot(reserve, current)))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(snapshot -> AfterCommit.run(() -> {
+                    snapshot.ifPresent(value -> cache.put(reserveId, value));
+                    broadcast(reserveId);
+                }))
+                .thenReturn(reserve);
+    }
+
+    /**
+     * 다른 서버의 무효화 message 처리
+     *
+     * @param message payload 는 예약 id
+     */
+    public void onInvalidation(Message<String> message) {
+        if (nodeId.equals(message.getHeaders().get(ORIGIN_HEADER))) {
+            return;
+        }
+        cache.invalidate(message.getPayload());
+    }
+
+    /**
+     * 무효화 전파 - rabbit 전송은 blocking 이므로 event loop 밖에서 보낸다.
+     * 전송에 실패해도 다른 서버는 version 확인으로 변경된 값을 조회한다.
+     *
+     * @param reserveId
+     */
+    private void broadcast(String reserveId) {
+        Message<String> message = MessageBuilder.withPayload(reserveId)
+                .setHeader(ORIGIN_HEADER, nodeId)
+                .build();
+        Mono.fromRunnable(() -> streamBridge.send(INVALIDATION_OUTPUT, message))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, throwable -> log.warn("reserve cache invalidation broadcast failed. reserveId={}", reserveId, throwable));
+    }
+
+    private ReserveSnapshot snapshot(Reserve reserve, ReserveVersion version) {
+        OutboundRow outboundRow = new OutboundRow();
+        converter.write(reserve, outboundRow);
+        return ReserveSnapshot.of(outboundRow, version);
+    }
+}
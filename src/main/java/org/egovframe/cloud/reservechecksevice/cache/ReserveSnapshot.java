@@ -0,0 +1,133 @@
+package org.egovframe.cloud.reservechecksevice.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveVersion;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import io.r2dbc.spi.Row;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.cache.ReserveSnapshot
+ * <p>
+ * near cache 에 저장하는 예약 컬럼 값 (변경 불가)
+ * Reserve entity 는 조회 후 상태를 변경하여 저장하므로 entity 를 그대로 공유하지 않고,
+ * 컬럼 값을 저장했다가 조회할 때마다 R2DBC converter 로 새 entity 를 만든다.
+ * 저장할 때의 DB version 을 함께 두어 DB 와 같은지 확인한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      DB version 추가
+ * </pre>
+ */
+final class ReserveSnapshot {
+
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int COLUMN_OVERHEAD = 48;
+    private static final int VALUE_OVERHEAD = 24;
+
+    private final List<String> names;
+    private final List<Object> values;
+    private final Map<String, Object> columns;
+    private final ReserveVersion version;
+    private final int weight;
+
+    private ReserveSnapshot(List<String> names, List<Object> values, ReserveVersion version) {
+        this.names = names;
+        this.values = values;
+        this.version = version;
+        this.columns = new LinkedCaseInsensitiveMap<>(names.size());
+        int weight = ENTRY_OVERHEAD;
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i), values.get(i));
+            weight += COLUMN_OVERHEAD + names.get(i).length() * 2 + sizeOf(values.get(i));
+        }
+        this.weight = weight;
+    }
+
+    /**
+     * converter 가 entity 를 쓴 결과(OutboundRow)로 생성
+     *
+     * @param outboundRow
+     * @param version     entity 를 조회/저장한 시점의 DB version
+     * @return
+     */
+    static ReserveSnapshot of(OutboundRow outboundRow, ReserveVersion version) {
+        List<String> names = new ArrayList<>(outboundRow.size());
+        List<Object> values = new ArrayList<>(outboundRow.size());
+        for (Map.Entry<SqlIdentifier, Parameter> column : outboundRow.entrySet()) {
+            names.add(column.getKey().getReference());
+            values.add(column.getValue().getValue());
+        }
+        return new ReserveSnapshot(names, values, version);
+    }
+
+    /**
+     * DB 의 현재 version 과 같은지 여부
+     *
+     * @param current
+     * @return
+     */
+    boolean isVersion(ReserveVersion current) {
+        return version.equals(current);
+    }
+
+    /**
+     * 대략적인 메모리 크기(byte) - cache 최대 메모리 제한에 사용
+     *
+     * @return
+     */
+    int getWeight() {
+        return weight;
+    }
+
+    /**
+     * converter 로 읽을 수 있는 row
+     *
+     * @return
+     */
+    Row toRow() {
+        return new SnapshotRow();
+    }
+
+    private static int sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence) {
+            return VALUE_OVERHEAD + ((CharSequence) value).length() * 2;
+        }
+        return VALUE_OVERHEAD;
+    }
+
+    private final class SnapshotRow implements Row {
+
+        @Override
+        public <T> T get(int index, Class<T> type) {
+            return type.cast(values.get(index));
+        }
+
+        @Override
+        public <T> T get(String name, Class<T> type) {
+            return type.cast(columns.get(name));
+        }
+
+        @Override
+        public String toString() {
+            return "ReserveSnapshot" + names;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.egovframe.cloud.reservechecksevice.client;
 
+import org.egovframe.cloud.reservechecksevice.client.config.ReserveItemServiceClientConfig;
 import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemRelationResponseDto;
 import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemResponseDto;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,9 +25,10 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/23    shinmj  최초 생성
+ *  2026/10/19    shinmj  client 전용 transport(connection pool, timeout, 압축) 설정
  * </pre>
  */
-@ReactiveFeignClient(value = "reserve-item-service")
+@ReactiveFeignClient(value = "reserve-item-service", configuration = ReserveItemServiceClientConfig.class)
 public interface ReserveItemServiceClient {
     /**
      * 예약 물품 한건 조회
@@ -0,0 +1,62 @@
+package org.egovframe.cloud.reservechecksevice.client;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.client.ServiceFailure
+ * <p>
+ * 다른 서비스 호출 오류 분류
+ * 서비스 장애(circuit breaker open, timeout, 연결/IO 오류, 5xx)인 경우에만 snapshot 등 대체 정보를 사용하고,
+ * 4xx(없는 예약 물품, 권한 없음 등)는 대체하지 않는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public final class ServiceFailure {
+
+    private ServiceFailure() {
+    }
+
+    /**
+     * 서비스 장애 여부 (cause 까지 확인한다)
+     *
+     * @param throwable
+     * @return
+     */
+    public static boolean isUnavailable(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CallNotPermittedException
+                    || cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof IOException
+                    || cause instanceof WebClientRequestException
+                    || cause instanceof RetryableException) {
+                return true;
+            }
+            if (cause instanceof WebClientResponseException) {
+                return ((WebClientResponseException) cause).getStatusCode().is5xxServerError();
+            }
+            if (cause instanceof FeignException) {
+                return ((FeignException) cause).status() >= 500;
+            }
+        }
+        return false;
+    }
+}
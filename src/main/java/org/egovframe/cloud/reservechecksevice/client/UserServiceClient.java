@@ -1,5 +1,6 @@
 package org.egovframe.cloud.reservechecksevice.client;
 
+import org.egovframe.cloud.reservechecksevice.client.config.UserServiceClientConfig;
 import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,9 +23,10 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/30    shinmj  최초 생성
+ *  2026/10/19    shinmj  client 전용 transport(connection pool, timeout, 압축) 설정
  * </pre>
  */
-@ReactiveFeignClient(value = "user-service")
+@ReactiveFeignClient(value = "user-service", configuration = UserServiceClientConfig.class)
 public interface UserServiceClient {
 
 
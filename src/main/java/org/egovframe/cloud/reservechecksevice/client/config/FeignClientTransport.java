@@ -0,0 +1,103 @@
+package org.egovframe.cloud.reservechecksevice.client.config;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+
+import io.netty.channel.ChannelOption;
+import reactivefeign.webclient.WebClientFeignCustomizer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.client.config.FeignClientTransport
+ * <p>
+ * reactive feign client 별 HTTP transport 설정
+ * client 마다 keep-alive connection pool 을 따로 두고 connect/response timeout, gzip 응답 압축을 적용한다.
+ * 설정은 reserve.client.{client name}.* 이며 pool 사용량(reactor.netty.connection.provider.*)과
+ * 호출별 지연(reactor.netty.http.client.*) metric 을 기록한다.
+ * accept-smile 이 true 이면 Smile 을 우선 요청하고, 상대 서비스가 지원하지 않으면 JSON 으로 받는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      Smile 응답 요청(accept-smile) 설정 추가
+ * </pre>
+ */
+public final class FeignClientTransport {
+
+    private static final String PREFIX = "reserve.client.";
+
+    /**
+     * Smile 우선, JSON 허용
+     */
+    static final String SMILE_FIRST_ACCEPT = "application/x-jackson-smile, application/json;q=0.9";
+
+    private FeignClientTransport() {
+    }
+
+    /**
+     * client 전용 connection pool
+     *
+     * @param clientName
+     * @param environment
+     * @return
+     */
+    static ConnectionProvider connectionProvider(String clientName, Environment environment) {
+        return ConnectionProvider.builder("feign." + clientName)
+                .maxConnections(property(environment, clientName, "max-connections", Integer.class, 50))
+                .pendingAcquireMaxCount(property(environment, clientName, "pending-acquire-max-count", Integer.class, 500))
+                .pendingAcquireTimeout(property(environment, clientName, "pending-acquire-timeout", Duration.class, Duration.ofSeconds(2)))
+                .maxIdleTime(property(environment, clientName, "max-idle-time", Duration.class, Duration.ofSeconds(30)))
+                .maxLifeTime(property(environment, clientName, "max-life-time", Duration.class, Duration.ofMinutes(5)))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * WebClient 에 connection pool, timeout, 압축을 적용한 connector 설정 (accept-smile 이면 Accept header 추가)
+     *
+     * @param clientName
+     * @param environment
+     * @param connectionProvider
+     * @param uriTagValue        metric uri tag - path variable 을 template 으로 바꿔 tag 수를 제한한다
+     * @return
+     */
+    static WebClientFeignCustomizer customizer(String clientName, Environment environment,
+                                               ConnectionProvider connectionProvider,
+                                               Function<String, String> uriTagValue) {
+        Duration connectTimeout = property(environment, clientName, "connect-timeout", Duration.class, Duration.ofSeconds(1));
+        Duration responseTimeout = property(environment, clientName, "response-timeout", Duration.class, Duration.ofSeconds(3));
+        boolean compression = property(environment, clientName, "compression", Boolean.class, Boolean.TRUE);
+        boolean acceptSmile = property(environment, clientName, "accept-smile", Boolean.class, Boolean.FALSE);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .compress(compression)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .metrics(true, uriTagValue);
+
+        return builder -> {
+            builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+            if (acceptSmile) {
+                builder.defaultHeader(HttpHeaders.ACCEPT, SMILE_FIRST_ACCEPT);
+            }
+        };
+    }
+
+    private static <T> T property(Environment environment, String clientName, String key, Class<T> type, T defaultValue) {
+        return environment.getProperty(PREFIX + clientName + "." + key, type, defaultValue);
+    }
+}
@@ -0,0 +1,49 @@
+package org.egovframe.cloud.reservechecksevice.client.config;
+
+import java.util.regex.Pattern;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import reactivefeign.webclient.WebClientFeignCustomizer;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.client.config.ReserveItemServiceClientConfig
+ * <p>
+ * ReserveItemServiceClient 전용 설정 (reserve.client.reserve-item-service.*)
+ * client 별 context 에만 등록되도록 @Configuration 을 붙이지 않는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class ReserveItemServiceClientConfig {
+
+    static final String CLIENT_NAME = "reserve-item-service";
+
+    /**
+     * 예약 물품 id path variable
+     */
+    private static final Pattern RESERVE_ITEM_ID = Pattern.compile("/\\d+(?=/|$|\\?)");
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider reserveItemServiceConnectionProvider(Environment environment) {
+        return FeignClientTransport.connectionProvider(CLIENT_NAME, environment);
+    }
+
+    @Bean
+    public WebClientFeignCustomizer reserveItemServiceWebClientCustomizer(Environment environment,
+                                                                          ConnectionProvider reserveItemServiceConnectionProvider) {
+        return FeignClientTransport.customizer(CLIENT_NAME, environment, reserveItemServiceConnectionProvider,
+                uri -> RESERVE_ITEM_ID.matcher(uri).replaceAll("/{reserveItemId}"));
+    }
+}
@@ -0,0 +1,42 @@
+package org.egovframe.cloud.reservechecksevice.client.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import reactivefeign.webclient.WebClientFeignCustomizer;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.client.config.UserServiceClientConfig
+ * <p>
+ * UserServiceClient 전용 설정 (reserve.client.user-service.*)
+ * client 별 context 에만 등록되도록 @Configuration 을 붙이지 않는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class UserServiceClientConfig {
+
+    static final String CLIENT_NAME = "user-service";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider userServiceConnectionProvider(Environment environment) {
+        return FeignClientTransport.connectionProvider(CLIENT_NAME, environment);
+    }
+
+    @Bean
+    public WebClientFeignCustomizer userServiceWebClientCustomizer(Environment environment,
+                                                                   ConnectionProvider userServiceConnectionProvider) {
+        return FeignClientTransport.customizer(CLIENT_NAME, environment, userServiceConnectionProvider,
+                uri -> "/api/v1/users/{userId}");
+    }
+}
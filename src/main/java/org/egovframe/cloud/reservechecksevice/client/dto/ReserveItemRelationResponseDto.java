@@ -25,6 +25,7 @@ import java.time.LocalDateTime;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/27    shinmj      최초 생성
+ *  2026/10/19    shinmj      entity 변환시 예약 물품 id 누락 수정
  * </pre>
  */
 @NoArgsConstructor
@@ -106,6 +107,7 @@ public class ReserveItemRelationResponseDto {
 
     public ReserveItem toEntity() {
         return ReserveItem.builder()
+                .reserveItemId(this.reserveItemId)
                 .reserveItemName(this.reserveItemName)
                 .locationId(this.locationId)
                 .location(this.location)
@@ -1,5 +1,6 @@
 package org.egovframe.cloud.reservechecksevice.client.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,6 +25,8 @@ import java.time.LocalDateTime;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj      최초 생성
+ *  2026/10/19    shinmj      entity 변환(toEntity) 추가
+ *  2026/10/19    shinmj      snapshot(stale) 여부 추가
  * </pre>
  */
 @Getter
@@ -58,6 +61,8 @@ public class ReserveItemResponseDto {
     private String managerDept;     //담당자 소속
     private String managerName;     //담당자 이름
     private String managerContact;  //담당자 연락처
+    @JsonIgnore
+    private boolean stale;          // 예약 물품 서비스 장애로 snapshot 에서 만든 경우 true (재고/인원 확인에 사용하지 않는다)
 
     @Builder
     public ReserveItemResponseDto(ReserveItem reserveItem) {
@@ -89,5 +94,39 @@ public class ReserveItemResponseDto {
         this.managerDept = reserveItem.getManagerDept();
         this.managerName = reserveItem.getManagerName();
         this.managerContact = reserveItem.getManagerContact();
+        this.stale = reserveItem.isStale();
+    }
+
+    public ReserveItem toEntity() {
+        return ReserveItem.builder()
+                .reserveItemId(this.reserveItemId)
+                .reserveItemName(this.reserveItemName)
+                .locationId(this.locationId)
+                .categoryId(this.categoryId)
+                .totalQty(this.totalQty)
+                .inventoryQty(this.inventoryQty)
+                .operationStartDate(this.operationStartDate)
+                .operationEndDate(this.operationEndDate)
+                .reserveMethodId(this.reserveMethodId)
+                .reserveMeansId(this.reserveMeansId)
+                .requestStartDate(this.requestStartDate)
+                .requestEndDate(this.requestEndDate)
+                .isPeriod(this.isPeriod)
+                .periodMaxCount(this.periodMaxCount)
+                .externalUrl(this.externalUrl)
+                .selectionMeansId(this.selectionMeansId)
+                .isPaid(this.isPaid)
+                .usageCost(this.usageCost)
+                .isUse(this.isUse)
+                .purpose(this.purpose)
+                .address(this.address)
+                .targetId(this.targetId)
+                .excluded(this.excluded)
+                .homepage(this.homepage)
+                .contact(this.contact)
+                .managerDept(this.managerDept)
+                .managerName(this.managerName)
+                .managerContact(this.managerContact)
+                .build();
     }
 }
@@ -0,0 +1,94 @@
+package org.egovframe.cloud.reservechecksevice.codec;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.codec.IsoLocalDateTimeSerializer
+ * <p>
+ * LocalDateTime 을 DateTimeFormatter 없이 ISO_LOCAL_DATE_TIME 형식(yyyy-MM-ddTHH:mm:ss[.fraction])으로 직렬화한다.
+ * 결과는 기본 LocalDateTimeSerializer 와 같고, @JsonFormat 지정/timestamp 출력/4자리를 벗어나는 연도는 기본 serializer 로 처리한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class IsoLocalDateTimeSerializer extends LocalDateTimeSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final IsoLocalDateTimeSerializer INSTANCE = new IsoLocalDateTimeSerializer();
+
+    /**
+     * yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+     */
+    private static final int MAX_LENGTH = 29;
+
+    protected IsoLocalDateTimeSerializer() {
+        super();
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (_formatter != null || useTimestamp(provider) || value.getYear() < 0 || value.getYear() > 9999) {
+            super.serialize(value, generator, provider);
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        generator.writeString(buffer, 0, format(value, buffer));
+    }
+
+    /**
+     * ISO_LOCAL_DATE_TIME 형식으로 buffer 에 기록
+     * 초 이하는 0 이 아닐 때만 끝의 0 을 제외하고 기록한다.
+     *
+     * @param value
+     * @param buffer
+     * @return 기록한 길이
+     */
+    static int format(LocalDateTime value, char[] buffer) {
+        int pos = digits(value.getYear(), 4, buffer, 0);
+        buffer[pos++] = '-';
+        pos = digits(value.getMonthValue(), 2, buffer, pos);
+        buffer[pos++] = '-';
+        pos = digits(value.getDayOfMonth(), 2, buffer, pos);
+        buffer[pos++] = 'T';
+        pos = digits(value.getHour(), 2, buffer, pos);
+        buffer[pos++] = ':';
+        pos = digits(value.getMinute(), 2, buffer, pos);
+        buffer[pos++] = ':';
+        pos = digits(value.getSecond(), 2, buffer, pos);
+
+        int nano = value.getNano();
+        if (nano != 0) {
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buffer[pos++] = '.';
+            pos = digits(nano, width, buffer, pos);
+        }
+        return pos;
+    }
+
+    private static int digits(int value, int width, char[] buffer, int pos) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
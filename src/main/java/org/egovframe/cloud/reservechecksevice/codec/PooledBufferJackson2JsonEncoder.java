@@ -0,0 +1,91 @@
+package org.egovframe.cloud.reservechecksevice.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2CodecSupport;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.codec.PooledBufferJackson2JsonEncoder
+ * <p>
+ * 단건(Mono) 및 JSON 배열 응답을 중간 byte[] 없이 서버의 DataBufferFactory(netty pooled buffer)에 바로 직렬화하는 encoder
+ * 기본 Jackson2JsonEncoder 는 byte[] 로 직렬화한 뒤 wrap 하므로 큰 목록 응답마다 heap 배열이 한번 더 생긴다.
+ * JsonView/filter 가 지정되었거나 UTF-8 JSON 이 아닌 경우(SSE 등)는 기본 encoder 로 처리한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class PooledBufferJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final ObjectWriter writer;
+
+    public PooledBufferJackson2JsonEncoder(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.writer = objectMapper.writer();
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if (!isDirectWritable(value, mimeType, hints)) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_CAPACITY);
+        boolean release = true;
+        try {
+            OutputStream outputStream = buffer.asOutputStream();
+            writer.writeValue(outputStream, value);
+            release = false;
+            return buffer;
+        } catch (IOException ex) {
+            throw new EncodingException("JSON encoding error: " + ex.getMessage(), ex);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    private static boolean isDirectWritable(Object value, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if (value instanceof MappingJacksonValue) {
+            return false;
+        }
+        if (hints != null && hints.containsKey(Jackson2CodecSupport.JSON_VIEW_HINT)) {
+            return false;
+        }
+        if (mimeType == null) {
+            return true;
+        }
+        if (mimeType.getCharset() != null && !StandardCharsets.UTF_8.equals(mimeType.getCharset())) {
+            return false;
+        }
+        return MediaType.APPLICATION_JSON.isCompatibleWith(mimeType);
+    }
+}
@@ -0,0 +1,63 @@
+package org.egovframe.cloud.reservechecksevice.config;
+
+import java.time.LocalDateTime;
+
+import org.egovframe.cloud.reservechecksevice.codec.IsoLocalDateTimeSerializer;
+import org.egovframe.cloud.reservechecksevice.codec.PooledBufferJackson2JsonEncoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.config.JsonCodecConfig
+ * <p>
+ * 목록/기간 조회 응답 JSON 직렬화 비용 절감 설정 (reserve.json.optimized)
+ * - Afterburner: getter reflection 호출 대신 bytecode 로 생성한 accessor 사용
+ * - LocalDateTime: DateTimeFormatter 를 거치지 않는 ISO 형식 serializer
+ * - 응답 encoder: netty pooled buffer 에 바로 직렬화
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(value = "reserve.json.optimized", matchIfMissing = true)
+public class JsonCodecConfig {
+
+    @Bean
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer isoLocalDateTimeSerializerCustomizer() {
+        return builder -> builder.serializerByType(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE);
+    }
+
+    /**
+     * spring boot 기본 json encoder 설정(order 0) 이후에 적용되어야 한다.
+     *
+     * @param objectMapper
+     * @return
+     */
+    @Bean
+    @Order(1)
+    public CodecCustomizer pooledBufferJsonEncoderCustomizer(ObjectMapper objectMapper) {
+        return configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new PooledBufferJackson2JsonEncoder(objectMapper));
+    }
+}
@@ -0,0 +1,237 @@
+package org.egovframe.cloud.reservechecksevice.config;
+
+import java.time.Duration;
+
+import org.egovframe.cloud.reservechecksevice.r2dbc.MeteredConnectionFactory;
+import org.egovframe.cloud.reservechecksevice.r2dbc.ReadWriteRoutingConnectionFactory;
+import org.egovframe.cloud.reservechecksevice.r2dbc.ReadWriteRoutingTransactionManager;
+import org.egovframe.cloud.reservechecksevice.r2dbc.RecentWriterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.config.R2dbcPoolConfig
+ * <p>
+ * spring.r2dbc.url 로 생성한 ConnectionFactory 를 r2dbc-pool 로 관리한다.
+ * pool 크기/idle 시간/검증 쿼리는 spring.r2dbc.pool.* 를 사용하고, Spring Boot 2.4 에 없는 대기시간 설정만 reserve.r2dbc.pool.* 로 설정한다.
+ * 애플리케이션이 ready 상태가 되기 전(ApplicationRunner)에 initial-size 만큼 connection 을 미리 생성한다.
+ * pool 상태 gauge 는 Spring Boot 의 r2dbc.pool.* metric 을 사용하고, connection 획득 대기시간 histogram 만 추가로 등록한다.
+ * reserve.r2dbc.replica.url 이 있으면 replica pool 을 추가로 만들고 readOnly transaction 을 replica 로 보낸다.
+ * MySQL 이면 bind parameter 가 있는 statement 를 server-side prepared statement 로 실행한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      replica pool 및 read/write routing 추가
+ *  2026/10/19    shinmj      MySQL server-side prepared statement 설정 추가
+ *  2026/10/19    shinmj      pool 설정을 spring.r2dbc.pool 로 변경, pool gauge 는 Spring Boot metric 사용
+ * </pre>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty("spring.r2dbc.url")
+public class R2dbcPoolConfig {
+
+    static final String PRIMARY_POOL = "primary";
+    static final String REPLICA_POOL = "replica";
+    static final String REPLICA_URL = "reserve.r2dbc.replica.url";
+
+    /**
+     * r2dbc-mysql 옵션 - true 이면 bind parameter 가 있는 statement 를 server 에서 prepare 한다.
+     */
+    static final Option<Object> MYSQL_USE_SERVER_PREPARE_STATEMENT = Option.valueOf("useServerPrepareStatement");
+
+    @Value("${reserve.r2dbc.pool.max-life-time:0}")
+    private Duration maxLifeTime;
+
+    @Value("${reserve.r2dbc.pool.max-acquire-time:3s}")
+    private Duration maxAcquireTime;
+
+    @Value("${reserve.r2dbc.pool.max-create-connection-time:5s}")
+    private Duration maxCreateConnectionTime;
+
+    @Value("${reserve.r2dbc.pool.warmup-timeout:30s}")
+    private Duration warmupTimeout;
+
+    @Value("${reserve.r2dbc.replica.read-your-writes-window:2s}")
+    private Duration readYourWritesWindow;
+
+    @Value("${reserve.r2dbc.mysql.use-server-prepare-statement:true}")
+    private boolean useServerPrepareStatement;
+
+    /**
+     * primary connection pool
+     * r2dbc repository 는 pool 을 직접 사용하지 않고 획득시간을 측정하는 reserveConnectionFactory 를 사용한다.
+     *
+     * @param properties
+     * @return
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool primaryConnectionPool(R2dbcProperties properties) {
+        return connectionPool(PRIMARY_POOL, properties.getPool(), properties.getUrl(), properties.getUsername(), properties.getPassword());
+    }
+
+    /**
+     * replica connection pool
+     *
+     * @param properties
+     * @param replicaUrl
+     * @param username   비어 있으면 spring.r2dbc.username
+     * @param password   비어 있으면 spring.r2dbc.password
+     * @return
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(REPLICA_URL)
+    public ConnectionPool replicaConnectionPool(R2dbcProperties properties,
+                                                @Value("${" + REPLICA_URL + "}") String replicaUrl,
+                                                @Value("${reserve.r2dbc.replica.username:}") String username,
+                                                @Value("${reserve.r2dbc.replica.password:}") String password) {
+        return connectionPool(REPLICA_POOL, properties.getPool(), replicaUrl,
+                StringUtils.hasText(username) ? username : properties.getUsername(),
+                StringUtils.hasText(password) ? password : properties.getPassword());
+    }
+
+    /**
+     * r2dbc repository, transaction manager 가 사용하는 ConnectionFactory
+     * replica 가 없으면 primary pool, 있으면 primary/replica routing ConnectionFactory 이다.
+     *
+     * @param primaryConnectionPool
+     * @param replicaConnectionPool
+     * @param meterRegistry
+     * @return
+     */
+    @Primary
+    @Bean
+    public ConnectionFactory reserveConnectionFactory(@Qualifier("primaryConnectionPool") ConnectionPool primaryConnectionPool,
+                                                      @Qualifier("replicaConnectionPool") ObjectProvider<ConnectionPool> replicaConnectionPool,
+                                                      MeterRegistry meterRegistry) {
+        ConnectionFactory primary = new MeteredConnectionFactory(primaryConnectionPool, PRIMARY_POOL, meterRegistry);
+        ConnectionPool replicaPool = replicaConnectionPool.getIfAvailable();
+        if (replicaPool == null) {
+            return primary;
+        }
+        return new ReadWriteRoutingConnectionFactory(primary,
+                new MeteredConnectionFactory(replicaPool, REPLICA_POOL, meterRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(REPLICA_URL)
+    public RecentWriterRegistry recentWriterRegistry() {
+        return new RecentWriterRegistry(readYourWritesWindow, 100_000);
+    }
+
+    /**
+     * readOnly transaction 을 replica 로 보내는 transaction manager
+     *
+     * @param reserveConnectionFactory
+     * @param recentWriterRegistry
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(REPLICA_URL)
+    public ReactiveTransactionManager transactionManager(ConnectionFactory reserveConnectionFactory,
+                                                         RecentWriterRegistry recentWriterRegistry) {
+        return new ReadWriteRoutingTransactionManager(reserveConnectionFactory, recentWriterRegistry);
+    }
+
+    /**
+     * ready 이전에 connection 미리 생성
+     * 첫 요청들이 connection handshake 비용을 부담하지 않도록 한다.
+     *
+     * @param primaryConnectionPool
+     * @param replicaConnectionPool
+     * @return
+     */
+    @Bean
+    public ApplicationRunner connectionPoolWarmup(@Qualifier("primaryConnectionPool") ConnectionPool primaryConnectionPool,
+                                                  @Qualifier("replicaConnectionPool") ObjectProvider<ConnectionPool> replicaConnectionPool) {
+        return args -> {
+            warmup(PRIMARY_POOL, primaryConnectionPool);
+            replicaConnectionPool.ifAvailable(pool -> warmup(REPLICA_POOL, pool));
+        };
+    }
+
+    /**
+     * pool 생성
+     *
+     * @param name
+     * @param pool     spring.r2dbc.pool
+     * @param url
+     * @param username
+     * @param password
+     * @return
+     */
+    ConnectionPool connectionPool(String name, R2dbcProperties.Pool pool, String url, String username, String password) {
+        ConnectionFactoryOptions parsed = ConnectionFactoryOptions.parse(url);
+        ConnectionFactoryOptions.Builder options = parsed.mutate();
+        if (useServerPrepareStatement && "mysql".equals(parsed.getValue(ConnectionFactoryOptions.DRIVER))
+                && !parsed.hasOption(MYSQL_USE_SERVER_PREPARE_STATEMENT)) {
+            options.option(MYSQL_USE_SERVER_PREPARE_STATEMENT, Boolean.TRUE);
+        }
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(name)
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxAcquireTime(maxAcquireTime)
+                .maxCreateConnectionTime(maxCreateConnectionTime);
+        if (!maxLifeTime.isZero()) {
+            builder.maxLifeTime(maxLifeTime);
+        }
+        if (StringUtils.hasText(pool.getValidationQuery())) {
+            builder.validationQuery(pool.getValidationQuery());
+        }
+        return new ConnectionPool(builder.build());
+    }
+
+    /**
+     * pool warm-up
+     * 실패하더라도 기동은 계속하고 요청시 connection 을 생성하도록 둔다.
+     *
+     * @param name
+     * @param pool
+     */
+    void warmup(String name, ConnectionPool pool) {
+        long start = System.nanoTime();
+        try {
+            Integer created = pool.warmup().block(warmupTimeout);
+            log.info("r2dbc pool [{}] warmed up : {} connections in {}ms", name, created,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (RuntimeException e) {
+            log.warn("r2dbc pool [{}] warm-up failed : {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.egovframe.cloud.reservechecksevice.config;
+
+import java.time.Duration;
+
+import org.egovframe.cloud.reservechecksevice.r2dbc.QueryStatistics;
+import org.egovframe.cloud.reservechecksevice.r2dbc.SlowQueryEndpoint;
+import org.egovframe.cloud.reservechecksevice.r2dbc.SlowQueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.config.R2dbcProxyConfig
+ * <p>
+ * ConnectionFactory 를 r2dbc-proxy 로 감싸 statement 별 실행시간을 측정한다.
+ * reserve.r2dbc.slow-query.threshold-ms 를 넘는 statement 는 로그로 남기고 /actuator/slowqueries 로 집계를 조회한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      ConnectionPool bean 은 proxy 대상에서 제외
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(value = "reserve.r2dbc.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class R2dbcProxyConfig {
+
+    @Value("${reserve.r2dbc.slow-query.threshold-ms:500}")
+    private long thresholdMillis;
+
+    @Value("${reserve.r2dbc.slow-query.max-fingerprints:200}")
+    private int maxFingerprints;
+
+    @Bean
+    public QueryStatistics queryStatistics(MeterRegistry meterRegistry) {
+        return new QueryStatistics(meterRegistry, maxFingerprints);
+    }
+
+    @Bean
+    public SlowQueryExecutionListener slowQueryExecutionListener(QueryStatistics queryStatistics) {
+        return new SlowQueryExecutionListener(queryStatistics, Duration.ofMillis(thresholdMillis));
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(QueryStatistics queryStatistics) {
+        return new SlowQueryEndpoint(queryStatistics, thresholdMillis);
+    }
+
+    /**
+     * ConnectionFactory bean 을 proxy 로 감싼다.
+     * BeanPostProcessor 는 다른 bean 보다 먼저 생성되므로 static 으로 선언하고 listener 는 지연 조회한다.
+     * ConnectionPool 은 pool 을 사용하는 ConnectionFactory 에서 감싸므로 제외한다. (pool 타입으로 주입받을 수 있어야 한다)
+     *
+     * @param listener
+     * @return
+     */
+    @Bean
+    public static BeanPostProcessor slowQueryConnectionFactoryPostProcessor(ObjectProvider<SlowQueryExecutionListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConnectionFactory && !(bean instanceof ConnectionPool)) {
+                    return ProxyConnectionFactory.builder((ConnectionFactory) bean)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package org.egovframe.cloud.reservechecksevice.config;
+
+import org.egovframe.cloud.reservechecksevice.security.BearerTokenPayloadExchangeConverter;
+import org.egovframe.cloud.reservechecksevice.security.CachedJwtAuthenticationManager;
+import org.egovframe.cloud.reservechecksevice.security.VerifiedTokenCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.rsocket.EnableRSocketSecurity;
+import org.springframework.security.config.annotation.rsocket.RSocketSecurity;
+import org.springframework.security.rsocket.authentication.AuthenticationPayloadInterceptor;
+import org.springframework.security.rsocket.core.PayloadSocketAcceptorInterceptor;
+import org.springframework.security.rsocket.api.PayloadInterceptorOrder;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.config.RSocketSecurityConfig
+ * <p>
+ * RSocket(/rsocket websocket) 요청 인증
+ * websocket 연결 이후의 RSocket frame 은 WebFlux security filter 를 거치지 않으므로 요청마다 metadata 의 JWT(bearer)를 검증한다.
+ * 연결(setup)은 허용하고, request-response/request-stream 등 모든 요청은 인증된 사용자만 허용한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Configuration
+@EnableRSocketSecurity
+public class RSocketSecurityConfig {
+
+    @Bean
+    public PayloadSocketAcceptorInterceptor rsocketInterceptor(RSocketSecurity rsocket, VerifiedTokenCache verifiedTokenCache) {
+        AuthenticationPayloadInterceptor authentication =
+                new AuthenticationPayloadInterceptor(new CachedJwtAuthenticationManager(verifiedTokenCache));
+        authentication.setAuthenticationConverter(new BearerTokenPayloadExchangeConverter());
+        authentication.setOrder(PayloadInterceptorOrder.AUTHENTICATION.getOrder());
+
+        return rsocket.addPayloadInterceptor(authentication)
+                .authorizePayload(authorize -> authorize
+                        .setup().permitAll()
+                        .anyRequest().authenticated()
+                        .anyExchange().permitAll())
+                .build();
+    }
+}
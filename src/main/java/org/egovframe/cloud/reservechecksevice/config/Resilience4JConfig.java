@@ -2,11 +2,14 @@ package org.egovframe.cloud.reservechecksevice.config;
 
 import java.time.Duration;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * org.egovframe.cloud.portalservice.config.Resilience4JConfig
@@ -26,20 +29,24 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
  *  ----------    --------    ---------------------------
  *  2021/08/31    jaeyeolkim  최초 생성
  *  2021/10/05    shinmj      reactive로 변경
+ *  2026/10/19    shinmj      circuit breaker 상태 metric 등록
  * </pre>
  */
 @Configuration
 public class Resilience4JConfig {
 
     @Bean
-    public CircuitBreakerRegistry circuitBreakerRegistry() {
+    public CircuitBreakerRegistry circuitBreakerRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
         CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
             .failureRateThreshold(50) // Circuit 열지 말지 결정하는 실패 threshold 퍼센테이지
             .waitDurationInOpenState(Duration.ofSeconds(5)) // (half closed 전에) circuitBreaker가 open 되기 전에 기다리는 기간
             .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED) // circuit breaker count 기반 처리
             .slidingWindowSize(10) // 통계 대상 건수 -> N건의 요청중..
             .build();
-        return CircuitBreakerRegistry.of(circuitBreakerConfig);
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        // circuit breaker 상태, 호출 결과별 건수를 resilience4j.circuitbreaker.* metric 으로 노출
+        meterRegistry.ifAvailable(m -> TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(m));
+        return registry;
     }
 
 }
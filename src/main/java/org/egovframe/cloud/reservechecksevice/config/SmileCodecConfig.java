@@ -0,0 +1,44 @@
+package org.egovframe.cloud.reservechecksevice.config;
+
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.config.SmileCodecConfig
+ * <p>
+ * 서비스 간 통신용 binary(Smile, application/x-jackson-smile) codec 설정
+ * Accept/Content-Type 으로 선택되며 JSON 은 그대로 기본값이다.
+ * JSON 과 같은 Jackson 설정(날짜 형식, module 등)을 사용하도록 spring boot 의 Jackson2ObjectMapperBuilder 로 생성하고,
+ * WebFlux 서버와 WebClient(reactive feign) 양쪽에 적용된다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Configuration
+public class SmileCodecConfig {
+
+    @Bean
+    public CodecCustomizer smileCodecCustomizer(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        ObjectMapper smileObjectMapper = jackson2ObjectMapperBuilder.factory(new SmileFactory()).build();
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileObjectMapper));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileObjectMapper));
+        };
+    }
+}
@@ -32,6 +32,7 @@ import java.time.LocalDateTime;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/09    shinmj       최초 생성
+ *  2026/10/19    shinmj       snapshot 사용 여부(stale) 추가
  * </pre>
  */
 @Getter
@@ -166,6 +167,10 @@ public class ReserveItem extends BaseEntity {
     @Column("manager_contact_no")
     private String managerContact;  //담당자 연락처
 
+    @ToString.Exclude
+    @Transient
+    private LocalDateTime snapshotDate;     //예약 물품 서비스 대신 snapshot 을 사용한 경우 snapshot 저장 일시
+
     @Builder
     public ReserveItem(Long reserveItemId, String reserveItemName, Long locationId, Location location, String categoryId, String categoryName, Integer totalQty, Integer inventoryQty, LocalDateTime operationStartDate, LocalDateTime operationEndDate, String reserveMethodId, String reserveMethodName, String reserveMeansId, String reserveMeansName, LocalDateTime requestStartDate, LocalDateTime requestEndDate, Boolean isPeriod, Integer periodMaxCount, String externalUrl, String selectionMeansId, String selectionMeansName, Boolean isPaid, BigDecimal usageCost, Boolean isUse, String purpose, String address, String targetId, String targetName, String excluded, String homepage, String contact, String managerDept, String managerName, String managerContact) {
         this.reserveItemId = reserveItemId;
@@ -203,6 +208,26 @@ public class ReserveItem extends BaseEntity {
         this.managerName = managerName;
         this.managerContact = managerContact;
     }
+
+    /**
+     * 예약 물품 서비스 장애로 snapshot(마지막으로 조회한 정보)을 사용한 경우 표시
+     *
+     * @param snapshotDate snapshot 저장 일시
+     * @return
+     */
+    public ReserveItem markStale(LocalDateTime snapshotDate) {
+        this.snapshotDate = snapshotDate;
+        return this;
+    }
+
+    /**
+     * snapshot 을 사용한 정보인지 여부
+     *
+     * @return
+     */
+    public boolean isStale() {
+        return snapshotDate != null;
+    }
 }
 
 
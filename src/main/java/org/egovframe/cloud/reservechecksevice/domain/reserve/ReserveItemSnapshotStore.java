@@ -0,0 +1,235 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.egovframe.cloud.reservechecksevice.domain.location.Location;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Row;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveItemSnapshotStore
+ * <p>
+ * 예약 물품 snapshot 저장소 (reserve_item_snapshot)
+ * 예약 물품 서비스 조회에 성공할 때마다 마지막으로 조회한 정보를 저장해 두고(같은 물품은 refresh-interval 에 한번),
+ * 예약 물품 서비스 장애(circuit breaker open, 오류)시 snapshot 을 stale 로 표시하여 대신 사용한다.
+ * snapshot 은 용도별 허용 기간(max-staleness)이 지나면 사용하지 않는다.
+ * - 목록/상세 표시: max-staleness
+ * - 예약 신청/수정/승인시 예약 기간 확인: check-max-staleness (재고/인원은 snapshot 으로 확인하지 않는다)
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      확인용 snapshot 은 예약 기간 확인에만 사용
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReserveItemSnapshotStore {
+
+    public static final String METRIC_NAME = "reserve.item-snapshot.fallback";
+
+    private static final String SELECT = "SELECT reserve_item_id, reserve_item_name, location_id, location_name,"
+            + " category_id, category_name, total_qty, inventory_qty, operation_start_date, operation_end_date,"
+            + " reserve_means_id, request_start_date, request_end_date, snapshot_date"
+            + " FROM reserve_item_snapshot WHERE reserve_item_id = :reserveItemId";
+
+    /**
+     * 예약 물품 한건 조회(findById)에는 지역명/예약유형명이 없으므로 값이 있을 때만 변경한다.
+     */
+    private static final String UPDATE = "UPDATE reserve_item_snapshot SET reserve_item_name = :reserveItemName,"
+            + " location_id = :locationId, location_name = COALESCE(:locationName, location_name),"
+            + " category_id = :categoryId, category_name = COALESCE(:categoryName, category_name),"
+            + " total_qty = :totalQty, inventory_qty = :inventoryQty,"
+            + " operation_start_date = :operationStartDate, operation_end_date = :operationEndDate,"
+            + " reserve_means_id = :reserveMeansId, request_start_date = :requestStartDate,"
+            + " request_end_date = :requestEndDate, snapshot_date = :snapshotDate"
+            + " WHERE reserve_item_id = :reserveItemId";
+
+    private static final String INSERT = "INSERT INTO reserve_item_snapshot (reserve_item_id, reserve_item_name,"
+            + " location_id, location_name, category_id, category_name, total_qty, inventory_qty,"
+            + " operation_start_date, operation_end_date, reserve_means_id, request_start_date, request_end_date,"
+            + " snapshot_date) VALUES (:reserveItemId, :reserveItemName, :locationId, :locationName, :categoryId,"
+            + " :categoryName, :totalQty, :inventoryQty, :operationStartDate, :operationEndDate, :reserveMeansId,"
+            + " :requestStartDate, :requestEndDate, :snapshotDate)";
+
+    private final boolean enabled;
+    private final Duration maxStaleness;
+    private final Duration checkMaxStaleness;
+    private final DatabaseClient databaseClient;
+
+    /**
+     * refresh-interval 안에 저장한 예약 물품 id
+     */
+    private final Cache<Long, Boolean> recentlySaved;
+
+    private final Counter used;
+    private final Counter expired;
+    private final Counter missing;
+
+    public ReserveItemSnapshotStore(R2dbcEntityTemplate entityTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${reserve.item-snapshot.enabled:true}") boolean enabled,
+                                    @Value("${reserve.item-snapshot.refresh-interval:1m}") Duration refreshInterval,
+                                    @Value("${reserve.item-snapshot.max-staleness:24h}") Duration maxStaleness,
+                                    @Value("${reserve.item-snapshot.check-max-staleness:30m}") Duration checkMaxStaleness) {
+        this.enabled = enabled;
+        this.maxStaleness = maxStaleness;
+        this.checkMaxStaleness = checkMaxStaleness;
+        this.databaseClient = entityTemplate.getDatabaseClient();
+        this.recentlySaved = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(refreshInterval)
+                .build();
+        this.used = Counter.builder(METRIC_NAME).tag("result", "used").register(meterRegistry);
+        this.expired = Counter.builder(METRIC_NAME).tag("result", "expired").register(meterRegistry);
+        this.missing = Counter.builder(METRIC_NAME).tag("result", "missing").register(meterRegistry);
+    }
+
+    /**
+     * 예약 물품 서비스에서 조회한 정보 저장
+     * 호출한 요청의 transaction 과 관계없이 따로 저장하고 결과를 기다리지 않는다 (실패하면 다음 조회시 다시 저장).
+     *
+     * @param reserveItem
+     */
+    public void refresh(ReserveItem reserveItem) {
+        if (!enabled || reserveItem.getReserveItemId() == null || reserveItem.isStale()) {
+            return;
+        }
+        final Long reserveItemId = reserveItem.getReserveItemId();
+        if (recentlySaved.asMap().putIfAbsent(reserveItemId, Boolean.TRUE) != null) {
+            return;
+        }
+        Map<String, Object> bindings = bindings(reserveItem);
+        execute(UPDATE, bindings).fetch().rowsUpdated()
+                .flatMap(updated -> updated > 0 ? Mono.just(updated) : execute(INSERT, bindings).fetch().rowsUpdated())
+                .subscribe(null, throwable -> {
+                    recentlySaved.invalidate(reserveItemId);
+                    log.warn("reserve item snapshot save failed. reserveItemId={} : {}", reserveItemId, throwable.getMessage());
+                });
+    }
+
+    /**
+     * 목록/상세 표시용 snapshot 조회
+     *
+     * @param reserveItemId
+     * @return stale 로 표시된 예약 물품, 없거나 max-staleness 가 지났으면 empty
+     */
+    public Mono<ReserveItem> findForDisplay(Long reserveItemId) {
+        return find(reserveItemId, maxStaleness);
+    }
+
+    /**
+     * 예약 기간 확인용 snapshot 조회 (재고/인원 확인에는 사용하지 않는다)
+     *
+     * @param reserveItemId
+     * @return stale 로 표시된 예약 물품, 없거나 check-max-staleness 가 지났으면 empty
+     */
+    public Mono<ReserveItem> findForCheck(Long reserveItemId) {
+        return find(reserveItemId, checkMaxStaleness);
+    }
+
+    private Mono<ReserveItem> find(Long reserveItemId, Duration staleness) {
+        if (!enabled || reserveItemId == null) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(SELECT)
+                .bind("reserveItemId", reserveItemId)
+                .map((row, metadata) -> toEntity(row))
+                .one()
+                .switchIfEmpty(Mono.fromRunnable(missing::increment))
+                .filter(reserveItem -> {
+                    if (reserveItem.getSnapshotDate().isBefore(LocalDateTime.now().minus(staleness))) {
+                        expired.increment();
+                        return false;
+                    }
+                    used.increment();
+                    return true;
+                })
+                .onErrorResume(throwable -> {
+                    log.warn("reserve item snapshot read failed. reserveItemId={} : {}", reserveItemId, throwable.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private DatabaseClient.GenericExecuteSpec execute(String sql, Map<String, Object> bindings) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec;
+    }
+
+    /**
+     * null 일 수 있는 값은 type 을 지정한 Parameter 로 bind 한다.
+     *
+     * @param reserveItem
+     * @return
+     */
+    private static Map<String, Object> bindings(ReserveItem reserveItem) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        bindings.put("reserveItemName", Parameter.fromOrEmpty(reserveItem.getReserveItemName(), String.class));
+        bindings.put("locationId", Parameter.fromOrEmpty(reserveItem.getLocationId(), Long.class));
+        bindings.put("locationName", Parameter.fromOrEmpty(
+                reserveItem.getLocation() == null ? null : reserveItem.getLocation().getLocationName(), String.class));
+        bindings.put("categoryId", Parameter.fromOrEmpty(reserveItem.getCategoryId(), String.class));
+        bindings.put("categoryName", Parameter.fromOrEmpty(reserveItem.getCategoryName(), String.class));
+        bindings.put("totalQty", Parameter.fromOrEmpty(reserveItem.getTotalQty(), Integer.class));
+        bindings.put("inventoryQty", Parameter.fromOrEmpty(reserveItem.getInventoryQty(), Integer.class));
+        bindings.put("operationStartDate", Parameter.fromOrEmpty(reserveItem.getOperationStartDate(), LocalDateTime.class));
+        bindings.put("operationEndDate", Parameter.fromOrEmpty(reserveItem.getOperationEndDate(), LocalDateTime.class));
+        bindings.put("reserveMeansId", Parameter.fromOrEmpty(reserveItem.getReserveMeansId(), String.class));
+        bindings.put("requestStartDate", Parameter.fromOrEmpty(reserveItem.getRequestStartDate(), LocalDateTime.class));
+        bindings.put("requestEndDate", Parameter.fromOrEmpty(reserveItem.getRequestEndDate(), LocalDateTime.class));
+        bindings.put("snapshotDate", LocalDateTime.now());
+        bindings.put("reserveItemId", reserveItem.getReserveItemId());
+        return bindings;
+    }
+
+    private static ReserveItem toEntity(Row row) {
+        Long locationId = row.get("location_id", Long.class);
+        String locationName = row.get("location_name", String.class);
+        Long totalQty = row.get("total_qty", Long.class);
+        Long inventoryQty = row.get("inventory_qty", Long.class);
+        return ReserveItem.builder()
+                .reserveItemId(row.get("reserve_item_id", Long.class))
+                .reserveItemName(row.get("reserve_item_name", String.class))
+                .locationId(locationId)
+                .location(locationName == null ? null : Location.builder()
+                        .locationId(locationId)
+                        .locationName(locationName)
+                        .build())
+                .categoryId(row.get("category_id", String.class))
+                .categoryName(row.get("category_name", String.class))
+                .totalQty(totalQty == null ? null : totalQty.intValue())
+                .inventoryQty(inventoryQty == null ? null : inventoryQty.intValue())
+                .operationStartDate(row.get("operation_start_date", LocalDateTime.class))
+                .operationEndDate(row.get("operation_end_date", LocalDateTime.class))
+                .reserveMeansId(row.get("reserve_means_id", String.class))
+                .requestStartDate(row.get("request_start_date", LocalDateTime.class))
+                .requestEndDate(row.get("request_end_date", LocalDateTime.class))
+                .build()
+                .markStale(row.get("snapshot_date", LocalDateTime.class));
+    }
+}
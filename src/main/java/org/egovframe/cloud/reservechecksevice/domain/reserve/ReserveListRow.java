@@ -0,0 +1,103 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.time.LocalDateTime;
+
+import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
+
+import io.r2dbc.spi.Row;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.With;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveListRow
+ * <p>
+ * 예약 목록 조회 결과 한 행 (읽기 전용)
+ * 목록 응답(ReserveListResponseDto)에 필요한 reserve 컬럼(ReserveProjection.LIST)과 예약 물품/예약자 relation 만 가진다.
+ * Reserve entity 가 아니므로 save 하거나 near cache 에 넣을 수 없고, relation 은 with* 로 새 행을 만들어 설정한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Getter
+@ToString
+public final class ReserveListRow {
+
+    private final String reserveId;
+    private final Long reserveItemId;
+    private final String userId;
+    private final String reserveStatusId;
+    private final LocalDateTime createDate;
+
+    @With
+    private final ReserveItem reserveItem;
+
+    @With
+    private final UserResponseDto user;
+
+    @Builder
+    public ReserveListRow(String reserveId, Long reserveItemId, String userId, String reserveStatusId,
+                          LocalDateTime createDate, ReserveItem reserveItem, UserResponseDto user) {
+        this.reserveId = reserveId;
+        this.reserveItemId = reserveItemId;
+        this.userId = userId;
+        this.reserveStatusId = reserveStatusId;
+        this.createDate = createDate;
+        this.reserveItem = reserveItem;
+        this.user = user;
+    }
+
+    /**
+     * 목록 조회 결과 행(ReserveProjection.LIST 컬럼)
+     *
+     * @param row
+     * @return
+     */
+    static ReserveListRow of(Row row) {
+        Object reserveId = row.get("reserve_id");
+        return ReserveListRow.builder()
+                .reserveId(reserveId == null ? null : reserveId.toString())
+                .reserveItemId(row.get("reserve_item_id", Long.class))
+                .userId(row.get("user_id", String.class))
+                .reserveStatusId(row.get("reserve_status_id", String.class))
+                .createDate(row.get("create_date", LocalDateTime.class))
+                .build();
+    }
+
+    /**
+     * 저장된 예약 -> 목록 행 (read model 저장, 응답 변환에 사용)
+     *
+     * @param reserve
+     * @return
+     */
+    public static ReserveListRow of(Reserve reserve) {
+        return ReserveListRow.builder()
+                .reserveId(reserve.getReserveId())
+                .reserveItemId(reserve.getReserveItemId())
+                .userId(reserve.getUserId())
+                .reserveStatusId(reserve.getReserveStatusId())
+                .createDate(reserve.getCreateDate())
+                .reserveItem(reserve.getReserveItem())
+                .user(reserve.getUser())
+                .build();
+    }
+
+    /**
+     * 예약 물품/예약자 relation 이 모두 있는지 여부
+     *
+     * @return
+     */
+    public boolean hasRelations() {
+        return reserveItem != null && user != null;
+    }
+}
@@ -0,0 +1,46 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.util.Locale;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReservePageMode
+ * <p>
+ * 목록 조회시 page 목록과 전체 건수를 가져오는 방식
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public enum ReservePageMode {
+
+    /**
+     * 목록 쿼리와 count 쿼리를 각각 실행 (기존 동작)
+     */
+    TWO_QUERY,
+    /**
+     * COUNT(*) OVER() 로 목록과 전체 건수를 한번에 조회 (MySQL 8 이상)
+     * window function 을 지원하지 않는 DB 이면 TWO_QUERY 로 동작한다.
+     */
+    WINDOW;
+
+    /**
+     * 설정값 변환 (two-query, window)
+     *
+     * @param value
+     * @return
+     */
+    public static ReservePageMode from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return TWO_QUERY;
+        }
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
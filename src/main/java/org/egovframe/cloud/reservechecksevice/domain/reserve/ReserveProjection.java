@@ -0,0 +1,65 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveProjection
+ * <p>
+ * 목록/기간 조회시 select 할 reserve 컬럼 목록
+ * 응답 dto 에서 사용하는 컬럼만 조회하여 예약 목적(reserve_purpose_content) 등 큰 컬럼의 전송/decode 비용을 줄인다.
+ * 조회 결과는 일부 필드만 채워진 Reserve 이므로 save 하면 안된다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      내려받기(EXPORT) 컬럼 추가
+ *  2026/10/19    shinmj      목록 조회 컬럼은 ReserveListRow 로 읽음
+ *  2026/10/19    shinmj      한건 조회 version(VERSION) 컬럼 추가
+ * </pre>
+ */
+public enum ReserveProjection {
+
+    /**
+     * 목록 조회 (ReserveListRow -> ReserveListResponseDto)
+     * 지역/분류/물품명 등은 예약 물품 relation 에서 채운다.
+     */
+    LIST("reserve_id", "reserve_item_id", "user_id", "reserve_status_id", "create_date"),
+
+    /**
+     * 기간별 예약 건 조회 (ReserveCountResponseDto)
+     */
+    RESERVE_DATE("reserve_id", "reserve_item_id", "reserve_qty",
+            "reserve_start_date", "reserve_end_date"),
+
+    /**
+     * 내려받기 (ReserveExportDto) - 예약 목적, 연락처 등 개인정보/대용량 컬럼 제외
+     */
+    EXPORT("reserve_id", "reserve_item_id", "location_id", "category_id", "reserve_qty",
+            "reserve_start_date", "reserve_end_date", "reserve_status_id", "user_id", "create_date"),
+
+    /**
+     * 한건 조회 version (ReserveResponseDto 의 reserve 컬럼과 수정일)
+     * 수정일은 초 단위이므로 같은 초 안의 변경도 구분되도록 응답에 포함되는 컬럼을 모두 조회한다.
+     */
+    VERSION("reserve_item_id", "reserve_qty", "reserve_start_date", "reserve_end_date", "reserve_purpose_content",
+            "attachment_code", "reserve_status_id", "user_id", "user_contact_no", "user_email_addr", "modified_date");
+
+    private final List<String> columns;
+
+    ReserveProjection(String... columns) {
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
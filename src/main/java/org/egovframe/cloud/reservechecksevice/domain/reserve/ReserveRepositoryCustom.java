@@ -2,11 +2,13 @@ package org.egovframe.cloud.reservechecksevice.domain.reserve;
 
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveRequestDto;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveRepositoryCustom
@@ -23,20 +25,52 @@ import java.time.LocalDateTime;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/19    shinmj       목록/기간 조회 컬럼 projection 적용
+ *  2026/10/19    shinmj       목록+전체 건수 단일 조회(searchPage) 추가
+ *  2026/10/19    shinmj       내려받기 chunk 조회, relation 일괄 조회 추가
+ *  2026/10/19    shinmj       조건부 조회(ETag)용 version 조회 추가
+ *  2026/10/19    shinmj       목록/한건 version 조회 제거
+ *  2026/10/19    shinmj       목록 조회 read model(reserve_view) 저장/갱신 추가
+ *  2026/10/19    shinmj       목록 조회는 읽기 전용 목록 행(ReserveListRow) 반환
+ *  2026/10/19    shinmj       read model 에 없는 relation 은 page 단위로 조회
+ *  2026/10/19    shinmj       목록/한건 version 조회, 예약 물품 version 증가 추가
+ *  2026/10/19    shinmj       near cache 확인용 version 조회 추가
  * </pre>
  */
 public interface ReserveRepositoryCustom {
-    Flux<Reserve> search(ReserveRequestDto requestDto, Pageable pageable);
+    /*
+     * search, searchForUser, searchPage 는 읽기 전용 목록 행(ReserveListRow)을 반환한다.
+     * 목록 행에는 read model 에 있는 relation 만 설정되므로 loadMissingRelations 로 나머지를 채운다.
+     * findAllByReserveDate 는 ReserveProjection.RESERVE_DATE 컬럼만 채워진 Reserve 를 반환한다.
+     */
+    Flux<ReserveListRow> search(ReserveRequestDto requestDto, Pageable pageable);
     Mono<Long> searchCount(ReserveRequestDto requestDto, Pageable pageable);
     Mono<Reserve> findReserveById(Long reserveId);
 
-    Flux<Reserve> searchForUser(ReserveRequestDto requestDto, Pageable pageable, String userId);
+    Flux<ReserveListRow> searchForUser(ReserveRequestDto requestDto, Pageable pageable, String userId);
     Mono<Long> searchCountForUser(ReserveRequestDto requestDto, Pageable pageable, String userId);
 
+    Mono<Page<ReserveListRow>> searchPage(ReserveRequestDto requestDto, Pageable pageable, String userId);
+
     Mono<Reserve> loadRelations(Reserve reserve);
+    Mono<List<ReserveListRow>> loadMissingRelations(List<ReserveListRow> rows);
+
+    Mono<Reserve> saveView(Reserve reserve);
+    Mono<Integer> refreshViewByReserveItem(Long reserveItemId);
+    Mono<Integer> refreshViewByUser(String userId);
+
+    Mono<List<Reserve>> loadRelationsInBatch(List<Reserve> reserves, int concurrency);
+
+    Flux<List<Reserve>> exportChunks(ReserveRequestDto requestDto, int chunkSize);
 
     Flux<Reserve> findAllByReserveDate(Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate);
 
     Mono<Reserve> insert(Reserve reserve);
 
+    Mono<ReserveVersion> findVersionById(Long reserveId);
+    Mono<ReserveVersion> searchVersion(ReserveRequestDto requestDto, Pageable pageable, String userId);
+    Mono<ReserveVersion> findVersionByReserveItemId(Long reserveItemId);
+    Mono<Integer> increaseReserveItemVersion(Long reserveItemId);
+    Mono<ReserveVersion> findCacheVersionById(String reserveId);
+
 }
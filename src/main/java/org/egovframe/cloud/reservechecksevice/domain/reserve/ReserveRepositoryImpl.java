@@ -2,27 +2,53 @@ package org.egovframe.cloud.reservechecksevice.domain.reserve;
 
 import static org.springframework.data.relational.core.query.Criteria.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveRequestDto;
+import org.egovframe.cloud.reservechecksevice.cache.ReserveNearCache;
 import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
+import org.egovframe.cloud.reservechecksevice.client.ServiceFailure;
 import org.egovframe.cloud.reservechecksevice.client.UserServiceClient;
+import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemRelationResponseDto;
 import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
+import org.egovframe.cloud.reservechecksevice.jfr.ReserveFlightRecorder;
+import org.egovframe.cloud.reservechecksevice.jfr.ReserveOperation;
+import org.egovframe.cloud.reservechecksevice.metrics.ReserveStage;
+import org.egovframe.cloud.reservechecksevice.metrics.ReserveStageMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
-import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
-import org.springframework.util.StringUtils;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 /**
  * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveRepositoryImpl
@@ -39,8 +65,29 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/19    shinmj       단계별 소요시간 metric 추가
+ *  2026/10/19    shinmj       signal 단위 log() 제거 (sampling trace 로 대체)
+ *  2026/10/19    shinmj       JFR event 기록 추가
+ *  2026/10/19    shinmj       목록/기간 조회시 필요한 컬럼만 select
+ *  2026/10/19    shinmj       COUNT(*) OVER() 로 목록과 전체 건수 한번에 조회 추가
+ *  2026/10/19    shinmj       목록/건수 조회를 조회조건 shape 별 cache 된 sql 로 변경
+ *  2026/10/19    shinmj       내려받기 chunk 조회, relation 일괄 조회 추가
+ *  2026/10/19    shinmj       조건부 조회(ETag)용 version 조회 추가
+ *  2026/10/19    shinmj       목록/한건 version 조회 제거
+ *  2026/10/19    shinmj       한건 조회 near cache 적용
+ *  2026/10/19    shinmj       목록 조회 read model(reserve_view) 적용
+ *  2026/10/19    shinmj       예약 물품 서비스 장애시 예약 물품 snapshot 사용
+ *  2026/10/19    shinmj       COUNT(*) OVER() 지원 여부는 기동시 확인 결과 사용
+ *  2026/10/19    shinmj       내려받기시 등록일이 없는 예약 포함, relation 일괄 조회 결과는 조회한 id 로 매핑
+ *  2026/10/19    shinmj       read model 저장은 목록 조회 transaction 밖에서 실행, 변경 반영 실패시 오류 반환
+ *  2026/10/19    shinmj       예약 물품 snapshot 은 서비스 장애시에만 사용
+ *  2026/10/19    shinmj       목록 조회는 Reserve entity 대신 목록 행(ReserveListRow) 반환
+ *  2026/10/19    shinmj       read model 에 없는 relation 은 page 단위로 조회, read model 저장은 동시성 제한/중복 제거
+ *  2026/10/19    shinmj       목록/한건 version 조회(read model version 포함), 예약 물품 version 증가 추가
+ *  2026/10/19    shinmj       near cache 는 version 이 같을 때만 사용
  * </pre>
  */
+@Slf4j
 @RequiredArgsConstructor
 public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
 
@@ -48,25 +95,47 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
     private final ReserveItemServiceClient reserveItemServiceClient;
     private final UserServiceClient userServiceClient;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ReserveStageMetrics stageMetrics;
+    private final ReserveFlightRecorder flightRecorder;
+    private final ReserveNearCache reserveNearCache;
+    private final ReserveItemSnapshotStore reserveItemSnapshotStore;
+    private final WindowFunctionSupport windowFunctionSupport;
+
+    /**
+     * 목록 조회시 read model(reserve_view) 을 join 하여 예약 물품/예약자 정보 조회
+     */
+    @Value("${reserve.search.read-model:true}")
+    private boolean readModel;
+
+    /**
+     * read model 에 없는 relation 조회 동시성, 조회한 relation 의 read model 저장 동시성
+     */
+    @Value("${reserve.search.relation-concurrency:8}")
+    private int relationConcurrency = 8;
+
+    @Value("${reserve.search.view-write-concurrency:4}")
+    private int viewWriteConcurrency = 4;
+
+    /**
+     * 최근 read model 에 저장한 행 (여러 목록 조회가 같은 행을 반복해서 저장하지 않도록)
+     */
+    private final Cache<String, Boolean> recentViewWrites = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
 
     /**
      * 조회조건 목록 조회
+     * relation 은 read model 에 있는 것만 설정하고, 나머지는 loadMissingRelations 로 조회한다.
      *
      * @param requestDto
      * @param pageable
      * @return
      */
     @Override
-    public Flux<Reserve> search(ReserveRequestDto requestDto, Pageable pageable) {
-
-        return entityTemplate.select(Reserve.class)
-                .matching(Query.query(Criteria.from(whereQuery(requestDto)))
-                        .sort(Sort.by(Sort.Direction.DESC, "create_date"))
-                        .with(pageable))
-                .all()
-                .flatMap(this::loadRelations)
-                .switchIfEmpty(Flux.empty())
-                .log();
+    public Flux<ReserveListRow> search(ReserveRequestDto requestDto, Pageable pageable) {
+        return flightRecorder.record(ReserveOperation.SEARCH, null,
+                stageMetrics.time(ReserveStage.DB_SEARCH, selectList(requestDto, pageable, null)));
     }
 
     /**
@@ -78,22 +147,24 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      */
     @Override
     public Mono<Long> searchCount(ReserveRequestDto requestDto, Pageable pageable) {
-        return entityTemplate.select(Reserve.class)
-                .matching(Query.query(Criteria.from(whereQuery(requestDto)))
-                        .sort(Sort.by(Sort.Direction.DESC, "create_date"))
-                        .with(pageable))
-                .count();
+        return flightRecorder.record(ReserveOperation.COUNT, null, null,
+                stageMetrics.time(ReserveStage.DB_COUNT, selectCount(requestDto, null)),
+                Long::longValue, null);
     }
 
     /**
      * 예약정보 한건 조회시 relation 같이 조회
+     * 예약 정보는 near cache 에 있고 version 이 DB 와 같으면 전체 컬럼을 조회하지 않는다.
+     * readOnly transaction 은 replica 로 조회할 수 있으므로 조회 결과는 cache 에 저장하지 않는다.
      *
      * @param reserveId
      * @return
      */
     @Override
     public Mono<Reserve> findReserveById(Long reserveId) {
-        return entityTemplate.selectOne(Query.query(where("reserve_id").is(reserveId)), Reserve.class)
+        String id = String.valueOf(reserveId);
+        return reserveNearCache.get(id, findCacheVersionById(id), stageMetrics.time(ReserveStage.DB_FIND,
+                        entityTemplate.selectOne(Query.query(where("reserve_id").is(reserveId)), Reserve.class)))
                 .flatMap(this::loadRelations)
                 .switchIfEmpty(Mono.empty());
 
@@ -101,6 +172,7 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
 
     /**
      * 사용자 예약 목록 조회
+     * relation 은 read model 에 있는 것만 설정하고, 나머지는 loadMissingRelations 로 조회한다.
      *
      * @param requestDto
      * @param pageable
@@ -108,13 +180,9 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      * @return
      */
     @Override
-    public Flux<Reserve> searchForUser(ReserveRequestDto requestDto, Pageable pageable, String userId) {
-        Criteria where = Criteria.from(whereQuery(requestDto));
-        return entityTemplate.select(Reserve.class)
-                .matching(Query.query(where.and(where("user_id").is(userId)))
-                        .sort(Sort.by(Sort.Direction.DESC, "create_date"))
-                        .with(pageable))
-                .all();
+    public Flux<ReserveListRow> searchForUser(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        return flightRecorder.record(ReserveOperation.SEARCH, null,
+                stageMetrics.time(ReserveStage.DB_SEARCH_FOR_USER, selectList(requestDto, pageable, userId)));
     }
 
     /**
@@ -127,12 +195,83 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      */
     @Override
     public Mono<Long> searchCountForUser(ReserveRequestDto requestDto, Pageable pageable, String userId) {
-        Criteria where = Criteria.from(whereQuery(requestDto));
-        return entityTemplate.select(Reserve.class)
-                .matching(Query.query(where.and(where("user_id").is(userId)))
-                        .sort(Sort.by(Sort.Direction.DESC, "create_date"))
-                        .with(pageable))
-                .count();
+        return flightRecorder.record(ReserveOperation.COUNT, null, null,
+                stageMetrics.time(ReserveStage.DB_COUNT_FOR_USER, selectCount(requestDto, userId)),
+                Long::longValue, null);
+    }
+
+    /**
+     * 목록과 전체 건수를 한번의 쿼리(COUNT(*) OVER())로 조회
+     * window function 을 지원하지 않는 DB(기동시 확인)이면 목록/건수 쿼리를 각각 실행한다.
+     * relation 은 read model 에 있는 것만 설정하고, 나머지는 loadMissingRelations 로 조회한다.
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
+     * @return
+     */
+    @Override
+    public Mono<Page<ReserveListRow>> searchPage(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        return windowFunctionSupport.isSupported()
+                .flatMap(supported -> supported
+                        ? flightRecorder.record(ReserveOperation.SEARCH, null, null,
+                                stageMetrics.time(ReserveStage.DB_SEARCH_PAGE, searchPageWindow(requestDto, pageable, userId)),
+                                Page::getNumberOfElements, null)
+                        : searchPageTwoQuery(requestDto, pageable, userId));
+    }
+
+    /**
+     * COUNT(*) OVER() 조회
+     * 마지막 page 이후를 요청하면 row 가 없어 건수를 알 수 없으므로 count 쿼리를 추가로 실행한다.
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId
+     * @return
+     */
+    private Mono<Page<ReserveListRow>> searchPageWindow(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        return execute(ReserveSearchSql.windowPage(requestDto, pageable, userId, readModel)).map((row, metadata) -> Tuples.of(
+                        readListRow(row, metadata),
+                        row.get(ReserveSearchSql.TOTAL_COUNT, Long.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    List<ReserveListRow> content = new ArrayList<>(rows.size());
+                    for (Tuple2<ReserveListRow, Long> row : rows) {
+                        content.add(row.getT1());
+                    }
+                    if (!rows.isEmpty()) {
+                        return Mono.just(page(content, pageable, rows.get(0).getT2()));
+                    }
+                    if (pageable.getOffset() == 0) {
+                        return Mono.just(page(content, pageable, 0L));
+                    }
+                    return selectCount(requestDto, userId)
+                            .map(total -> page(content, pageable, total));
+                });
+    }
+
+    /**
+     * 목록, 건수 쿼리를 각각 실행
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId
+     * @return
+     */
+    private Mono<Page<ReserveListRow>> searchPageTwoQuery(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        return stageMetrics.time(ReserveStage.DB_SEARCH, selectList(requestDto, pageable, userId)).collectList()
+                .zipWith(stageMetrics.time(ReserveStage.DB_COUNT, selectCount(requestDto, userId)))
+                .map(tuple -> page(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    private static Page<ReserveListRow> page(List<ReserveListRow> content, Pageable pageable, long total) {
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static boolean isDuplicateKey(Throwable throwable) {
+        return throwable instanceof DataIntegrityViolationException
+                || throwable instanceof R2dbcDataIntegrityViolationException;
     }
 
     /**
@@ -146,17 +285,284 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
         //load user
         Mono<Reserve> mono = Mono.just(reserve)
                 .zipWith(findUserByUserId(reserve.getUserId()))
-            .log()
                 .map(tuple -> tuple.getT1().setUser(tuple.getT2()))
                 .switchIfEmpty(Mono.just(reserve));
 
         //load reserveItem
         mono = mono.zipWith(findReserveItemWithRelation(reserve.getReserveItemId()))
-            .log()
                 .map(tuple -> tuple.getT1().setReserveItem(tuple.getT2()))
                 .switchIfEmpty(Mono.just(reserve));
 
-        return mono;
+        return flightRecorder.record(ReserveOperation.RELATION, reserve.getReserveId(), reserve.getReserveItemId(), mono);
+    }
+
+    /**
+     * read model 에서 채우지 못한 relation 을 page 단위로 조회
+     * 같은 예약자/예약 물품은 한번만 조회하고(외부 서비스 호출 동시성은 relation-concurrency 로 제한), 행 순서는 유지한다.
+     * read model 을 사용하면 새로 채운 행을 read model 에 저장한다. (목록 응답은 저장을 기다리지 않는다)
+     *
+     * @param rows
+     * @return
+     */
+    @Override
+    public Mono<List<ReserveListRow>> loadMissingRelations(final List<ReserveListRow> rows) {
+        Set<String> userIds = new LinkedHashSet<>();
+        Set<Long> reserveItemIds = new LinkedHashSet<>();
+        for (ReserveListRow row : rows) {
+            if (row.getUser() == null && row.getUserId() != null) {
+                userIds.add(row.getUserId());
+            }
+            if (row.getReserveItem() == null && row.getReserveItemId() != null) {
+                reserveItemIds.add(row.getReserveItemId());
+            }
+        }
+        if (userIds.isEmpty() && reserveItemIds.isEmpty()) {
+            return Mono.just(rows);
+        }
+
+        return findRelations(userIds, reserveItemIds, relationConcurrency)
+                .map(relations -> {
+                    List<ReserveListRow> loaded = new ArrayList<>(rows.size());
+                    List<ReserveListRow> filled = new ArrayList<>();
+                    for (ReserveListRow row : rows) {
+                        ReserveListRow applied = row;
+                        UserResponseDto user = row.getUser() == null ? relations.getT1().get(row.getUserId()) : null;
+                        if (user != null) {
+                            applied = applied.withUser(user);
+                        }
+                        ReserveItem reserveItem = row.getReserveItem() == null ? relations.getT2().get(row.getReserveItemId()) : null;
+                        if (reserveItem != null) {
+                            applied = applied.withReserveItem(reserveItem);
+                        }
+                        loaded.add(applied);
+                        if (applied != row) {
+                            filled.add(applied);
+                        }
+                    }
+                    return Tuples.of(loaded, filled);
+                })
+                .doOnNext(tuple -> {
+                    if (readModel && !tuple.getT2().isEmpty()) {
+                        writeBackViews(tuple.getT2()).subscribe();
+                    }
+                })
+                .map(Tuple2::getT1);
+    }
+
+    /**
+     * 목록 조회에서 채운 relation 을 read model 에 한번에 저장
+     * 목록 조회는 readOnly transaction(replica)이므로 호출한 요청의 transaction 과 관계없이(context 를 비워) primary 에 저장한다.
+     * 동시 저장 수는 view-write-concurrency 로 제한하고, 최근 저장한 행은 다시 저장하지 않는다.
+     * 저장에 실패한 행은 기록만 하고 다음 목록 조회시 다시 저장한다.
+     *
+     * @param rows
+     * @return
+     */
+    Mono<Void> writeBackViews(final List<ReserveListRow> rows) {
+        List<ReserveListRow> pending = new ArrayList<>(rows.size());
+        for (ReserveListRow row : rows) {
+            // subscribe 전에 표시하여 동시에 들어온 목록 조회가 같은 행을 저장하지 않도록 한다
+            if (isViewWritable(row) && recentViewWrites.asMap().putIfAbsent(viewWriteKey(row), Boolean.TRUE) == null) {
+                pending.add(row);
+            }
+        }
+        if (pending.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(pending)
+                .flatMap(row -> writeView(row)
+                        .onErrorResume(throwable -> {
+                            recentViewWrites.invalidate(viewWriteKey(row));
+                            log.warn("reserve_view save failed (reserveId={}) : {}", row.getReserveId(), throwable.getMessage());
+                            return Mono.empty();
+                        }), viewWriteConcurrency)
+                .then()
+                .contextWrite(context -> Context.empty());
+    }
+
+    private static boolean isViewWritable(ReserveListRow row) {
+        return row.getReserveItem() != null && !row.getReserveItem().isStale() && row.getUser() != null;
+    }
+
+    private static String viewWriteKey(ReserveListRow row) {
+        return row.getReserveId() + "/" + row.getReserveItemId() + "/" + row.getUserId();
+    }
+
+    /**
+     * read model(reserve_view) 저장
+     * 예약 물품/예약자 relation 이 모두 조회된 경우에만 저장하고, 실패해도 예약 처리는 계속한다 (다음 목록 조회시 다시 저장).
+     * 예약 물품이 snapshot(stale) 이면 저장하지 않는다.
+     *
+     * @param reserve
+     * @return
+     */
+    @Override
+    public Mono<Reserve> saveView(final Reserve reserve) {
+        ReserveListRow row = ReserveListRow.of(reserve);
+        if (!isViewWritable(row)) {
+            return Mono.just(reserve);
+        }
+        return writeView(row)
+                .thenReturn(reserve)
+                .onErrorResume(throwable -> {
+                    log.warn("reserve_view save failed (reserveId={}) : {}", reserve.getReserveId(), throwable.getMessage());
+                    return Mono.just(reserve);
+                });
+    }
+
+    /**
+     * read model 한건 수정, 없으면 등록
+     *
+     * @param row
+     * @return
+     */
+    private Mono<Integer> writeView(final ReserveListRow row) {
+        return stageMetrics.time(ReserveStage.DB_VIEW, execute(ReserveView.update(row)).fetch().rowsUpdated()
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(updated)
+                        : execute(ReserveView.insert(row)).fetch().rowsUpdated()
+                                // 동시에 다른 요청이 먼저 insert 한 경우
+                                .onErrorResume(ReserveRepositoryImpl::isDuplicateKey, throwable -> Mono.just(0))));
+    }
+
+    /**
+     * 예약 물품 변경 event - 예약 물품을 다시 조회하여 read model 에 반영
+     * 예약 물품 서비스 장애시 snapshot 을 사용하지 않고 오류를 반환한다. (message 를 다시 처리하도록)
+     *
+     * @param reserveItemId
+     * @return 반영한 예약 건수
+     */
+    @Override
+    public Mono<Integer> refreshViewByReserveItem(Long reserveItemId) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("reserve-item");
+
+        return stageMetrics.time(ReserveStage.CLIENT_RESERVE_ITEM_RELATION,
+                reserveItemServiceClient.findByIdWithRelations(reserveItemId)
+                    .transform(CircuitBreakerOperator.of(circuitBreaker)))
+            .map(ReserveItemRelationResponseDto::toEntity)
+            .flatMap(reserveItem -> stageMetrics.time(ReserveStage.DB_VIEW,
+                    execute(ReserveView.updateReserveItem(reserveItemId, reserveItem)).fetch().rowsUpdated()))
+            .defaultIfEmpty(0);
+    }
+
+    /**
+     * 사용자 변경 event - 사용자를 다시 조회하여 read model 에 반영
+     * 사용자 서비스 장애시 오류를 반환한다. (message 를 다시 처리하도록)
+     *
+     * @param userId
+     * @return 반영한 예약 건수
+     */
+    @Override
+    public Mono<Integer> refreshViewByUser(String userId) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("user");
+
+        return stageMetrics.time(ReserveStage.CLIENT_USER,
+                userServiceClient.findByUserId(userId)
+                    .transform(CircuitBreakerOperator.of(circuitBreaker)))
+            .flatMap(user -> stageMetrics.time(ReserveStage.DB_VIEW,
+                    execute(ReserveView.updateUser(userId, user)).fetch().rowsUpdated()))
+            .defaultIfEmpty(0);
+    }
+
+    /**
+     * 여러 예약의 relation 일괄 조회
+     * 같은 예약자/예약 물품은 한번만 조회하고, 외부 서비스 호출 동시성은 concurrency 로 제한한다.
+     *
+     * @param reserves
+     * @param concurrency
+     * @return
+     */
+    @Override
+    public Mono<List<Reserve>> loadRelationsInBatch(List<Reserve> reserves, int concurrency) {
+        Set<String> userIds = new LinkedHashSet<>();
+        Set<Long> reserveItemIds = new LinkedHashSet<>();
+        for (Reserve reserve : reserves) {
+            if (reserve.getUserId() != null) {
+                userIds.add(reserve.getUserId());
+            }
+            if (reserve.getReserveItemId() != null) {
+                reserveItemIds.add(reserve.getReserveItemId());
+            }
+        }
+
+        return findRelations(userIds, reserveItemIds, concurrency)
+                .map(tuple -> {
+                    for (Reserve reserve : reserves) {
+                        UserResponseDto user = tuple.getT1().get(reserve.getUserId());
+                        if (user != null) {
+                            reserve.setUser(user);
+                        }
+                        ReserveItem reserveItem = tuple.getT2().get(reserve.getReserveItemId());
+                        if (reserveItem != null) {
+                            reserve.setReserveItem(reserveItem);
+                        }
+                    }
+                    return reserves;
+                });
+    }
+
+    /**
+     * 예약자/예약 물품 일괄 조회 (응답 값이 아닌 조회한 id 로 매핑한다)
+     *
+     * @param userIds
+     * @param reserveItemIds
+     * @param concurrency
+     * @return 예약자 id 별 예약자, 예약 물품 id 별 예약 물품
+     */
+    private Mono<Tuple2<Map<String, UserResponseDto>, Map<Long, ReserveItem>>> findRelations(Set<String> userIds,
+                                                                                           Set<Long> reserveItemIds,
+                                                                                           int concurrency) {
+        Mono<Map<String, UserResponseDto>> users = Flux.fromIterable(userIds)
+                .flatMap(userId -> findUserByUserId(userId)
+                        .map(user -> Tuples.of(userId, user)), concurrency)
+                .collectMap(Tuple2::getT1, Tuple2::getT2);
+        Mono<Map<Long, ReserveItem>> reserveItems = Flux.fromIterable(reserveItemIds)
+                .flatMap(reserveItemId -> findReserveItemWithRelation(reserveItemId)
+                        .map(reserveItem -> Tuples.of(reserveItemId, reserveItem)), concurrency)
+                .collectMap(Tuple2::getT1, Tuple2::getT2);
+
+        return Mono.zip(users, reserveItems);
+    }
+
+    /**
+     * 내려받기 - 조회조건에 맞는 예약을 등록일 역순으로 chunkSize 건씩 조회
+     * 이전 chunk 의 마지막 행(등록일, 예약 id) 다음부터 조회(keyset)하므로 offset 없이 끝까지 같은 비용으로 읽고,
+     * 다음 chunk 는 이전 chunk 가 소비된 뒤에 조회하므로 전체 건수와 관계없이 chunk 단위 메모리만 사용한다.
+     * 등록일이 없는 예약은 등록일이 있는 예약을 모두 읽은 뒤 예약 id 역순으로 조회한다.
+     *
+     * @param requestDto
+     * @param chunkSize
+     * @return
+     */
+    @Override
+    public Flux<List<Reserve>> exportChunks(ReserveRequestDto requestDto, int chunkSize) {
+        return Flux.defer(() -> {
+            AtomicReference<Reserve> last = new AtomicReference<>();
+            AtomicBoolean nullCreateDate = new AtomicBoolean(false);
+            AtomicBoolean hasNext = new AtomicBoolean(true);
+            return Mono.defer(() -> stageMetrics.time(ReserveStage.DB_EXPORT,
+                            execute(nullCreateDate.get()
+                                    ? ReserveSearchSql.nullCreateDateChunk(requestDto, last.get(), chunkSize)
+                                    : ReserveSearchSql.exportChunk(requestDto, last.get(), chunkSize))
+                                    .map((row, metadata) -> entityTemplate.getConverter().read(Reserve.class, row, metadata))
+                                    .all()
+                                    .collectList()))
+                    .doOnNext(chunk -> {
+                        if (chunk.size() < chunkSize && !nullCreateDate.get()) {
+                            // 등록일이 있는 예약을 모두 읽었으면 등록일이 없는 예약을 처음부터 조회
+                            nullCreateDate.set(true);
+                            last.set(null);
+                            hasNext.set(true);
+                            return;
+                        }
+                        hasNext.set(chunk.size() == chunkSize);
+                        if (!chunk.isEmpty()) {
+                            last.set(chunk.get(chunk.size() - 1));
+                        }
+                    })
+                    .repeat(hasNext::get)
+                    .filter(chunk -> !chunk.isEmpty());
+        });
     }
 
     /**
@@ -169,12 +575,12 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      */
     @Override
     public Flux<Reserve> findAllByReserveDate(Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
-        return entityTemplate.select(Reserve.class)
+        return stageMetrics.time(ReserveStage.DB_RESERVE_DATE, entityTemplate.select(Reserve.class)
                 .matching(Query.query(where("reserve_item_id").is(reserveItemId)
                         .and ("reserve_start_date").lessThanOrEquals(endDate)
                         .and("reserve_end_date").greaterThanOrEquals(startDate)
-                ))
-                .all();
+                ).columns(ReserveProjection.RESERVE_DATE.getColumns()))
+                .all());
     }
 
     /**
@@ -186,11 +592,119 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      */
     @Override
     public Mono<Reserve> insert(Reserve reserve) {
-        return entityTemplate.insert(reserve);
+        return stageMetrics.time(ReserveStage.DB_INSERT, entityTemplate.insert(reserve));
+    }
+
+    /**
+     * 예약 한건 version 조회
+     * 응답의 예약자/예약 물품 정보는 read model 의 version 으로 대신하므로 read model 을 사용하지 않거나,
+     * read model 이 없거나 예약과 다른 예약 물품/예약자로 저장되어 있으면 empty
+     *
+     * @param reserveId
+     * @return
+     */
+    @Override
+    public Mono<ReserveVersion> findVersionById(Long reserveId) {
+        if (!readModel) {
+            return Mono.empty();
+        }
+        return stageMetrics.time(ReserveStage.DB_VERSION, execute(ReserveSearchSql.versionById(reserveId))
+                .map(ReserveRepositoryImpl::currentVersion)
+                .one())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * 조회조건에 맞는 목록 page 의 version 조회 (행별 목록 컬럼, 수정일, read model version 과 전체 건수)
+     * 한 행이라도 read model 이 없거나 예약과 다르면 그 행의 예약자/예약 물품 정보는 서비스에서 조회하므로 empty
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
+     * @return
+     */
+    @Override
+    public Mono<ReserveVersion> searchVersion(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        if (!readModel) {
+            return Mono.empty();
+        }
+        return stageMetrics.time(ReserveStage.DB_VERSION, execute(ReserveSearchSql.version(requestDto, pageable, userId))
+                .map(ReserveRepositoryImpl::currentVersion)
+                .all()
+                .collectList()
+                .zipWith(selectCount(requestDto, userId)))
+                .flatMap(tuple -> {
+                    List<ReserveVersion> versions = new ArrayList<>(tuple.getT1().size());
+                    for (Optional<ReserveVersion> version : tuple.getT1()) {
+                        if (!version.isPresent()) {
+                            return Mono.<ReserveVersion>empty();
+                        }
+                        versions.add(version.get());
+                    }
+                    return Mono.just(ReserveVersion.combine(versions, tuple.getT2()));
+                });
+    }
+
+    private static Optional<ReserveVersion> currentVersion(Row row, RowMetadata metadata) {
+        return ReserveView.isCurrent(row) ? Optional.of(ReserveVersion.of(row, metadata)) : Optional.empty();
+    }
+
+    /**
+     * 예약 물품의 예약 version 조회
+     *
+     * @param reserveItemId
+     * @return
+     */
+    @Override
+    public Mono<ReserveVersion> findVersionByReserveItemId(Long reserveItemId) {
+        return selectVersion(ReserveSearchSql.versionByReserveItem(reserveItemId));
+    }
+
+    /**
+     * 예약 물품 version 증가
+     * 예약 저장과 같은 transaction 에서 실행하여 같은 초 안의 변경도 기간 조회 ETag 가 바뀌도록 한다.
+     * 첫 저장이면 등록하고, 동시에 다른 요청이 먼저 등록한 경우 다시 증가시킨다.
+     *
+     * @param reserveItemId
+     * @return
+     */
+    @Override
+    public Mono<Integer> increaseReserveItemVersion(Long reserveItemId) {
+        if (reserveItemId == null) {
+            return Mono.just(0);
+        }
+        Mono<Integer> increase = execute(ReserveSearchSql.increaseReserveItemVersion(reserveItemId)).fetch().rowsUpdated();
+        return stageMetrics.time(ReserveStage.DB_VERSION_INCREASE, increase
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(updated)
+                        : execute(ReserveSearchSql.insertReserveItemVersion(reserveItemId)).fetch().rowsUpdated()
+                                .onErrorResume(ReserveRepositoryImpl::isDuplicateKey, throwable -> increase)));
+    }
+
+    /**
+     * near cache 확인용 예약 version 조회 (수정일, 상태, 예약 물품 version)
+     * 예약 물품 version 은 저장할 때마다 증가하므로 같은 초 안의 변경도 구분한다.
+     *
+     * @param reserveId
+     * @return
+     */
+    @Override
+    public Mono<ReserveVersion> findCacheVersionById(String reserveId) {
+        return stageMetrics.time(ReserveStage.DB_CACHE_VERSION, execute(ReserveSearchSql.cacheVersionById(reserveId))
+                .map(ReserveVersion::of)
+                .one());
+    }
+
+    private Mono<ReserveVersion> selectVersion(ReserveSearchSql searchSql) {
+        return stageMetrics.time(ReserveStage.DB_VERSION, execute(searchSql)
+                .map(ReserveVersion::of)
+                .one());
     }
 
     /**
      * 예약 물품 정보 조회
+     * 조회한 정보는 snapshot 으로 저장하고, 예약 물품 서비스 장애(circuit breaker open, timeout, 연결 오류, 5xx)시 snapshot(stale)을 사용한다.
+     * 4xx 등 장애가 아닌 오류는 예약 물품 없이 조회한다.
      *
      * @param reserveItemId
      * @return
@@ -198,11 +712,14 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
     private Mono<ReserveItem> findReserveItemWithRelation(Long reserveItemId) {
         CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("reserve-item");
 
-        return reserveItemServiceClient.findByIdWithRelations(reserveItemId)
-            .transform(CircuitBreakerOperator.of(circuitBreaker))
-            .onErrorResume(throwable -> Mono.empty())
-            .log()
-            .flatMap(reserveItemRelationResponseDto -> Mono.just(reserveItemRelationResponseDto.toEntity()));
+        return stageMetrics.time(ReserveStage.CLIENT_RESERVE_ITEM_RELATION,
+                reserveItemServiceClient.findByIdWithRelations(reserveItemId)
+                    .transform(CircuitBreakerOperator.of(circuitBreaker)))
+            .map(ReserveItemRelationResponseDto::toEntity)
+            .doOnNext(reserveItemSnapshotStore::refresh)
+            .onErrorResume(throwable -> ServiceFailure.isUnavailable(throwable)
+                    ? reserveItemSnapshotStore.findForDisplay(reserveItemId)
+                    : Mono.empty());
     }
 
     /**
@@ -213,44 +730,70 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      */
     private Mono<UserResponseDto> findUserByUserId(String userId ) {
         CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("user");
-        return userServiceClient.findByUserId(userId)
-            .transform(CircuitBreakerOperator.of(circuitBreaker))
-            .onErrorResume(throwable -> Mono.empty())
-            .log();
+        return stageMetrics.time(ReserveStage.CLIENT_USER,
+                userServiceClient.findByUserId(userId)
+                    .transform(CircuitBreakerOperator.of(circuitBreaker)))
+            .onErrorResume(throwable -> Mono.empty());
     }
 
     /**
-     * 조회조건 쿼리
+     * 목록 조회 (ReserveProjection.LIST 컬럼, 등록일 역순)
      *
      * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
      * @return
      */
-    private List<Criteria> whereQuery(ReserveRequestDto requestDto) {
-        List<Criteria>criteriaList = new ArrayList<>();
-
-        if (requestDto.getLocationId() != null) {
-            criteriaList.add(where("location_id").is(requestDto.getLocationId()));
-        }
+    private Flux<ReserveListRow> selectList(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        return execute(ReserveSearchSql.list(requestDto, pageable, userId, readModel))
+                .map(this::readListRow)
+                .all();
+    }
 
-        if (requestDto.getCategoryId() != null) {
-            criteriaList.add(where("category_id").is(requestDto.getCategoryId()));
-        }
+    /**
+     * 목록 조회 행 -> ReserveListRow (read model 을 사용하면 예약 물품/예약자 relation 도 설정)
+     *
+     * @param row
+     * @param metadata
+     * @return
+     */
+    private ReserveListRow readListRow(Row row, RowMetadata metadata) {
+        ReserveListRow listRow = ReserveListRow.of(row);
+        return readModel ? ReserveView.apply(listRow, row) : listRow;
+    }
 
-        if (StringUtils.hasText(requestDto.getKeyword())) {
-            if ("item".equals(requestDto.getKeywordType())) {
-                criteriaList.add(where("reserve_item_id").like(likeText(requestDto.getKeyword())));
-            }
-        }
-        return criteriaList;
+    /**
+     * 건수 조회
+     *
+     * @param requestDto
+     * @param userId     null 이면 전체 사용자
+     * @return
+     */
+    private Mono<Long> selectCount(ReserveRequestDto requestDto, String userId) {
+        return execute(ReserveSearchSql.count(requestDto, userId))
+                .map(row -> row.get(0, Long.class))
+                .one();
     }
 
     /**
-     * like 검색
+     * cache 된 sql 에 조회조건 값 bind
      *
-     * @param keyword
+     * @param searchSql
      * @return
      */
-    private String likeText(String keyword) {
-        return "%" + keyword + "%";
+    private DatabaseClient.GenericExecuteSpec execute(ReserveSearchSql searchSql) {
+        return execute(searchSql.getSql(), searchSql.getBindings());
+    }
+
+    private DatabaseClient.GenericExecuteSpec execute(ReserveView view) {
+        return execute(view.getSql(), view.getBindings());
+    }
+
+    private DatabaseClient.GenericExecuteSpec execute(String sql, Map<String, Object> bindings) {
+        DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql);
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec;
     }
 }
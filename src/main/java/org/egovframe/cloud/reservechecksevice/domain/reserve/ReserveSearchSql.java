@@ -0,0 +1,423 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveRequestDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveSearchSql
+ * <p>
+ * 목록 조회 sql 과 bind 값
+ * 조회조건은 지역, 예약유형, 예약 물품(keyword), 사용자이고 named parameter(:name) 로 bind 한다.
+ * sql 문자열은 조회조건 조합(shape - 어떤 조건이 있는지)에 따라서만 달라지므로 shape 별로 한번만 만들어 재사용한다.
+ * 값은 모두 bind 하므로(LIMIT/OFFSET 포함) 같은 shape 는 같은 sql 이 되어 DB 의 prepared statement 를 재사용할 수 있다.
+ * 조건부 조회(ETag)에 사용하는 version 조회 sql 과 예약 물품별 version 증가 sql 도 정의한다.
+ * 목록 조회는 read model(reserve_view)을 join 하여 예약 물품/예약자 정보를 함께 조회할 수 있다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      조회조건 shape 별 sql template cache 추가
+ *  2026/10/19    shinmj      내려받기용 keyset(등록일, 예약 id) 조회 추가
+ *  2026/10/19    shinmj      조건부 조회(ETag)용 version 조회 추가
+ *  2026/10/19    shinmj      목록 조회 read model(reserve_view) join 추가
+ *  2026/10/19    shinmj      내려받기 keyset 조회시 등록일이 없는 예약 포함
+ *  2026/10/19    shinmj      목록/한건 version 조회 제거
+ *  2026/10/19    shinmj      목록/한건 version 조회를 read model version 포함하여 추가, 예약 물품별 version 증가 추가
+ *  2026/10/19    shinmj      near cache 확인용 version 조회 추가
+ * </pre>
+ */
+final class ReserveSearchSql {
+
+    static final String TOTAL_COUNT = "total_count";
+
+    private enum Kind {
+        LIST,
+        COUNT,
+        WINDOW_PAGE,
+        EXPORT,
+        VERSION
+    }
+
+    /**
+     * 예약 version 집계 (건수, 수량 합, 최종 등록/수정일)
+     */
+    private static final String VERSION_COLUMNS =
+            "COUNT(*), SUM(reserve_qty), MAX(create_date), MAX(modified_date)";
+
+    /**
+     * 예약 물품 version - 물품의 예약이 신청/수정/승인/취소될 때마다 바뀐다.
+     * 집계의 수정일은 초 단위이므로 예약 저장 transaction 에서 증가시키는 reserve_item_version 을 함께 조회한다.
+     * (집계는 다른 서비스가 reserve 를 직접 변경한 경우를 위해 유지한다)
+     */
+    private static final String VERSION_BY_RESERVE_ITEM = "SELECT " + VERSION_COLUMNS
+            + ", (SELECT version FROM reserve_item_version WHERE reserve_item_id = :versionReserveItemId)"
+            + " FROM reserve WHERE reserve_item_id = :reserveItemId";
+
+    /**
+     * 한건 조회 version - 응답에 포함되는 reserve 컬럼(ReserveProjection.VERSION)과 read model 의 예약 물품/예약자 version
+     */
+    private static final String VERSION_BY_ID = "SELECT r." + String.join(", r.", ReserveProjection.VERSION.getColumns())
+            + ", " + ReserveView.VERSION_COLUMNS + ReserveView.FROM + " WHERE r.reserve_id = :reserveId";
+
+    /**
+     * near cache 확인용 예약 version - 수정일(초 단위), 상태와 저장할 때마다 증가하는 예약 물품 version
+     */
+    private static final String CACHE_VERSION_BY_ID = "SELECT r.modified_date, r.reserve_status_id,"
+            + " (SELECT version FROM reserve_item_version WHERE reserve_item_id = r.reserve_item_id)"
+            + " FROM reserve r WHERE r.reserve_id = :reserveId";
+
+    /**
+     * 예약 물품별 version 증가 (없으면 INSERT_RESERVE_ITEM_VERSION)
+     */
+    private static final String INCREASE_RESERVE_ITEM_VERSION =
+            "UPDATE reserve_item_version SET version = version + 1 WHERE reserve_item_id = :reserveItemId";
+
+    private static final String INSERT_RESERVE_ITEM_VERSION =
+            "INSERT INTO reserve_item_version (reserve_item_id, version) VALUES (:reserveItemId, 1)";
+
+    // 조회조건 shape bit
+    private static final int LOCATION = 1;
+    private static final int CATEGORY = 1 << 1;
+    private static final int KEYWORD = 1 << 2;
+    private static final int USER = 1 << 3;
+    private static final int PAGED = 1 << 4;
+    private static final int AFTER = 1 << 5;
+    private static final int VIEW = 1 << 6;
+    private static final int NULL_DATE = 1 << 7;
+    private static final int KIND_SHIFT = 8;
+
+    /**
+     * (kind, shape) -> sql
+     * 조합 수가 고정(5 * 256)이므로 크기 제한은 두지 않는다.
+     */
+    private static final ConcurrentMap<Integer, String> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final String sql;
+    private final Map<String, Object> bindings;
+
+    private ReserveSearchSql(String sql, Map<String, Object> bindings) {
+        this.sql = sql;
+        this.bindings = Collections.unmodifiableMap(bindings);
+    }
+
+    /**
+     * 목록 조회 sql (ReserveProjection.LIST 컬럼, 등록일 역순)
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
+     * @return
+     */
+    static ReserveSearchSql list(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        return list(requestDto, pageable, userId, false);
+    }
+
+    /**
+     * 목록 조회 sql
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
+     * @param withView   true 이면 read model(ReserveView.SELECT_COLUMNS) 컬럼을 함께 조회
+     * @return
+     */
+    static ReserveSearchSql list(ReserveRequestDto requestDto, Pageable pageable, String userId, boolean withView) {
+        return of(Kind.LIST, requestDto, pageable, userId, withView);
+    }
+
+    /**
+     * 건수 조회 sql
+     *
+     * @param requestDto
+     * @param userId     null 이면 전체 사용자
+     * @return
+     */
+    static ReserveSearchSql count(ReserveRequestDto requestDto, String userId) {
+        return of(Kind.COUNT, requestDto, Pageable.unpaged(), userId, false);
+    }
+
+    /**
+     * 목록과 전체 건수(COUNT(*) OVER())를 함께 조회하는 sql
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
+     * @return
+     */
+    static ReserveSearchSql windowPage(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        return windowPage(requestDto, pageable, userId, false);
+    }
+
+    /**
+     * 목록과 전체 건수를 함께 조회하는 sql
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
+     * @param withView   true 이면 read model(ReserveView.SELECT_COLUMNS) 컬럼을 함께 조회
+     * @return
+     */
+    static ReserveSearchSql windowPage(ReserveRequestDto requestDto, Pageable pageable, String userId, boolean withView) {
+        return of(Kind.WINDOW_PAGE, requestDto, pageable, userId, withView);
+    }
+
+    /**
+     * 목록 version 조회 sql
+     * 목록 조회와 같은 조건/page 의 행별 reserve 목록 컬럼, 수정일과 read model 의 예약 물품/예약자 version 을 조회한다.
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
+     * @return
+     */
+    static ReserveSearchSql version(ReserveRequestDto requestDto, Pageable pageable, String userId) {
+        return of(Kind.VERSION, requestDto, pageable, userId, true);
+    }
+
+    /**
+     * 한건 version 조회 sql
+     *
+     * @param reserveId
+     * @return
+     */
+    static ReserveSearchSql versionById(Long reserveId) {
+        return new ReserveSearchSql(VERSION_BY_ID, Collections.singletonMap("reserveId", reserveId));
+    }
+
+    /**
+     * near cache 확인용 한건 version 조회 sql
+     *
+     * @param reserveId
+     * @return
+     */
+    static ReserveSearchSql cacheVersionById(String reserveId) {
+        return new ReserveSearchSql(CACHE_VERSION_BY_ID, Collections.singletonMap("reserveId", reserveId));
+    }
+
+    /**
+     * 예약 물품 version 조회 sql
+     *
+     * @param reserveItemId
+     * @return
+     */
+    static ReserveSearchSql versionByReserveItem(Long reserveItemId) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        // 같은 값이지만 anonymous bind marker(?) 를 쓰는 driver 를 위해 이름을 따로 둔다
+        bindings.put("versionReserveItemId", reserveItemId);
+        bindings.put("reserveItemId", reserveItemId);
+        return new ReserveSearchSql(VERSION_BY_RESERVE_ITEM, bindings);
+    }
+
+    /**
+     * 예약 물품 version 증가 sql
+     *
+     * @param reserveItemId
+     * @return
+     */
+    static ReserveSearchSql increaseReserveItemVersion(Long reserveItemId) {
+        return new ReserveSearchSql(INCREASE_RESERVE_ITEM_VERSION, Collections.singletonMap("reserveItemId", reserveItemId));
+    }
+
+    /**
+     * 예약 물품 version 등록 sql (첫 예약 저장)
+     *
+     * @param reserveItemId
+     * @return
+     */
+    static ReserveSearchSql insertReserveItemVersion(Long reserveItemId) {
+        return new ReserveSearchSql(INSERT_RESERVE_ITEM_VERSION, Collections.singletonMap("reserveItemId", reserveItemId));
+    }
+
+    /**
+     * 내려받기 chunk 조회 sql
+     * 등록일이 있는 예약을 등록일, 예약 id 역순으로 정렬하고 이전 chunk 의 마지막 행 다음부터 chunkSize 건을 조회한다 (keyset).
+     * 등록일이 없는 예약은 NULL 정렬 순서가 DB 마다 다르므로 nullCreateDateChunk 로 따로 조회한다.
+     *
+     * @param requestDto
+     * @param last       이전 chunk 의 마지막 행, 첫 chunk 이면 null
+     * @param chunkSize
+     * @return
+     */
+    static ReserveSearchSql exportChunk(ReserveRequestDto requestDto, Reserve last, int chunkSize) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        int shape = where(requestDto, null, bindings);
+        if (last != null) {
+            shape |= AFTER;
+            // 같은 값이지만 anonymous bind marker(?) 를 쓰는 driver 를 위해 이름을 따로 둔다
+            bindings.put("afterCreateDate", last.getCreateDate());
+            bindings.put("sameCreateDate", last.getCreateDate());
+            bindings.put("afterReserveId", last.getReserveId());
+        }
+        shape |= PAGED;
+        bindings.put("limit", chunkSize);
+        return new ReserveSearchSql(template(Kind.EXPORT, shape), bindings);
+    }
+
+    /**
+     * 내려받기 chunk 조회 sql - 등록일이 없는 예약
+     * 예약 id 역순으로 정렬하고 이전 chunk 의 마지막 행 다음부터 chunkSize 건을 조회한다.
+     *
+     * @param requestDto
+     * @param last       이전 chunk 의 마지막 행, 첫 chunk 이면 null
+     * @param chunkSize
+     * @return
+     */
+    static ReserveSearchSql nullCreateDateChunk(ReserveRequestDto requestDto, Reserve last, int chunkSize) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        int shape = where(requestDto, null, bindings) | NULL_DATE;
+        if (last != null) {
+            shape |= AFTER;
+            bindings.put("afterReserveId", last.getReserveId());
+        }
+        shape |= PAGED;
+        bindings.put("limit", chunkSize);
+        return new ReserveSearchSql(template(Kind.EXPORT, shape), bindings);
+    }
+
+    private static ReserveSearchSql of(Kind kind, ReserveRequestDto requestDto, Pageable pageable, String userId,
+                                       boolean withView) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        int shape = where(requestDto, userId, bindings);
+        if (withView) {
+            shape |= VIEW;
+        }
+        if (kind != Kind.COUNT && pageable.isPaged()) {
+            shape |= PAGED;
+            bindings.put("limit", pageable.getPageSize());
+            bindings.put("offset", pageable.getOffset());
+        }
+        return new ReserveSearchSql(template(kind, shape), bindings);
+    }
+
+    /**
+     * 조회조건 shape 와 bind 값
+     *
+     * @param requestDto
+     * @param userId
+     * @param bindings
+     * @return
+     */
+    private static int where(ReserveRequestDto requestDto, String userId, Map<String, Object> bindings) {
+        int shape = 0;
+        if (requestDto.getLocationId() != null) {
+            shape |= LOCATION;
+            bindings.put("locationId", requestDto.getLocationId());
+        }
+        if (requestDto.getCategoryId() != null) {
+            shape |= CATEGORY;
+            bindings.put("categoryId", requestDto.getCategoryId());
+        }
+        if (StringUtils.hasText(requestDto.getKeyword()) && "item".equals(requestDto.getKeywordType())) {
+            shape |= KEYWORD;
+            bindings.put("keyword", "%" + requestDto.getKeyword() + "%");
+        }
+        if (userId != null) {
+            shape |= USER;
+            bindings.put("userId", userId);
+        }
+        return shape;
+    }
+
+    private static String template(Kind kind, int shape) {
+        final int key = kind.ordinal() << KIND_SHIFT | shape;
+        String sql = TEMPLATES.get(key);
+        if (sql == null) {
+            sql = TEMPLATES.computeIfAbsent(key, k -> render(kind, shape));
+        }
+        return sql;
+    }
+
+    private static String render(Kind kind, int shape) {
+        // read model join 이면 reserve 컬럼은 r. 로 구분한다
+        final boolean view = (shape & VIEW) != 0;
+        final String table = view ? "r." : "";
+
+        StringBuilder sql = new StringBuilder("SELECT ");
+        if (kind == Kind.COUNT) {
+            sql.append("COUNT(*)");
+        } else if (kind == Kind.VERSION) {
+            for (String column : ReserveProjection.LIST.getColumns()) {
+                sql.append(table).append(column).append(", ");
+            }
+            sql.append(table).append("modified_date, ").append(ReserveView.VERSION_COLUMNS);
+        } else if (kind == Kind.EXPORT) {
+            sql.append(String.join(", ", ReserveProjection.EXPORT.getColumns()));
+        } else {
+            String separator = "";
+            for (String column : ReserveProjection.LIST.getColumns()) {
+                sql.append(separator).append(table).append(column);
+                separator = ", ";
+            }
+        }
+        if (view && kind != Kind.VERSION) {
+            sql.append(", ").append(ReserveView.SELECT_COLUMNS);
+        }
+        if (kind == Kind.WINDOW_PAGE) {
+            sql.append(", COUNT(*) OVER() AS ").append(TOTAL_COUNT);
+        }
+        sql.append(view ? ReserveView.FROM : " FROM reserve");
+
+        String prefix = " WHERE ";
+        if ((shape & LOCATION) != 0) {
+            sql.append(prefix).append(table).append("location_id = :locationId");
+            prefix = " AND ";
+        }
+        if ((shape & CATEGORY) != 0) {
+            sql.append(prefix).append(table).append("category_id = :categoryId");
+            prefix = " AND ";
+        }
+        if ((shape & KEYWORD) != 0) {
+            sql.append(prefix).append(table).append("reserve_item_id LIKE :keyword");
+            prefix = " AND ";
+        }
+        if ((shape & USER) != 0) {
+            sql.append(prefix).append(table).append("user_id = :userId");
+            prefix = " AND ";
+        }
+        if (kind == Kind.EXPORT && (shape & NULL_DATE) != 0) {
+            sql.append(prefix).append("create_date IS NULL");
+            if ((shape & AFTER) != 0) {
+                sql.append(" AND reserve_id < :afterReserveId");
+            }
+            return sql.append(" ORDER BY reserve_id DESC LIMIT :limit").toString();
+        }
+        if (kind == Kind.EXPORT) {
+            if ((shape & AFTER) != 0) {
+                sql.append(prefix).append("(create_date < :afterCreateDate")
+                        .append(" OR (create_date = :sameCreateDate AND reserve_id < :afterReserveId))");
+            } else {
+                sql.append(prefix).append("create_date IS NOT NULL");
+            }
+            return sql.append(" ORDER BY create_date DESC, reserve_id DESC LIMIT :limit").toString();
+        }
+        if (kind != Kind.COUNT) {
+            sql.append(" ORDER BY ").append(table).append("create_date DESC");
+        }
+        if ((shape & PAGED) != 0) {
+            sql.append(" LIMIT :limit OFFSET :offset");
+        }
+        return sql.toString();
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    Map<String, Object> getBindings() {
+        return bindings;
+    }
+}
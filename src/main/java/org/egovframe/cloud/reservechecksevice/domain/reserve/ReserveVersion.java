@@ -0,0 +1,120 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.util.DigestUtils;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveVersion
+ * <p>
+ * 예약 조회 결과가 바뀌었는지 판단하는 version (ETag 생성에 사용)
+ * 전체 조회 대신 변경 여부를 나타내는 컬럼(수정일, 상태, 수량 등)이나 집계(건수, 최종 등록/수정일)만 조회한 값으로 만든다.
+ * 예약자/예약 물품 정보는 다른 서비스에서 조회하므로 read model(reserve_view)의 version 을 대신 사용한다.
+ * (예약 물품/사용자 변경 event 로 read model 이 갱신될 때 바뀐다)
+ * near cache 에 저장된 예약이 DB 와 같은지 확인하는 데도 사용한다. (같은 값으로 만든 version 은 equals)
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      컬럼 값으로 version 생성 추가
+ *  2026/10/19    shinmj      여러 행의 version 결합 추가
+ *  2026/10/19    shinmj      version 비교(near cache 확인) 추가
+ * </pre>
+ */
+public final class ReserveVersion {
+
+    private final String fingerprint;
+
+    private ReserveVersion(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * 조회한 한 행의 모든 컬럼 값으로 version 생성
+     *
+     * @param row
+     * @param metadata
+     * @return
+     */
+    static ReserveVersion of(Row row, RowMetadata metadata) {
+        Object[] values = new Object[metadata.getColumnNames().size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = row.get(index);
+        }
+        return of(values);
+    }
+
+    /**
+     * 컬럼 값으로 version 생성
+     *
+     * @param values
+     * @return
+     */
+    public static ReserveVersion of(Object... values) {
+        StringBuilder fingerprint = new StringBuilder(128);
+        for (Object value : values) {
+            fingerprint.append(value).append('|');
+        }
+        return new ReserveVersion(fingerprint.toString());
+    }
+
+    /**
+     * 여러 행의 version 과 값으로 version 생성 (목록 page 의 행별 version 과 전체 건수 등)
+     *
+     * @param versions
+     * @param values
+     * @return
+     */
+    static ReserveVersion combine(List<ReserveVersion> versions, Object... values) {
+        StringBuilder fingerprint = new StringBuilder(versions.size() * 128 + 32);
+        for (ReserveVersion version : versions) {
+            fingerprint.append(version.fingerprint).append('/');
+        }
+        for (Object value : values) {
+            fingerprint.append(value).append('|');
+        }
+        return new ReserveVersion(fingerprint.toString());
+    }
+
+    /**
+     * 강한(strong) ETag 값
+     * 같은 version 이어도 조회 대상(한건 id, 조회조건, page 등)이 다르면 다른 값이 되도록 key 를 함께 사용한다.
+     *
+     * @param keys
+     * @return
+     */
+    public String toETag(Object... keys) {
+        StringBuilder source = new StringBuilder(fingerprint);
+        for (Object key : keys) {
+            source.append(key).append('|');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReserveVersion)) {
+            return false;
+        }
+        return fingerprint.equals(((ReserveVersion) o).fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return fingerprint.hashCode();
+    }
+}
@@ -0,0 +1,237 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
+import org.egovframe.cloud.reservechecksevice.domain.location.Location;
+import org.springframework.r2dbc.core.Parameter;
+
+import io.r2dbc.spi.Row;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveView
+ * <p>
+ * 예약 목록 조회용 read model(reserve_view) sql 과 bind 값
+ * 예약별 예약 물품명/지역명/예약유형명/예약자명을 저장해 두고 목록 조회시 reserve 와 PK 로 join 하여
+ * 행마다 예약 물품/사용자 서비스를 호출하지 않는다.
+ * 예약 상태 등 예약 정보는 reserve 에서 조회하고, reserve_view 에는 다른 서비스가 가진 값만 저장한다.
+ * reserve_view 의 예약 물품/예약자 id 가 reserve 와 다르면(예약 물품 변경 등) 저장된 값을 사용하지 않는다.
+ * 행을 수정할 때마다 version 을 1 증가시키고, 조건부 조회(ETag)는 예약 물품/예약자 정보의 version 으로 사용한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      예약 물품/예약자 id 는 예약과 조회 요청의 id 로 저장
+ *  2026/10/19    shinmj      예약 entity 대신 목록 행(ReserveListRow) 으로 저장/설정
+ *  2026/10/19    shinmj      수정할 때마다 증가하는 version 추가
+ * </pre>
+ */
+final class ReserveView {
+
+    // 목록 조회 결과 컬럼 alias (reserve 컬럼과 이름이 겹치지 않도록 view_ 를 붙인다)
+    static final String RESERVE_ITEM_ID = "view_reserve_item_id";
+    static final String RESERVE_ITEM_NAME = "view_reserve_item_name";
+    static final String LOCATION_ID = "view_location_id";
+    static final String LOCATION_NAME = "view_location_name";
+    static final String CATEGORY_ID = "view_category_id";
+    static final String CATEGORY_NAME = "view_category_name";
+    static final String INVENTORY_QTY = "view_inventory_qty";
+    static final String USER_ID = "view_user_id";
+    static final String USER_NAME = "view_user_name";
+    static final String VERSION = "view_version";
+
+    /**
+     * 목록 조회에 추가할 컬럼 (reserve r LEFT JOIN reserve_view v)
+     */
+    static final String SELECT_COLUMNS = "v.reserve_item_id AS " + RESERVE_ITEM_ID
+            + ", v.reserve_item_name AS " + RESERVE_ITEM_NAME
+            + ", v.location_id AS " + LOCATION_ID
+            + ", v.location_name AS " + LOCATION_NAME
+            + ", v.category_id AS " + CATEGORY_ID
+            + ", v.category_name AS " + CATEGORY_NAME
+            + ", v.inventory_qty AS " + INVENTORY_QTY
+            + ", v.user_id AS " + USER_ID
+            + ", v.user_name AS " + USER_NAME;
+
+    /**
+     * version 조회에 추가할 컬럼 (reserve r LEFT JOIN reserve_view v)
+     */
+    static final String VERSION_COLUMNS = "v.reserve_item_id AS " + RESERVE_ITEM_ID
+            + ", v.user_id AS " + USER_ID
+            + ", v.version AS " + VERSION;
+
+    static final String FROM = " FROM reserve r LEFT JOIN reserve_view v ON v.reserve_id = r.reserve_id";
+
+    private static final String UPDATE = "UPDATE reserve_view SET reserve_item_id = :reserveItemId,"
+            + " reserve_item_name = :reserveItemName, location_id = :locationId, location_name = :locationName,"
+            + " category_id = :categoryId, category_name = :categoryName, inventory_qty = :inventoryQty,"
+            + " user_id = :userId, user_name = :userName, modified_date = :modifiedDate, version = version + 1"
+            + " WHERE reserve_id = :reserveId";
+
+    private static final String INSERT = "INSERT INTO reserve_view (reserve_id, reserve_item_id, reserve_item_name,"
+            + " location_id, location_name, category_id, category_name, inventory_qty, user_id, user_name, modified_date)"
+            + " VALUES (:reserveId, :reserveItemId, :reserveItemName, :locationId, :locationName, :categoryId,"
+            + " :categoryName, :inventoryQty, :userId, :userName, :modifiedDate)";
+
+    private static final String UPDATE_RESERVE_ITEM = "UPDATE reserve_view SET reserve_item_name = :reserveItemName,"
+            + " location_id = :locationId, location_name = :locationName, category_id = :categoryId,"
+            + " category_name = :categoryName, inventory_qty = :inventoryQty, modified_date = :modifiedDate,"
+            + " version = version + 1 WHERE reserve_item_id = :reserveItemId";
+
+    private static final String UPDATE_USER = "UPDATE reserve_view SET user_name = :userName, modified_date = :modifiedDate,"
+            + " version = version + 1 WHERE user_id = :userId";
+
+    private final String sql;
+    private final Map<String, Object> bindings;
+
+    private ReserveView(String sql, Map<String, Object> bindings) {
+        this.sql = sql;
+        this.bindings = bindings;
+    }
+
+    /**
+     * 예약 한건 수정 sql (수정된 행이 없으면 insert 로 저장)
+     *
+     * @param row 예약 물품/예약자 relation 이 조회된 목록 행
+     * @return
+     */
+    static ReserveView update(ReserveListRow row) {
+        return new ReserveView(UPDATE, bindings(row));
+    }
+
+    /**
+     * 예약 한건 등록 sql
+     *
+     * @param row 예약 물품/예약자 relation 이 조회된 목록 행
+     * @return
+     */
+    static ReserveView insert(ReserveListRow row) {
+        return new ReserveView(INSERT, bindings(row));
+    }
+
+    /**
+     * 예약 물품 변경 반영 sql
+     *
+     * @param reserveItemId 변경된 예약 물품 id (응답의 id 가 아닌 요청한 id 로 반영한다)
+     * @param reserveItem
+     * @return
+     */
+    static ReserveView updateReserveItem(Long reserveItemId, ReserveItem reserveItem) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        putReserveItem(bindings, reserveItemId, reserveItem);
+        bindings.put("modifiedDate", LocalDateTime.now());
+        return new ReserveView(UPDATE_RESERVE_ITEM, bindings);
+    }
+
+    /**
+     * 예약자 변경 반영 sql
+     *
+     * @param userId 변경된 사용자 id (응답의 id 가 아닌 요청한 id 로 반영한다)
+     * @param user
+     * @return
+     */
+    static ReserveView updateUser(String userId, UserResponseDto user) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        bindings.put("userName", Parameter.fromOrEmpty(user.getUserName(), String.class));
+        bindings.put("modifiedDate", LocalDateTime.now());
+        bindings.put("userId", userId);
+        return new ReserveView(UPDATE_USER, bindings);
+    }
+
+    /**
+     * 목록 조회 결과의 read model 컬럼으로 예약 물품/예약자 relation 설정
+     * 예약 물품/예약자 id 가 예약과 다르거나 read model 이 없으면 설정하지 않는다.
+     *
+     * @param listRow
+     * @param row
+     * @return
+     */
+    static ReserveListRow apply(ReserveListRow listRow, Row row) {
+        ReserveListRow applied = listRow;
+        Long reserveItemId = row.get(RESERVE_ITEM_ID, Long.class);
+        if (reserveItemId != null && reserveItemId.equals(listRow.getReserveItemId())) {
+            Long locationId = row.get(LOCATION_ID, Long.class);
+            Long inventoryQty = row.get(INVENTORY_QTY, Long.class);
+            applied = applied.withReserveItem(ReserveItem.builder()
+                    .reserveItemId(reserveItemId)
+                    .reserveItemName(row.get(RESERVE_ITEM_NAME, String.class))
+                    .locationId(locationId)
+                    .location(Location.builder()
+                            .locationId(locationId)
+                            .locationName(row.get(LOCATION_NAME, String.class))
+                            .build())
+                    .categoryId(row.get(CATEGORY_ID, String.class))
+                    .categoryName(row.get(CATEGORY_NAME, String.class))
+                    .inventoryQty(inventoryQty == null ? null : inventoryQty.intValue())
+                    .build());
+        }
+        String userId = row.get(USER_ID, String.class);
+        if (userId != null && userId.equals(listRow.getUserId())) {
+            applied = applied.withUser(UserResponseDto.builder()
+                    .userId(userId)
+                    .userName(row.get(USER_NAME, String.class))
+                    .build());
+        }
+        return applied;
+    }
+
+    /**
+     * version 조회 결과의 read model 이 예약과 같은 예약 물품/예약자로 저장되어 있는지 여부
+     * read model 이 없거나 id 가 다르면 예약 물품/예약자 정보는 서비스에서 조회하므로 version 으로 사용할 수 없다.
+     *
+     * @param row reserve 의 reserve_item_id, user_id 와 VERSION_COLUMNS 를 조회한 행
+     * @return
+     */
+    static boolean isCurrent(Row row) {
+        Long reserveItemId = row.get("reserve_item_id", Long.class);
+        String userId = row.get("user_id", String.class);
+        return row.get(VERSION, Long.class) != null
+                && reserveItemId != null && reserveItemId.equals(row.get(RESERVE_ITEM_ID, Long.class))
+                && userId != null && userId.equals(row.get(USER_ID, String.class));
+    }
+
+    /**
+     * null 일 수 있는 값은 type 을 지정한 Parameter 로 bind 한다.
+     * 예약 물품/예약자 id 는 목록 조회시 예약과 비교하므로 예약의 값으로 저장한다.
+     *
+     * @param row
+     * @return
+     */
+    private static Map<String, Object> bindings(ReserveListRow row) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        bindings.put("reserveId", row.getReserveId());
+        putReserveItem(bindings, row.getReserveItemId(), row.getReserveItem());
+        bindings.put("userId", Parameter.fromOrEmpty(row.getUserId(), String.class));
+        bindings.put("userName", Parameter.fromOrEmpty(row.getUser().getUserName(), String.class));
+        bindings.put("modifiedDate", LocalDateTime.now());
+        return bindings;
+    }
+
+    private static void putReserveItem(Map<String, Object> bindings, Long reserveItemId, ReserveItem reserveItem) {
+        bindings.put("reserveItemId", Parameter.fromOrEmpty(reserveItemId, Long.class));
+        bindings.put("reserveItemName", Parameter.fromOrEmpty(reserveItem.getReserveItemName(), String.class));
+        bindings.put("locationId", Parameter.fromOrEmpty(reserveItem.getLocationId(), Long.class));
+        bindings.put("locationName", Parameter.fromOrEmpty(
+                reserveItem.getLocation() == null ? null : reserveItem.getLocation().getLocationName(), String.class));
+        bindings.put("categoryId", Parameter.fromOrEmpty(reserveItem.getCategoryId(), String.class));
+        bindings.put("categoryName", Parameter.fromOrEmpty(reserveItem.getCategoryName(), String.class));
+        bindings.put("inventoryQty", Parameter.fromOrEmpty(reserveItem.getInventoryQty(), Integer.class));
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    Map<String, Object> getBindings() {
+        return bindings;
+    }
+}
@@ -0,0 +1,89 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.reserve.WindowFunctionSupport
+ * <p>
+ * DB 의 COUNT(*) OVER() 지원 여부
+ * 기동시 한번 확인 쿼리를 실행하고, 문법 오류이면 미지원으로 기록한다.
+ * 연결 실패 등 다른 오류는 기록하지 않고 다음 조회시 다시 확인한다.
+ * 목록 조회 중의 오류로는 지원 여부를 바꾸지 않는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class WindowFunctionSupport implements ApplicationRunner {
+
+    static final String PROBE = "SELECT COUNT(*) OVER() AS " + ReserveSearchSql.TOTAL_COUNT + " FROM reserve WHERE 1 = 0";
+
+    private final DatabaseClient databaseClient;
+    private final String probeSql;
+
+    /**
+     * 확인 전이면 null
+     */
+    private final AtomicReference<Boolean> supported = new AtomicReference<>();
+
+    public WindowFunctionSupport(R2dbcEntityTemplate entityTemplate) {
+        this(entityTemplate.getDatabaseClient(), PROBE);
+    }
+
+    WindowFunctionSupport(DatabaseClient databaseClient, String probeSql) {
+        this.databaseClient = databaseClient;
+        this.probeSql = probeSql;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        probe().subscribe(null, throwable -> log.warn("COUNT(*) OVER() probe failed : {}", throwable.getMessage()));
+    }
+
+    /**
+     * COUNT(*) OVER() 지원 여부
+     *
+     * @return 확인 전이면 확인 쿼리 실행 결과
+     */
+    public Mono<Boolean> isSupported() {
+        Boolean value = supported.get();
+        return value != null ? Mono.just(value) : probe();
+    }
+
+    private Mono<Boolean> probe() {
+        return databaseClient.sql(probeSql)
+                .fetch()
+                .all()
+                .then(Mono.just(Boolean.TRUE))
+                .onErrorResume(WindowFunctionSupport::isBadGrammar, throwable -> {
+                    log.warn("COUNT(*) OVER() is not supported, using count query : {}", throwable.getMessage());
+                    return Mono.just(Boolean.FALSE);
+                })
+                .doOnNext(supported::set);
+    }
+
+    private static boolean isBadGrammar(Throwable throwable) {
+        return throwable instanceof R2dbcBadGrammarException
+                || throwable.getCause() instanceof R2dbcBadGrammarException;
+    }
+}
@@ -0,0 +1,61 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import java.time.LocalDateTime;
+
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.event.ReserveChangeEvent
+ * <p>
+ * 예약 상태 변경 event (SSE 로 전달)
+ * 화면은 event 를 받으면 필요한 경우 상세/목록을 다시 조회한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class ReserveChangeEvent {
+
+    private ReserveChangeType changeType;
+    private String reserveId;
+    private Long reserveItemId;
+    private String userId;
+    private String reserveStatusId;
+    private LocalDateTime changedDate;
+
+    @Builder
+    public ReserveChangeEvent(ReserveChangeType changeType, Reserve entity) {
+        this.changeType = changeType;
+        this.reserveId = entity.getReserveId();
+        this.reserveItemId = entity.getReserveItemId();
+        this.userId = entity.getUserId();
+        this.reserveStatusId = entity.getReserveStatusId();
+        this.changedDate = LocalDateTime.now();
+    }
+
+    /**
+     * 구독 조건에 맞는지 확인
+     *
+     * @param userId        null 이면 전체 사용자
+     * @param reserveItemId null 이면 전체 예약 물품
+     * @return
+     */
+    public boolean matches(String userId, Long reserveItemId) {
+        return (userId == null || userId.equals(this.userId))
+                && (reserveItemId == null || reserveItemId.equals(this.reserveItemId));
+    }
+}
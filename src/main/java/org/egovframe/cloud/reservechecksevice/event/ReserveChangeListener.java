@@ -0,0 +1,38 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import java.util.function.Consumer;
+
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.event.ReserveChangeListener
+ * <p>
+ * 다른 서버에서 전파한 예약 변경 event 수신 (binding: reserveChange-in-0)
+ * consumer group 없이 구독하여 서버마다 자기 queue 로 모든 message 를 받고, 이 서버의 구독자에게 발행한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component("reserveChange")
+public class ReserveChangeListener implements Consumer<Message<ReserveChangeEvent>> {
+
+    private final ReserveChangePublisher reserveChangePublisher;
+
+    @Override
+    public void accept(Message<ReserveChangeEvent> message) {
+        reserveChangePublisher.onMessage(message);
+    }
+}
@@ -0,0 +1,208 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.annotation.PreDestroy;
+
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.r2dbc.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.event.ReserveChangePublisher
+ * <p>
+ * 예약 변경 event 를 SSE/RSocket 구독자에게 전달
+ * event 는 transaction commit 이후에 이 서버(node)의 구독자에게 발행하고(rollback 되면 발행하지 않음),
+ * rabbit(binding: reserveChange-out-0)으로 다른 서버에 전파한다. 다른 서버는 ReserveChangeListener 로 받아 자기 구독자에게 발행한다.
+ * 서버마다 하나의 multicast sink 를 모든 구독자가 공유하고, sink 발행은 직렬화한다.
+ * 구독자마다 buffer-size 만큼만 쌓아두고 넘치면 오래된 event 부터 버리므로, 느린 구독자가 다른 구독자나 예약 처리를 지연시키지 않는다.
+ * 연결이 idle 로 끊기지 않도록 heartbeat 주기마다 comment 를 보낸다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      조건별 event stream(changes) 분리 - RSocket 구독에서 사용
+ *  2026/10/19    shinmj      commit 이후 실행을 AfterCommit 으로 분리
+ *  2026/10/19    shinmj      rabbit 으로 다른 서버에 전파, sink 발행 직렬화
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReserveChangePublisher {
+
+    public static final String METRIC_NAME = "reserve.change.events";
+    public static final String OUTPUT = "reserveChange-out-0";
+    public static final String ORIGIN_HEADER = "reserve-change-origin";
+
+    private static final String EVENT_NAME = "reserve-change";
+
+    private final Sinks.Many<ReserveChangeEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * event 를 보낸 서버 - 자신이 보낸 message 는 이미 발행했으므로 무시한다
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StreamBridge streamBridge;
+    private final int bufferSize;
+    private final Duration heartbeat;
+    private final Counter published;
+    private final Counter noSubscriber;
+    private final Counter dropped;
+
+    public ReserveChangePublisher(StreamBridge streamBridge,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${reserve.events.buffer-size:256}") int bufferSize,
+                                  @Value("${reserve.events.heartbeat:15s}") Duration heartbeat) {
+        this.streamBridge = streamBridge;
+        this.bufferSize = bufferSize;
+        this.heartbeat = heartbeat;
+        this.published = Counter.builder(METRIC_NAME).tag("result", "published").register(meterRegistry);
+        this.noSubscriber = Counter.builder(METRIC_NAME).tag("result", "no-subscriber").register(meterRegistry);
+        this.dropped = Counter.builder(METRIC_NAME).tag("result", "dropped").register(meterRegistry);
+    }
+
+    /**
+     * 현재 transaction 이 commit 된 뒤 event 발행 (transaction 이 없으면 바로 발행)
+     * 이 서버의 구독자에게 발행하고 다른 서버로 전파한다.
+     *
+     * @param changeType
+     * @param reserve
+     * @return
+     */
+    public Mono<Reserve> publishAfterCommit(ReserveChangeType changeType, Reserve reserve) {
+        ReserveChangeEvent event = ReserveChangeEvent.builder()
+                .changeType(changeType)
+                .entity(reserve)
+                .build();
+
+        return AfterCommit.run(() -> {
+                    publish(event);
+                    broadcast(event);
+                })
+                .thenReturn(reserve);
+    }
+
+    /**
+     * 이 서버의 구독자에게 event 발행
+     * 여러 thread 에서 동시에 발행해도 FAIL_NON_SERIALIZED 로 재시도하지 않도록 발행을 직렬화한다.
+     * 구독자가 없으면 버린다.
+     *
+     * @param event
+     */
+    public void publish(ReserveChangeEvent event) {
+        Sinks.EmitResult result;
+        synchronized (sink) {
+            result = sink.tryEmitNext(event);
+        }
+        if (result.isSuccess()) {
+            published.increment();
+        } else if (result == Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            noSubscriber.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 다른 서버에서 전파된 event 처리
+     *
+     * @param message
+     */
+    public void onMessage(Message<ReserveChangeEvent> message) {
+        if (nodeId.equals(message.getHeaders().get(ORIGIN_HEADER))) {
+            return;
+        }
+        publish(message.getPayload());
+    }
+
+    /**
+     * 다른 서버로 전파 - rabbit 전송은 blocking 이므로 event loop 밖에서 보낸다.
+     * 전송에 실패하면 다른 서버의 구독자는 event 를 받지 못한다.
+     *
+     * @param event
+     */
+    private void broadcast(ReserveChangeEvent event) {
+        Message<ReserveChangeEvent> message = MessageBuilder.withPayload(event)
+                .setHeader(ORIGIN_HEADER, nodeId)
+                .build();
+        Mono.fromRunnable(() -> streamBridge.send(OUTPUT, message))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, throwable -> log.warn("reserve change broadcast failed. reserveId={}", event.getReserveId(), throwable));
+    }
+
+    /**
+     * 조건에 맞는 예약 변경 event
+     * 구독자가 요청(demand)하지 않은 동안 발생한 event 는 버려지므로 구독하는 쪽에서 backpressure 전략을 정한다.
+     *
+     * @param userId        null 이면 전체 사용자
+     * @param reserveItemId null 이면 전체 예약 물품
+     * @return
+     */
+    public Flux<ReserveChangeEvent> changes(String userId, Long reserveItemId) {
+        return sink.asFlux()
+                .filter(event -> event.matches(userId, reserveItemId));
+    }
+
+    /**
+     * 조건에 맞는 예약 변경 SSE stream
+     * heartbeat 를 포함하여 buffer-size 만큼 쌓아두고 넘치면 오래된 것부터 버린다.
+     *
+     * @param userId        null 이면 전체 사용자
+     * @param reserveItemId null 이면 전체 예약 물품
+     * @return
+     */
+    public Flux<ServerSentEvent<ReserveChangeEvent>> subscribe(String userId, Long reserveItemId) {
+        Flux<ServerSentEvent<ReserveChangeEvent>> events = changes(userId, reserveItemId)
+                .map(event -> ServerSentEvent.<ReserveChangeEvent>builder()
+                        .id(event.getReserveId())
+                        .event(EVENT_NAME)
+                        .data(event)
+                        .build());
+
+        Flux<ServerSentEvent<ReserveChangeEvent>> heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<ReserveChangeEvent>builder()
+                        .comment("heartbeat")
+                        .build());
+
+        return Flux.merge(events, heartbeats)
+                .onBackpressureBuffer(bufferSize, overflow -> {
+                    if (overflow.data() != null) {
+                        dropped.increment();
+                    }
+                }, BufferOverflowStrategy.DROP_OLDEST)
+                .takeUntilOther(sink.asFlux().ignoreElements());
+    }
+
+    /**
+     * 종료시 구독자 연결 종료
+     */
+    @PreDestroy
+    public void complete() {
+        synchronized (sink) {
+            sink.tryEmitComplete();
+        }
+    }
+}
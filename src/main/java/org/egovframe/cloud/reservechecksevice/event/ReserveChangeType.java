@@ -0,0 +1,25 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.event.ReserveChangeType
+ * <p>
+ * 예약 변경 event 종류
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public enum ReserveChangeType {
+    CREATE,
+    UPDATE,
+    APPROVE,
+    CANCEL
+}
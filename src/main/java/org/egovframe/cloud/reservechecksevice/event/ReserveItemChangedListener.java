@@ -0,0 +1,52 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import java.util.function.Consumer;
+
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveRepository;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.event.ReserveItemChangedListener
+ * <p>
+ * 예약 물품 변경 message 수신 (binding: reserveItemChanged-in-0)
+ * 예약 물품을 다시 조회하여 목록 조회 read model(reserve_view) 에 반영한다.
+ * consumer group 으로 구독하므로 message 마다 한 서버만 처리한다.
+ * 반영이 끝난 뒤 message 를 ack 하고, 예약 물품 서비스 장애 등으로 실패하면 binder 가 다시 처리(max-attempts)한 뒤 DLQ 로 보낸다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      message 단위 처리로 변경 - 실패시 재처리/DLQ
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component("reserveItemChanged")
+public class ReserveItemChangedListener implements Consumer<ReserveItemChangedMessage> {
+
+    private final ReserveRepository reserveRepository;
+
+    /**
+     * binder 의 listener thread 에서 호출되므로 반영이 끝날 때까지 기다린다.
+     *
+     * @param message
+     */
+    @Override
+    public void accept(ReserveItemChangedMessage message) {
+        if (message.getReserveItemId() == null) {
+            return;
+        }
+        Integer updated = reserveRepository.refreshViewByReserveItem(message.getReserveItemId()).block();
+        log.debug("reserve_view refreshed (reserveItemId={}, rows={})", message.getReserveItemId(), updated);
+    }
+}
@@ -0,0 +1,28 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.event.ReserveItemChangedMessage
+ * <p>
+ * 예약 물품 변경 message (reserve-item-changed) - 예약 물품 서비스가 물품명/지역/유형/재고를 변경하면 발행한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class ReserveItemChangedMessage {
+
+    private Long reserveItemId;
+}
@@ -0,0 +1,28 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.event.UserChangedMessage
+ * <p>
+ * 사용자 변경 message (user-changed) - 사용자 서비스가 사용자 이름을 변경하면 발행한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class UserChangedMessage {
+
+    private String userId;
+}
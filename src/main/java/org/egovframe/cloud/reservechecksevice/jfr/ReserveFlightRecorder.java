@@ -0,0 +1,133 @@
+package org.egovframe.cloud.reservechecksevice.jfr;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.jfr.ReserveFlightRecorder
+ * <p>
+ * 예약 처리 작업을 JFR custom event(org.egovframe.reserve.*)로 기록한다.
+ * reserve.jfr.enabled 가 true 이고 런타임에 jdk.jfr 가 있을 때만 동작하며,
+ * 그 외에는 source 를 그대로 반환하므로 비용이 없다.
+ * JFR recording 중이 아니면 event.isEnabled() 가 false 이므로 event 객체 생성 외의 비용은 없다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReserveFlightRecorder {
+
+    private final boolean enabled;
+
+    public ReserveFlightRecorder(@Value("${reserve.jfr.enabled:false}") boolean enabled) {
+        boolean available = ClassUtils.isPresent("jdk.jfr.Event", ReserveFlightRecorder.class.getClassLoader());
+        if (enabled && !available) {
+            log.warn("reserve.jfr.enabled is true but jdk.jfr is not available on this runtime");
+        }
+        this.enabled = enabled && available;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 단건 작업 기록 (rows 는 값이 있으면 1)
+     *
+     * @param operation
+     * @param reserveId
+     * @param reserveItemId
+     * @param source
+     * @param <T>
+     * @return
+     */
+    public <T> Mono<T> record(ReserveOperation operation, String reserveId, Long reserveItemId, Mono<T> source) {
+        return record(operation, reserveId, reserveItemId, source, value -> 1L, null);
+    }
+
+    /**
+     * 단건 작업 기록
+     *
+     * @param operation
+     * @param reserveId
+     * @param reserveItemId
+     * @param source
+     * @param rows          결과값으로 row 수 계산 (ex. count 조회 결과)
+     * @param itemIdOf      결과값에서 예약 물품 id 를 얻을 수 있는 경우 사용 (null 가능)
+     * @param <T>
+     * @return
+     */
+    public <T> Mono<T> record(ReserveOperation operation, String reserveId, Long reserveItemId, Mono<T> source,
+                              ToLongFunction<? super T> rows, Function<? super T, Long> itemIdOf) {
+        if (!enabled) {
+            return source;
+        }
+        return Mono.defer(() -> {
+            ReserveJfrEvents.Recording recording = ReserveJfrEvents.begin(operation, reserveId, reserveItemId);
+            if (recording == null) {
+                return source;
+            }
+            return source
+                    .doOnNext(value -> {
+                        recording.rows(rows.applyAsLong(value));
+                        if (itemIdOf != null) {
+                            recording.reserveItemId(itemIdOf.apply(value));
+                        }
+                    })
+                    .switchIfEmpty(Mono.fromRunnable(() -> recording.outcome("empty")))
+                    .doFinally(signalType -> finish(recording, signalType));
+        });
+    }
+
+    /**
+     * 목록 작업 기록 (rows 는 emit 된 건수)
+     *
+     * @param operation
+     * @param reserveItemId
+     * @param source
+     * @param <T>
+     * @return
+     */
+    public <T> Flux<T> record(ReserveOperation operation, Long reserveItemId, Flux<T> source) {
+        if (!enabled) {
+            return source;
+        }
+        return Flux.defer(() -> {
+            ReserveJfrEvents.Recording recording = ReserveJfrEvents.begin(operation, null, reserveItemId);
+            if (recording == null) {
+                return source;
+            }
+            return source
+                    .doOnNext(value -> recording.addRow())
+                    .doFinally(signalType -> finish(recording, signalType));
+        });
+    }
+
+    private static void finish(ReserveJfrEvents.Recording recording, SignalType signalType) {
+        if (signalType == SignalType.ON_ERROR) {
+            recording.outcome("error");
+        } else if (signalType == SignalType.CANCEL && !recording.isEmitted()) {
+            recording.outcome("cancelled");
+        }
+        recording.commit();
+    }
+}
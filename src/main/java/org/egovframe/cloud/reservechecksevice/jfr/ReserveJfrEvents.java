@@ -0,0 +1,175 @@
+package org.egovframe.cloud.reservechecksevice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.jfr.ReserveJfrEvents
+ * <p>
+ * 예약 처리 작업별 JFR custom event 정의
+ * jdk.jfr 가 없는 런타임(8u262 이전 JRE 등)에서는 이 클래스를 로딩하지 않도록 ReserveFlightRecorder 를 통해서만 사용한다.
+ * event 이름은 org.egovframe.reserve.* 이며 JMC 에서 eGovFrame / Reserve 카테고리로 표시된다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+final class ReserveJfrEvents {
+
+    private ReserveJfrEvents() {
+    }
+
+    /**
+     * 작업 종류에 해당하는 event 시작
+     * JFR recording 이 없거나 event 가 비활성이면 null 을 반환한다.
+     *
+     * @param operation
+     * @param reserveId
+     * @param reserveItemId
+     * @return
+     */
+    static Recording begin(ReserveOperation operation, String reserveId, Long reserveItemId) {
+        OperationEvent event = create(operation);
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.reserveId = reserveId;
+        event.reserveItemId = reserveItemId != null ? reserveItemId : 0L;
+        event.begin();
+        return new Recording(event);
+    }
+
+    private static OperationEvent create(ReserveOperation operation) {
+        switch (operation) {
+            case SEARCH:
+                return new SearchEvent();
+            case COUNT:
+                return new CountEvent();
+            case RELATION:
+                return new RelationEvent();
+            case APPROVE:
+                return new ApproveEvent();
+            case CANCEL:
+                return new CancelEvent();
+            case UPDATE:
+                return new UpdateEvent();
+            case CREATE:
+            default:
+                return new CreateEvent();
+        }
+    }
+
+    /**
+     * 진행중인 event
+     * 구독 thread 와 종료 thread 가 다를 수 있으므로 필드는 volatile 로 둔다.
+     */
+    static class Recording {
+        private final OperationEvent event;
+        private volatile long rows;
+        private volatile boolean emitted;
+        private volatile String outcome = "success";
+
+        Recording(OperationEvent event) {
+            this.event = event;
+        }
+
+        void rows(long rows) {
+            this.rows = rows;
+            this.emitted = true;
+        }
+
+        void addRow() {
+            // onNext 는 순차적으로 호출된다
+            rows++;
+            emitted = true;
+        }
+
+        boolean isEmitted() {
+            return emitted;
+        }
+
+        void reserveItemId(Long reserveItemId) {
+            if (reserveItemId != null) {
+                event.reserveItemId = reserveItemId;
+            }
+        }
+
+        void outcome(String outcome) {
+            this.outcome = outcome;
+        }
+
+        void commit() {
+            event.end();
+            if (event.shouldCommit()) {
+                event.rows = rows;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    @Category({"eGovFrame", "Reserve"})
+    @StackTrace(false)
+    abstract static class OperationEvent extends Event {
+        @Label("Reserve Id")
+        String reserveId;
+
+        @Label("Reserve Item Id")
+        long reserveItemId;
+
+        @Label("Rows")
+        @Description("조회/처리된 row 수 (count 는 조회된 건수)")
+        long rows;
+
+        @Label("Outcome")
+        @Description("success, empty, error, cancelled")
+        String outcome;
+    }
+
+    @Name("org.egovframe.reserve.Search")
+    @Label("Reserve Search")
+    static class SearchEvent extends OperationEvent {
+    }
+
+    @Name("org.egovframe.reserve.Count")
+    @Label("Reserve Count")
+    static class CountEvent extends OperationEvent {
+    }
+
+    @Name("org.egovframe.reserve.Relation")
+    @Label("Reserve Relation Load")
+    static class RelationEvent extends OperationEvent {
+    }
+
+    @Name("org.egovframe.reserve.Approve")
+    @Label("Reserve Approve")
+    static class ApproveEvent extends OperationEvent {
+    }
+
+    @Name("org.egovframe.reserve.Cancel")
+    @Label("Reserve Cancel")
+    static class CancelEvent extends OperationEvent {
+    }
+
+    @Name("org.egovframe.reserve.Update")
+    @Label("Reserve Update")
+    static class UpdateEvent extends OperationEvent {
+    }
+
+    @Name("org.egovframe.reserve.Create")
+    @Label("Reserve Create")
+    static class CreateEvent extends OperationEvent {
+    }
+}
@@ -0,0 +1,28 @@
+package org.egovframe.cloud.reservechecksevice.jfr;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.jfr.ReserveOperation
+ * <p>
+ * JFR event 로 기록하는 예약 처리 작업 종류
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public enum ReserveOperation {
+    SEARCH,
+    COUNT,
+    RELATION,
+    APPROVE,
+    CANCEL,
+    UPDATE,
+    CREATE
+}
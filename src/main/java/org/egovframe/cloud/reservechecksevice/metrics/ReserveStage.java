@@ -0,0 +1,60 @@
+package org.egovframe.cloud.reservechecksevice.metrics;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.metrics.ReserveStage
+ * <p>
+ * 예약 처리 단계 이름 - metric tag 값으로 사용되므로 고정된 값만 정의한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      조건부 조회 version 단계 추가
+ *  2026/10/19    shinmj      목록 조회 read model 저장 단계 추가
+ *  2026/10/19    shinmj      예약 물품 version 증가 단계 추가
+ *  2026/10/19    shinmj      near cache version 확인 단계 추가
+ * </pre>
+ */
+public final class ReserveStage {
+
+    // service
+    public static final String SERVICE_SEARCH = "service.search";
+    public static final String SERVICE_SEARCH_FOR_USER = "service.search-for-user";
+    public static final String SERVICE_FIND = "service.find";
+    public static final String SERVICE_CANCEL = "service.cancel";
+    public static final String SERVICE_APPROVE = "service.approve";
+    public static final String SERVICE_UPDATE = "service.update";
+    public static final String SERVICE_CREATE = "service.create";
+    public static final String SERVICE_RESERVE_DATE = "service.reserve-date";
+    public static final String SERVICE_VERSION = "service.version";
+
+    // r2dbc
+    public static final String DB_SEARCH = "r2dbc.search";
+    public static final String DB_COUNT = "r2dbc.count";
+    public static final String DB_SEARCH_FOR_USER = "r2dbc.search-for-user";
+    public static final String DB_COUNT_FOR_USER = "r2dbc.count-for-user";
+    public static final String DB_SEARCH_PAGE = "r2dbc.search-page";
+    public static final String DB_EXPORT = "r2dbc.export";
+    public static final String DB_FIND = "r2dbc.find";
+    public static final String DB_VERSION = "r2dbc.version";
+    public static final String DB_VERSION_INCREASE = "r2dbc.version-increase";
+    public static final String DB_CACHE_VERSION = "r2dbc.cache-version";
+    public static final String DB_VIEW = "r2dbc.view";
+    public static final String DB_RESERVE_DATE = "r2dbc.reserve-date";
+    public static final String DB_INSERT = "r2dbc.insert";
+    public static final String DB_SAVE = "r2dbc.save";
+
+    // 외부 서비스
+    public static final String CLIENT_USER = "client.user";
+    public static final String CLIENT_RESERVE_ITEM = "client.reserve-item";
+    public static final String CLIENT_RESERVE_ITEM_RELATION = "client.reserve-item-relation";
+
+    private ReserveStage() {
+    }
+}
@@ -0,0 +1,144 @@
+package org.egovframe.cloud.reservechecksevice.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.egovframe.cloud.reservechecksevice.tracing.RequestTrace;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.metrics.ReserveStageMetrics
+ * <p>
+ * 예약 처리 단계(stage)별 소요시간 timer/histogram
+ * metric 이름은 reserve.stage 이고 tag 는 stage(고정된 단계 이름), outcome(success/empty/error/rejected/cancelled) 만 사용한다.
+ * rejected 는 circuit breaker 가 open 되어 호출이 차단된 경우이다.
+ * reactor context 에 sampling 된 RequestTrace 가 있으면 같은 측정값을 span 으로도 기록한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      sampling trace span 기록 추가
+ * </pre>
+ */
+@Component
+public class ReserveStageMetrics {
+
+    public static final String METRIC_NAME = "reserve.stage";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ReserveStageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Mono 구독부터 종료까지 소요시간 기록
+     *
+     * @param stage
+     * @param source
+     * @param <T>
+     * @return
+     */
+    public <T> Mono<T> time(String stage, Mono<T> source) {
+        return Mono.deferContextual(context -> {
+            StageSample sample = new StageSample(stage, System.nanoTime(), trace(context));
+            return source
+                    .doOnNext(value -> sample.emitted = true)
+                    .doOnError(sample::error)
+                    .doFinally(sample::stop);
+        });
+    }
+
+    /**
+     * Flux 구독부터 종료까지 소요시간 기록
+     *
+     * @param stage
+     * @param source
+     * @param <T>
+     * @return
+     */
+    public <T> Flux<T> time(String stage, Flux<T> source) {
+        return Flux.deferContextual(context -> {
+            StageSample sample = new StageSample(stage, System.nanoTime(), trace(context));
+            return source
+                    .doOnNext(value -> sample.emitted = true)
+                    .doOnError(sample::error)
+                    .doFinally(sample::stop);
+        });
+    }
+
+    private static RequestTrace trace(ContextView context) {
+        return context.getOrDefault(RequestTrace.CONTEXT_KEY, null);
+    }
+
+    private Timer timer(String stage, String outcome) {
+        String key = stage + '|' + outcome;
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(key, k -> Timer.builder(METRIC_NAME)
+                    .description("reservation pipeline stage latency")
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+
+    /**
+     * 구독 한건의 측정 상태
+     */
+    private class StageSample {
+        private final String stage;
+        private final long startNanos;
+        private final RequestTrace trace;
+        private volatile boolean emitted;
+        private volatile String errorOutcome;
+
+        StageSample(String stage, long startNanos, RequestTrace trace) {
+            this.stage = stage;
+            this.startNanos = startNanos;
+            this.trace = trace;
+        }
+
+        void error(Throwable throwable) {
+            errorOutcome = throwable instanceof CallNotPermittedException ? "rejected" : "error";
+        }
+
+        void stop(SignalType signalType) {
+            String outcome;
+            if (signalType == SignalType.ON_ERROR) {
+                outcome = errorOutcome != null ? errorOutcome : "error";
+            } else if (signalType == SignalType.CANCEL) {
+                outcome = emitted ? "success" : "cancelled";
+            } else {
+                outcome = emitted ? "success" : "empty";
+            }
+            long durationNanos = System.nanoTime() - startNanos;
+            timer(stage, outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+            if (trace != null) {
+                trace.record(stage, startNanos, durationNanos, outcome);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.reactivestreams.Publisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.r2dbc.MeteredConnectionFactory
+ * <p>
+ * connection pool 에서 connection 을 얻기까지 대기한 시간을 측정하는 ConnectionFactory
+ * metric 은 reserve.r2dbc.pool.acquire (tag : pool, outcome = success/timeout/error/cancelled) 이다.
+ * pool 상태 gauge(r2dbc.pool.*)가 pool bean 과 중복 등록되지 않도록 pool 을 Wrapped 로 노출하지 않는다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      Wrapped 구현 제거
+ * </pre>
+ */
+public class MeteredConnectionFactory implements ConnectionFactory {
+
+    public static final String ACQUIRE_METRIC_NAME = "reserve.r2dbc.pool.acquire";
+
+    private final ConnectionPool pool;
+    private final Timer success;
+    private final Timer timeout;
+    private final Timer error;
+    private final Timer cancelled;
+
+    public MeteredConnectionFactory(ConnectionPool pool, String poolName, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.success = acquireTimer(meterRegistry, poolName, "success");
+        this.timeout = acquireTimer(meterRegistry, poolName, "timeout");
+        this.error = acquireTimer(meterRegistry, poolName, "error");
+        this.cancelled = acquireTimer(meterRegistry, poolName, "cancelled");
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return pool.create()
+                    .doOnSuccess(connection -> success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(throwable -> (throwable instanceof TimeoutException ? timeout : error)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnCancel(() -> cancelled.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    private static Timer acquireTimer(MeterRegistry meterRegistry, String poolName, String outcome) {
+        return Timer.builder(ACQUIRE_METRIC_NAME)
+                .description("time waited to acquire a pooled r2dbc connection")
+                .tag("pool", poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+}
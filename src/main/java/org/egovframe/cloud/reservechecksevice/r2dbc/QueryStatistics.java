@@ -0,0 +1,213 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.r2dbc.QueryStatistics
+ * <p>
+ * statement fingerprint 별 실행시간 histogram 과 조회 row 수 집계
+ * fingerprint 별 집계는 /actuator/slowqueries 로만 조회하고(내부 registry),
+ * 운영 registry 에는 fingerprint tag 없이 reserve.r2dbc.query timer(tag : outcome) 한 종류만 노출한다.
+ * SQL 원문 → fingerprint 변환 결과는 cache 하며, fingerprint 개수는 maxFingerprints 로 제한한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      fingerprint tag timer 를 운영 registry 에서 제외
+ * </pre>
+ */
+public class QueryStatistics {
+
+    public static final String METRIC_NAME = "reserve.r2dbc.query";
+    static final String OVERFLOW_ID = "overflow";
+
+    /**
+     * fingerprint 별 timer 는 운영 registry 로 export 하지 않는다.
+     */
+    private final MeterRegistry statementRegistry = new SimpleMeterRegistry();
+    private final Timer succeeded;
+    private final Timer failed;
+    private final int maxFingerprints;
+    private final Map<String, StatementFingerprint> fingerprintCache = new ConcurrentHashMap<>();
+    private final Map<String, Statistic> statistics = new ConcurrentHashMap<>();
+
+    public QueryStatistics(MeterRegistry meterRegistry, int maxFingerprints) {
+        this.succeeded = timer(meterRegistry, "success");
+        this.failed = timer(meterRegistry, "error");
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    /**
+     * SQL 원문의 fingerprint 조회
+     *
+     * @param sql
+     * @return
+     */
+    public StatementFingerprint fingerprint(String sql) {
+        StatementFingerprint fingerprint = fingerprintCache.get(sql);
+        if (fingerprint == null) {
+            fingerprint = StatementFingerprint.of(sql);
+            // 동적 SQL 로 원문이 무한히 늘어나지 않도록 cache 크기 제한
+            if (fingerprintCache.size() < maxFingerprints * 4) {
+                fingerprintCache.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 실행 한건 기록
+     *
+     * @param fingerprint
+     * @param duration
+     * @param success
+     */
+    public void recordExecution(StatementFingerprint fingerprint, Duration duration, boolean success) {
+        Statistic statistic = statistic(fingerprint);
+        statistic.timer.record(duration.toNanos(), TimeUnit.NANOSECONDS);
+        if (!success) {
+            statistic.errors.increment();
+        }
+        (success ? succeeded : failed).record(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 조회 row 수 기록
+     * rowsSoFar 는 해당 실행에서 지금까지 읽은 row 수이다.
+     *
+     * @param fingerprint
+     * @param rowsSoFar
+     */
+    public void recordRow(StatementFingerprint fingerprint, int rowsSoFar) {
+        Statistic statistic = statistic(fingerprint);
+        statistic.rows.increment();
+        statistic.maxRows.accumulateAndGet(rowsSoFar, Math::max);
+    }
+
+    /**
+     * fingerprint 별 집계 (총 실행시간 내림차순)
+     *
+     * @return
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(statistics.size());
+        for (Statistic statistic : statistics.values()) {
+            snapshots.add(new Snapshot(statistic));
+        }
+        snapshots.sort(Comparator.comparingDouble(Snapshot::getTotalMs).reversed());
+        return snapshots;
+    }
+
+    private Statistic statistic(StatementFingerprint fingerprint) {
+        Statistic statistic = statistics.get(fingerprint.getId());
+        if (statistic != null) {
+            return statistic;
+        }
+        if (statistics.size() >= maxFingerprints) {
+            return statistics.computeIfAbsent(OVERFLOW_ID,
+                    id -> new Statistic(id, "(fingerprint limit exceeded)", statementRegistry));
+        }
+        return statistics.computeIfAbsent(fingerprint.getId(),
+                id -> new Statistic(id, fingerprint.getNormalized(), statementRegistry));
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("r2dbc statement execution time")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private static class Statistic {
+        private final String id;
+        private final String statement;
+        private final Timer timer;
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicLong maxRows = new AtomicLong();
+
+        Statistic(String id, String statement, MeterRegistry meterRegistry) {
+            this.id = id;
+            this.statement = statement;
+            this.timer = Timer.builder(METRIC_NAME)
+                    .description("r2dbc statement execution time by fingerprint")
+                    .tag("fingerprint", id)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * fingerprint 한건의 집계 결과
+     */
+    @Getter
+    public static class Snapshot {
+        private final String fingerprint;
+        private final String statement;
+        private final long count;
+        private final long errors;
+        private final double totalMs;
+        private final double meanMs;
+        private final double maxMs;
+        private final double p50Ms;
+        private final double p95Ms;
+        private final double p99Ms;
+        private final long rows;
+        private final long maxRows;
+        private final double meanRows;
+
+        Snapshot(Statistic statistic) {
+            HistogramSnapshot histogram = statistic.timer.takeSnapshot();
+            this.fingerprint = statistic.id;
+            this.statement = statistic.statement;
+            this.count = histogram.count();
+            this.errors = statistic.errors.sum();
+            this.totalMs = histogram.total(TimeUnit.MILLISECONDS);
+            this.meanMs = histogram.mean(TimeUnit.MILLISECONDS);
+            this.maxMs = histogram.max(TimeUnit.MILLISECONDS);
+            double p50 = 0;
+            double p95 = 0;
+            double p99 = 0;
+            for (ValueAtPercentile percentile : histogram.percentileValues()) {
+                if (percentile.percentile() == 0.5) {
+                    p50 = percentile.value(TimeUnit.MILLISECONDS);
+                } else if (percentile.percentile() == 0.95) {
+                    p95 = percentile.value(TimeUnit.MILLISECONDS);
+                } else if (percentile.percentile() == 0.99) {
+                    p99 = percentile.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            this.p50Ms = p50;
+            this.p95Ms = p95;
+            this.p99Ms = p99;
+            this.rows = statistic.rows.sum();
+            this.maxRows = statistic.maxRows.get();
+            this.meanRows = count == 0 ? 0 : (double) rows / count;
+        }
+    }
+}
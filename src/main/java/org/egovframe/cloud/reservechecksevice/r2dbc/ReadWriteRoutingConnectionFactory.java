@@ -0,0 +1,55 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.r2dbc.ReadWriteRoutingConnectionFactory
+ * <p>
+ * reactor context 의 route 값에 따라 primary / replica ConnectionFactory 를 선택한다.
+ * route 는 ReadWriteRoutingTransactionManager 가 transaction 시작시 readOnly 여부로 결정하며,
+ * transaction 밖에서 실행되거나 route 가 없으면 primary 를 사용한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class ReadWriteRoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+    /**
+     * reactor context key
+     */
+    public static final String ROUTE_KEY = ReadWriteRoutingConnectionFactory.class.getName() + ".route";
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReadWriteRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica) {
+        Map<Route, ConnectionFactory> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primary);
+        targets.put(Route.REPLICA, replica);
+        setTargetConnectionFactories(targets);
+        setDefaultTargetConnectionFactory(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(ROUTE_KEY)));
+    }
+}
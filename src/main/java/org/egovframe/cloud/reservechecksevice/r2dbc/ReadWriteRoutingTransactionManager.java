@@ -0,0 +1,79 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.r2dbc.ReadWriteRoutingTransactionManager
+ * <p>
+ * transaction 시작시 connection 을 얻을 ConnectionFactory(primary / replica)를 결정하는 transaction manager
+ * readOnly transaction 은 replica 로, 그 외는 primary 로 보낸다.
+ * 단, 최근에 쓰기를 한 사용자의 readOnly transaction 은 replica 반영 지연을 피하기 위해 primary 로 보낸다.
+ * 사용자는 reactor context 의 SecurityContext 에서 확인한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class ReadWriteRoutingTransactionManager extends R2dbcTransactionManager {
+
+    private final RecentWriterRegistry recentWriterRegistry;
+
+    public ReadWriteRoutingTransactionManager(ConnectionFactory connectionFactory, RecentWriterRegistry recentWriterRegistry) {
+        super(connectionFactory);
+        this.recentWriterRegistry = recentWriterRegistry;
+    }
+
+    @Override
+    protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                 TransactionDefinition definition) {
+        if (!definition.isReadOnly()) {
+            return super.doBegin(synchronizationManager, transaction, definition)
+                    .contextWrite(context -> context.put(ReadWriteRoutingConnectionFactory.ROUTE_KEY,
+                            ReadWriteRoutingConnectionFactory.Route.PRIMARY));
+        }
+
+        return currentUser()
+                .map(userId -> recentWriterRegistry.isRecentWriter(userId)
+                        ? ReadWriteRoutingConnectionFactory.Route.PRIMARY
+                        : ReadWriteRoutingConnectionFactory.Route.REPLICA)
+                .defaultIfEmpty(ReadWriteRoutingConnectionFactory.Route.REPLICA)
+                .flatMap(route -> super.doBegin(synchronizationManager, transaction, definition)
+                        .contextWrite(context -> context.put(ReadWriteRoutingConnectionFactory.ROUTE_KEY, route)));
+    }
+
+    @Override
+    protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                  GenericReactiveTransaction status) {
+        Mono<Void> commit = super.doCommit(synchronizationManager, status);
+        if (status.isReadOnly()) {
+            return commit;
+        }
+        return commit.then(currentUser()
+                .doOnNext(recentWriterRegistry::wrote)
+                .then());
+    }
+
+    private static Mono<String> currentUser() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .map(Authentication::getName);
+    }
+}
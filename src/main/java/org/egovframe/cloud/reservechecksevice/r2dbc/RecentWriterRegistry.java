@@ -0,0 +1,56 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.r2dbc.RecentWriterRegistry
+ * <p>
+ * 최근에 쓰기 transaction 을 commit 한 사용자 목록
+ * replica 반영 지연(replication lag) 동안 같은 사용자의 조회는 primary 에서 읽도록 하기 위해 사용한다.
+ * 사용자별 마지막 쓰기 시각은 window 가 지나면 자동으로 제거된다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class RecentWriterRegistry {
+
+    private final Cache<String, Boolean> writers;
+
+    public RecentWriterRegistry(Duration window, long maximumSize) {
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 쓰기 기록
+     *
+     * @param userId
+     */
+    public void wrote(String userId) {
+        writers.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * window 안에 쓰기를 했는지 여부
+     *
+     * @param userId
+     * @return
+     */
+    public boolean isRecentWriter(String userId) {
+        return writers.getIfPresent(userId) != null;
+    }
+}
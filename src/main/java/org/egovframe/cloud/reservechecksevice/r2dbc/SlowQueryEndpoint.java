@@ -0,0 +1,48 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.r2dbc.SlowQueryEndpoint
+ * <p>
+ * statement fingerprint 별 실행시간/row 수 조회 actuator endpoint (/actuator/slowqueries)
+ * 총 실행시간이 큰 순서로 정렬되어 index 가 필요한 쿼리를 먼저 확인할 수 있다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final QueryStatistics queryStatistics;
+    private final long thresholdMillis;
+
+    public SlowQueryEndpoint(QueryStatistics queryStatistics, long thresholdMillis) {
+        this.queryStatistics = queryStatistics;
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @ReadOperation
+    public Map<String, Object> statements() {
+        List<QueryStatistics.Snapshot> snapshots = queryStatistics.snapshot();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMs", thresholdMillis);
+        result.put("fingerprints", snapshots.size());
+        result.put("statements", snapshots);
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.r2dbc.SlowQueryExecutionListener
+ * <p>
+ * r2dbc-proxy listener. 모든 statement 실행시간과 조회 row 수를 QueryStatistics 에 기록하고,
+ * threshold 를 넘은 statement 는 bind parameter 값을 가린 채 WARN 으로 남긴다.
+ * bind 값은 개인정보(사용자 id, 연락처 등)가 포함될 수 있으므로 type 과 길이만 기록한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Slf4j(topic = "reserve.slow-query")
+public class SlowQueryExecutionListener implements ProxyExecutionListener {
+
+    private final QueryStatistics queryStatistics;
+    private final Duration threshold;
+
+    public SlowQueryExecutionListener(QueryStatistics queryStatistics, Duration threshold) {
+        this.queryStatistics = queryStatistics;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo execInfo) {
+        String sql = sql(execInfo.getQueries());
+        StatementFingerprint fingerprint = queryStatistics.fingerprint(sql);
+        Duration duration = execInfo.getExecuteDuration();
+        queryStatistics.recordExecution(fingerprint, duration, execInfo.isSuccess());
+
+        if (duration.compareTo(threshold) >= 0 && log.isWarnEnabled()) {
+            log.warn("slow query [{}] {}ms success={} sql={} bindings={}", fingerprint.getId(), duration.toMillis(),
+                    execInfo.isSuccess(), sql, redactedBindings(execInfo.getQueries()));
+        }
+    }
+
+    @Override
+    public void eachQueryResult(QueryExecutionInfo execInfo) {
+        queryStatistics.recordRow(queryStatistics.fingerprint(sql(execInfo.getQueries())),
+                execInfo.getCurrentResultCount());
+    }
+
+    private static String sql(List<QueryInfo> queries) {
+        if (queries.size() == 1) {
+            return queries.get(0).getQuery();
+        }
+        StringJoiner joiner = new StringJoiner("; ");
+        for (QueryInfo query : queries) {
+            joiner.add(query.getQuery());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * bind parameter 를 값 없이 type(길이) 로만 표현
+     * ex) [$1=String(8), $2=Long, $3=null]
+     *
+     * @param queries
+     * @return
+     */
+    static String redactedBindings(List<QueryInfo> queries) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (QueryInfo query : queries) {
+            for (Bindings bindings : query.getBindingsList()) {
+                for (Binding binding : bindings.getIndexBindings()) {
+                    joiner.add("$" + (((Number) binding.getKey()).intValue() + 1) + "=" + redact(binding.getBoundValue()));
+                }
+                for (Binding binding : bindings.getNamedBindings()) {
+                    joiner.add(binding.getKey() + "=" + redact(binding.getBoundValue()));
+                }
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static String redact(BoundValue boundValue) {
+        if (boundValue.isNull()) {
+            return "null";
+        }
+        Object value = boundValue.getValue();
+        if (value instanceof CharSequence) {
+            return "String(" + ((CharSequence) value).length() + ")";
+        }
+        return value.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,62 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import java.util.regex.Pattern;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.r2dbc.StatementFingerprint
+ * <p>
+ * SQL 문장의 literal, bind marker, IN 목록을 정규화하여 같은 모양의 쿼리를 하나로 묶는다.
+ * ex) SELECT * FROM reserve WHERE reserve_item_id = $1 AND category_id = 'place' LIMIT 10
+ *     → SELECT * FROM reserve WHERE reserve_item_id = ? AND category_id = ? LIMIT ?
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public final class StatementFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern BIND_MARKER = Pattern.compile("\\$\\d+|(?<!:):[A-Za-z_]\\w*|\\?");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String id;
+    private final String normalized;
+
+    private StatementFingerprint(String normalized) {
+        this.normalized = normalized;
+        this.id = String.format("%08x", normalized.hashCode());
+    }
+
+    /**
+     * SQL 정규화
+     *
+     * @param sql
+     * @return
+     */
+    public static StatementFingerprint of(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = BIND_MARKER.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("IN (?+)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return new StatementFingerprint(normalized);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getNormalized() {
+        return normalized;
+    }
+}
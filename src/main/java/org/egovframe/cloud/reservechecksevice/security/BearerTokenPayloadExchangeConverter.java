@@ -0,0 +1,54 @@
+package org.egovframe.cloud.reservechecksevice.security;
+
+import java.util.Map;
+
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.messaging.rsocket.DefaultMetadataExtractor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.rsocket.api.PayloadExchange;
+import org.springframework.security.rsocket.authentication.PayloadExchangeAuthenticationConverter;
+import org.springframework.security.rsocket.metadata.BearerTokenMetadata;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.util.StringUtils;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.security.BearerTokenPayloadExchangeConverter
+ * <p>
+ * RSocket 요청 metadata(message/x.rsocket.authentication.bearer.v0)의 JWT 를 인증 요청으로 변환
+ * 토큰은 credentials 로 전달하고 검증은 CachedJwtAuthenticationManager 에서 한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class BearerTokenPayloadExchangeConverter implements PayloadExchangeAuthenticationConverter {
+
+    private static final String TOKEN = "token";
+
+    private final DefaultMetadataExtractor metadataExtractor = new DefaultMetadataExtractor(StringDecoder.allMimeTypes());
+
+    public BearerTokenPayloadExchangeConverter() {
+        metadataExtractor.metadataToExtract(BearerTokenMetadata.BEARER_AUTHENTICATION_MIME_TYPE, String.class, TOKEN);
+    }
+
+    @Override
+    public Mono<Authentication> convert(PayloadExchange exchange) {
+        return Mono.fromCallable(() -> {
+            Map<String, Object> metadata = metadataExtractor.extract(exchange.getPayload(), exchange.getMetadataMimeType());
+            Object token = metadata.get(TOKEN);
+            return token instanceof String && StringUtils.hasText((String) token)
+                    ? new PreAuthenticatedAuthenticationToken(null, token)
+                    : null;
+        });
+    }
+}
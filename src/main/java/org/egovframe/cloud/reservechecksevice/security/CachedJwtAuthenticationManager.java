@@ -0,0 +1,47 @@
+package org.egovframe.cloud.reservechecksevice.security;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.security.CachedJwtAuthenticationManager
+ * <p>
+ * credentials 의 JWT 를 VerifiedTokenCache 로 검증하는 인증 관리자 (RSocket 요청 인증)
+ * token.secret 이 없거나 검증에 실패하면 BadCredentialsException 으로 거부한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class CachedJwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        return Mono.fromCallable(() -> {
+            if (!verifiedTokenCache.isEnabled()) {
+                throw new BadCredentialsException("token.secret is not configured");
+            }
+            try {
+                return verifiedTokenCache.verify(String.valueOf(authentication.getCredentials())).toAuthentication();
+            } catch (JwtException | IllegalArgumentException e) {
+                throw new BadCredentialsException(e.getMessage(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package org.egovframe.cloud.reservechecksevice.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.security.CachedJwtAuthenticationWebFilter
+ * <p>
+ * Spring Security filter chain 보다 먼저 실행되어 캐시된 JWT 검증 결과로 SecurityContext 를 채우는 filter
+ * SecurityContext 가 이미 reactor context 에 있으면 security chain 은 토큰을 다시 불러오지 않는다.
+ * 검증에 실패한 토큰은 그대로 security chain 으로 넘겨 기존 방식대로 거부되도록 한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CachedJwtAuthenticationWebFilter implements WebFilter, Ordered {
+
+    // WebFilterChainProxy(-100) 보다 먼저 실행
+    private static final int ORDER = -101;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Value("${token.cache.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled || !verifiedTokenCache.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        String token = resolveToken(exchange.getRequest());
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = verifiedTokenCache.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("jwt verify failed : {}", e.getMessage());
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(verifiedToken.toAuthentication()));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * Authorization header 에서 bearer 토큰 추출
+     *
+     * @param request
+     * @return
+     */
+    private String resolveToken(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
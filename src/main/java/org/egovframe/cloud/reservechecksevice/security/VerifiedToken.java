@@ -0,0 +1,62 @@
+package org.egovframe.cloud.reservechecksevice.security;
+
+import java.util.Collection;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.security.VerifiedToken
+ * <p>
+ * 서명 검증이 끝난 JWT 의 claims 와 권한 정보
+ * 캐시에 보관되어 같은 토큰의 재검증 없이 인증 정보를 만든다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Claims claims;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private final long expiresAtMillis;   // 만료 시각 (epoch millis)
+
+    public VerifiedToken(Claims claims, Collection<? extends GrantedAuthority> authorities, long expiresAtMillis) {
+        this.claims = claims;
+        this.authorities = authorities;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * 토큰 만료 여부
+     *
+     * @param nowMillis
+     * @return
+     */
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * 인증 정보 생성
+     * principal 은 사용자 id(subject) 이다.
+     *
+     * @return
+     */
+    public Authentication toAuthentication() {
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+    }
+}
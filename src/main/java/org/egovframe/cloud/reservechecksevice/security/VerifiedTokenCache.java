@@ -0,0 +1,211 @@
+package org.egovframe.cloud.reservechecksevice.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.security.VerifiedTokenCache
+ * <p>
+ * 서명 검증된 JWT 캐시
+ * 토큰 원문 대신 SHA-256 digest 를 key 로 사용하고, 건수로 크기를 제한한다.
+ * 각 항목은 토큰의 만료(exp) 시각에 제거되므로 만료된 토큰이 캐시로 통과되지 않는다.
+ * 현재 시각은 cache 의 ticker 기준이며 jjwt 의 만료 검증도 같은 시각을 사용한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ *  2026/10/19    shinmj      만료 시각 계산을 cache ticker 기준으로 변경
+ * </pre>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final String tokenSecret;
+    private final String authoritiesKey;
+    private final long maxTtlMillis;
+    private final Ticker ticker;
+    /**
+     * ticker 값(nanos) + epochOffsetNanos = epoch nanos
+     */
+    private final long epochOffsetNanos;
+    private final Cache<String, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${token.secret:}") String tokenSecret,
+                              @Value("${token.authorities-key:authorities}") String authoritiesKey,
+                              @Value("${token.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${token.cache.max-ttl-seconds:3600}") long maxTtlSeconds) {
+        this(tokenSecret, authoritiesKey, maximumSize, maxTtlSeconds, Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(String tokenSecret, String authoritiesKey, long maximumSize, long maxTtlSeconds, Ticker ticker) {
+        this.tokenSecret = tokenSecret;
+        this.authoritiesKey = authoritiesKey;
+        this.maxTtlMillis = TimeUnit.SECONDS.toMillis(maxTtlSeconds);
+        this.ticker = ticker;
+        this.epochOffsetNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - ticker.read();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(epochOffsetNanos))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 서명 키가 설정되어 있는지 여부
+     *
+     * @return
+     */
+    public boolean isEnabled() {
+        return StringUtils.hasText(tokenSecret);
+    }
+
+    /**
+     * 토큰 검증
+     * 캐시에 있으면 서명 검증을 생략하고, 없으면 jjwt 로 검증한 뒤 캐시에 저장한다.
+     *
+     * @param token
+     * @return
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 만료 등 검증 실패
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        long now = currentTimeMillis();
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            cache.invalidate(digest);
+            throw new ExpiredJwtException(null, cached.getClaims(), "JWT expired at " + new Date(cached.getExpiresAtMillis()));
+        }
+
+        VerifiedToken verified = parse(token, now);
+        cache.put(digest, verified);
+        return verified;
+    }
+
+    /**
+     * 캐시 건수
+     *
+     * @return
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * cache ticker 기준 현재 시각 (epoch millis)
+     *
+     * @return
+     */
+    long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(ticker.read() + epochOffsetNanos);
+    }
+
+    /**
+     * jjwt 로 서명 검증 및 claims 파싱
+     *
+     * @param token
+     * @param now
+     * @return
+     */
+    VerifiedToken parse(String token, long now) {
+        Claims claims = Jwts.parser()
+                .setSigningKey(tokenSecret)
+                .setClock(() -> new Date(now))
+                .parseClaimsJws(token)
+                .getBody();
+
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        Object authoritiesClaim = claims.get(authoritiesKey);
+        if (authoritiesClaim != null) {
+            for (String authority : StringUtils.commaDelimitedListToStringArray(authoritiesClaim.toString())) {
+                if (StringUtils.hasText(authority)) {
+                    authorities.add(new SimpleGrantedAuthority(authority.trim()));
+                }
+            }
+        }
+
+        // exp 가 없는 토큰은 max-ttl 까지만 캐시한다
+        long expiresAt = claims.getExpiration() != null
+                ? Math.min(claims.getExpiration().getTime(), now + maxTtlMillis)
+                : now + maxTtlMillis;
+        return new VerifiedToken(claims, authorities, expiresAt);
+    }
+
+    /**
+     * 토큰 SHA-256 digest
+     *
+     * @param token
+     * @return
+     */
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 항목별 만료 정책 - 토큰의 exp 시각에 제거
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long epochOffsetNanos;
+
+        private TokenExpiry(long epochOffsetNanos) {
+            this.epochOffsetNanos = epochOffsetNanos;
+        }
+
+        /**
+         * currentTime 은 cache ticker 값(nanos)이다.
+         */
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainNanos = TimeUnit.MILLISECONDS.toNanos(value.getExpiresAtMillis()) - (currentTime + epochOffsetNanos);
+            return Math.max(remainNanos, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
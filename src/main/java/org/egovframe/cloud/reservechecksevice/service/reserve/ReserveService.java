@@ -11,23 +11,41 @@ import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.reactive.service.ReactiveAbstractService;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveCountRequestDto;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveCountResponseDto;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveExportDto;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveListResponseDto;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveRequestDto;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveResponseDto;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveSaveRequestDto;
 import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveUpdateRequestDto;
+import org.egovframe.cloud.reservechecksevice.cache.ReserveNearCache;
 import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
+import org.egovframe.cloud.reservechecksevice.client.ServiceFailure;
+import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemResponseDto;
 import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveItemSnapshotStore;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveListRow;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReservePageMode;
 import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveRepository;
 import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveStatus;
+import org.egovframe.cloud.reservechecksevice.event.ReserveChangeEvent;
+import org.egovframe.cloud.reservechecksevice.event.ReserveChangePublisher;
+import org.egovframe.cloud.reservechecksevice.event.ReserveChangeType;
+import org.egovframe.cloud.reservechecksevice.jfr.ReserveFlightRecorder;
+import org.egovframe.cloud.reservechecksevice.jfr.ReserveOperation;
+import org.egovframe.cloud.reservechecksevice.metrics.ReserveStage;
+import org.egovframe.cloud.reservechecksevice.metrics.ReserveStageMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -52,6 +70,25 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/19    shinmj       단계별 소요시간 metric 추가
+ *  2026/10/19    shinmj       JFR event 기록 추가
+ *  2026/10/19    shinmj       목록 조회 page 방식(two-query/window) endpoint 별 설정 추가
+ *  2026/10/19    shinmj       관리자 예약 내려받기 추가
+ *  2026/10/19    shinmj       예약 변경 event(SSE) 발행/구독 추가
+ *  2026/10/19    shinmj       조건부 조회(ETag) 추가
+ *  2026/10/19    shinmj       목록/한건 조회 ETag 제거 (예약자/예약 물품 정보가 version 에 없음)
+ *  2026/10/19    shinmj       예약 near cache 적용
+ *  2026/10/19    shinmj       목록 조회 read model(reserve_view) 적용
+ *  2026/10/19    shinmj       예약 물품 서비스 장애시 예약 물품 snapshot 으로 재고/예약 기간 확인
+ *  2026/10/19    shinmj       승인/취소/수정할 예약은 near cache 없이 조회
+ *  2026/10/19    shinmj       예약 물품 snapshot 은 서비스 장애시에만 사용
+ *  2026/10/19    shinmj       목록 응답은 목록 행(ReserveListRow)에서 변환
+ *  2026/10/19    shinmj       목록 조회 page 방식 설정은 기동시 한번 변환
+ *  2026/10/19    shinmj       내려받기 권한 확인(canExport) 분리
+ *  2026/10/19    shinmj       목록 조회는 page 방식과 관계없이 read model 에 없는 relation 을 page 단위로 조회
+ *  2026/10/19    shinmj       예약 물품 snapshot 으로는 재고/인원을 확인하지 않음
+ *  2026/10/19    shinmj       목록/한건 조회 ETag 복원 (read model version 포함), 예약 저장시 예약 물품 version 증가, ETag 에 응답 media type 포함
+ *  2026/10/19    shinmj       승인/취소/수정할 예약은 version 확인 후 near cache 사용, 조회 결과로 cache 채움
  * </pre>
  */
 @Slf4j
@@ -64,6 +101,38 @@ public class ReserveService extends ReactiveAbstractService {
     private final ReserveRepository reserveRepository;
     private final ReserveItemServiceClient reserveItemServiceClient;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ReserveStageMetrics stageMetrics;
+    private final ReserveFlightRecorder flightRecorder;
+    private final ReserveChangePublisher changePublisher;
+    private final ReserveNearCache reserveNearCache;
+    private final ReserveItemSnapshotStore reserveItemSnapshotStore;
+
+    /**
+     * 목록 조회 page 방식 (two-query, window)
+     * 설정값은 bean 생성시 한번 변환하므로 잘못된 값이면 기동시 오류가 발생한다.
+     */
+    private ReservePageMode searchPageMode = ReservePageMode.TWO_QUERY;
+
+    private ReservePageMode searchForUserPageMode = ReservePageMode.TWO_QUERY;
+
+    /**
+     * 내려받기 chunk 크기, relation 조회 동시성
+     */
+    @Value("${reserve.export.chunk-size:500}")
+    private int exportChunkSize;
+
+    @Value("${reserve.export.relation-concurrency:8}")
+    private int exportRelationConcurrency;
+
+    @Value("${reserve.search.page-mode.search:two-query}")
+    void setSearchPageMode(String searchPageMode) {
+        this.searchPageMode = ReservePageMode.from(searchPageMode);
+    }
+
+    @Value("${reserve.search.page-mode.search-for-user:two-query}")
+    void setSearchForUserPageMode(String searchForUserPageMode) {
+        this.searchForUserPageMode = ReservePageMode.from(searchForUserPageMode);
+    }
 
     /**
      * entity -> dto 변환
@@ -78,15 +147,21 @@ public class ReserveService extends ReactiveAbstractService {
     }
 
     /**
-     * entity -> 목록 dto 변환
+     * 목록 행 -> 목록 dto page 변환
      *
-     * @param reserve
+     * @param rows
+     * @param pageable
+     * @param total
      * @return
      */
-    private Mono<ReserveListResponseDto> convertReserveListResponseDto(Reserve reserve) {
-        return Mono.just(ReserveListResponseDto.builder()
-                .entity(reserve)
-                .build());
+    private Page<ReserveListResponseDto> convertReserveListPage(List<ReserveListRow> rows, Pageable pageable, long total) {
+        List<ReserveListResponseDto> content = new ArrayList<>(rows.size());
+        for (ReserveListRow row : rows) {
+            content.add(ReserveListResponseDto.builder()
+                    .row(row)
+                    .build());
+        }
+        return new PageImpl<>(content, pageable, total);
     }
 
     /**
@@ -129,12 +204,16 @@ public class ReserveService extends ReactiveAbstractService {
      */
     @Transactional(readOnly = true)
     public Mono<Page<ReserveListResponseDto>> search(ReserveRequestDto requestDto, Pageable pageable) {
-        return reserveRepository.search(requestDto, pageable)
-                .switchIfEmpty(Flux.empty())
-                .flatMap(this::convertReserveListResponseDto)
+        if (searchPageMode == ReservePageMode.WINDOW) {
+            return stageMetrics.time(ReserveStage.SERVICE_SEARCH, reserveRepository.searchPage(requestDto, pageable, null)
+                    .flatMap(page -> reserveRepository.loadMissingRelations(page.getContent())
+                            .map(rows -> convertReserveListPage(rows, pageable, page.getTotalElements()))));
+        }
+        return stageMetrics.time(ReserveStage.SERVICE_SEARCH, reserveRepository.search(requestDto, pageable)
                 .collectList()
+                .flatMap(reserveRepository::loadMissingRelations)
                 .zipWith(reserveRepository.searchCount(requestDto, pageable))
-                .flatMap(tuple -> Mono.just(new PageImpl<>(tuple.getT1(), pageable, tuple.getT2())));
+                .map(tuple -> convertReserveListPage(tuple.getT1(), pageable, tuple.getT2())));
     }
 
     /**
@@ -145,9 +224,9 @@ public class ReserveService extends ReactiveAbstractService {
      */
     @Transactional(readOnly = true)
    public Mono<ReserveResponseDto> findReserveById(Long reserveId) {
-        return reserveRepository.findReserveById(reserveId)
+        return stageMetrics.time(ReserveStage.SERVICE_FIND, reserveRepository.findReserveById(reserveId)
                 .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveId))
-                .flatMap(this::convertReserveResponseDto);
+                .flatMap(this::convertReserveResponseDto));
    }
 
     /**
@@ -160,12 +239,120 @@ public class ReserveService extends ReactiveAbstractService {
      */
     @Transactional(readOnly = true)
     public Mono<Page<ReserveListResponseDto>> searchForUser(String userId, ReserveRequestDto requestDto, Pageable pageable) {
-        return reserveRepository.searchForUser(requestDto, pageable, userId)
-                .switchIfEmpty(Flux.empty())
-                .flatMap(this::convertReserveListResponseDto)
+        if (searchForUserPageMode == ReservePageMode.WINDOW) {
+            return stageMetrics.time(ReserveStage.SERVICE_SEARCH_FOR_USER, reserveRepository.searchPage(requestDto, pageable, userId)
+                    .flatMap(page -> reserveRepository.loadMissingRelations(page.getContent())
+                            .map(rows -> convertReserveListPage(rows, pageable, page.getTotalElements()))));
+        }
+        return stageMetrics.time(ReserveStage.SERVICE_SEARCH_FOR_USER, reserveRepository.searchForUser(requestDto, pageable, userId)
                 .collectList()
+                .flatMap(reserveRepository::loadMissingRelations)
                 .zipWith(reserveRepository.searchCountForUser(requestDto, pageable, userId))
-                .flatMap(tuple -> Mono.just(new PageImpl<>(tuple.getT1(), pageable, tuple.getT2())));
+                .map(tuple -> convertReserveListPage(tuple.getT1(), pageable, tuple.getT2())));
+    }
+
+    /**
+     * 목록 조회 ETag - 조회조건/page 의 예약 목록 컬럼, 예약자/예약 물품 정보(read model version), 전체 건수가 바뀌면 바뀐다
+     * read model 에 없는 예약자/예약 물품 정보가 있으면(서비스에서 조회) empty
+     *
+     * @param requestDto
+     * @param pageable
+     * @param userId     null 이면 전체 사용자
+     * @param mediaType  응답 media type
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Mono<String> searchETag(ReserveRequestDto requestDto, Pageable pageable, String userId, MediaType mediaType) {
+        return stageMetrics.time(ReserveStage.SERVICE_VERSION, reserveRepository.searchVersion(requestDto, pageable, userId)
+                .map(version -> version.toETag("search", userId, requestDto.getLocationId(), requestDto.getCategoryId(),
+                        requestDto.getKeywordType(), requestDto.getKeyword(), pageable.getPageNumber(), pageable.getPageSize(), mediaType)));
+    }
+
+    /**
+     * 한건 조회 ETag - 예약 컬럼, 예약자/예약 물품 정보(read model version)가 바뀌면 바뀐다
+     * read model 이 없거나 예약과 다르면 empty
+     *
+     * @param reserveId
+     * @param mediaType 응답 media type
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Mono<String> findReserveETag(Long reserveId, MediaType mediaType) {
+        return stageMetrics.time(ReserveStage.SERVICE_VERSION, reserveRepository.findVersionById(reserveId)
+                .map(version -> version.toETag("reserve", reserveId, mediaType)));
+    }
+
+    /**
+     * 예약물품 별 조회기간 내 예약 목록 ETag - 물품의 예약이 바뀔 때마다 바뀐다
+     *
+     * @param reserveItemId
+     * @param requestDto
+     * @param mediaType     응답 media type
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Mono<String> findAllByReserveDateETag(Long reserveItemId, ReserveCountRequestDto requestDto, MediaType mediaType) {
+        return stageMetrics.time(ReserveStage.SERVICE_VERSION, reserveRepository.findVersionByReserveItemId(reserveItemId)
+                .map(version -> version.toETag("dates", reserveItemId, requestDto.getStartDate(), requestDto.getEndDate(), mediaType)));
+    }
+
+    /**
+     * 현재 로그인 사용자가 예약을 내려받을 수 있는지 (관리자)
+     * 내려받기 응답은 이 결과를 확인한 뒤에 시작한다.
+     *
+     * @return
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Boolean> canExport() {
+        return getIsAdmin().defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * 관리자 예약 내려받기
+     * 조회조건에 맞는 전체 예약을 chunk 단위로 조회하여 순서대로 내보낸다.
+     * 오래 걸리는 조회이므로 transaction 으로 connection 을 잡아두지 않고 chunk 마다 connection 을 사용한다.
+     *
+     * @param requestDto
+     * @param withRelations true 이면 예약자/예약 물품 정보를 chunk 단위로 일괄 조회하여 포함
+     * @return
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<ReserveExportDto> export(ReserveRequestDto requestDto, boolean withRelations) {
+        return canExport()
+                .flatMapMany(isAdmin -> {
+                    if (!isAdmin) {
+                        return Flux.error(new BusinessMessageException("관리자만 내려받을 수 있습니다."));
+                    }
+                    return reserveRepository.exportChunks(requestDto, exportChunkSize)
+                            .concatMap(chunk -> withRelations
+                                    ? reserveRepository.loadRelationsInBatch(chunk, exportRelationConcurrency)
+                                    : Mono.just(chunk), 1)
+                            .concatMapIterable(chunk -> chunk, 1)
+                            .map(ReserveExportDto::new);
+                });
+    }
+
+    /**
+     * 예약 변경 event 구독
+     * 관리자는 전체 또는 조건에 맞는 예약의 event 를, 사용자는 본인 예약의 event 만 받는다.
+     * 구독이 끝날 때까지 열려 있는 stream 이므로 transaction 을 사용하지 않는다.
+     *
+     * @param userId        관리자인 경우 예약자 조건 (null 이면 전체)
+     * @param reserveItemId 예약 물품 조건 (null 이면 전체)
+     * @return
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<ServerSentEvent<ReserveChangeEvent>> subscribeChanges(String userId, Long reserveItemId) {
+        return getIsAdmin()
+                .defaultIfEmpty(Boolean.FALSE)
+                .flatMapMany(isAdmin -> {
+                    if (isAdmin) {
+                        return changePublisher.subscribe(userId, reserveItemId);
+                    }
+                    return getUserId()
+                            .switchIfEmpty(Mono.error(new BusinessMessageException("로그인 후 이용할 수 있습니다.")))
+                            .flatMapMany(loginUserId -> changePublisher.subscribe(loginUserId, reserveItemId));
+                });
     }
 
     /**
@@ -175,7 +362,7 @@ public class ReserveService extends ReactiveAbstractService {
      * @return
      */
     public Mono<Void> cancel(String reserveId) {
-        return getIsAdmin().flatMap(isAdmin -> {
+        return stageMetrics.time(ReserveStage.SERVICE_CANCEL, flightRecorder.record(ReserveOperation.CANCEL, reserveId, null, getIsAdmin().flatMap(isAdmin -> {
             if (isAdmin) {
                 return reserveCancel(reserveId);
             } else {
@@ -191,7 +378,7 @@ public class ReserveService extends ReactiveAbstractService {
                     .onErrorResume(throwable -> Mono.error(throwable))
                     .flatMap(reserve -> reserveCancel(reserveId));
             }
-        });
+        }), reserve -> 1L, Reserve::getReserveItemId).then());
 
     }
 
@@ -201,7 +388,7 @@ public class ReserveService extends ReactiveAbstractService {
      * @param reserveId
      * @return
      */
-    private Mono<Void> reserveCancel(String reserveId) {
+    private Mono<Reserve> reserveCancel(String reserveId) {
         System.out.println("reserveCancel : " + reserveId);
         return findById(reserveId)
                 .map(reserve -> {
@@ -211,8 +398,8 @@ public class ReserveService extends ReactiveAbstractService {
                         return reserve.updateStatus(ReserveStatus.CANCEL.getKey());
                     }
                 })
-                .flatMap(reserveRepository::save)
-                .then();
+                .flatMap(this::save)
+                .flatMap(reserve -> changePublisher.publishAfterCommit(ReserveChangeType.CANCEL, reserve));
     }
 
     /**
@@ -222,7 +409,7 @@ public class ReserveService extends ReactiveAbstractService {
      * @return
      */
     public Mono<Void> approve(String reserveId) {
-        return getIsAdmin()
+        return stageMetrics.time(ReserveStage.SERVICE_APPROVE, flightRecorder.record(ReserveOperation.APPROVE, reserveId, null, getIsAdmin()
             .flatMap(isAdmin -> {
                 if (isAdmin) {
                     return Mono.just(reserveId);
@@ -234,7 +421,8 @@ public class ReserveService extends ReactiveAbstractService {
             .flatMap(this::checkReserveItems)
             .onErrorResume(throwable -> Mono.error(throwable))
             .flatMap(reserve -> Mono.just(reserve.updateStatus(ReserveStatus.APPROVE.getKey())))
-            .flatMap(reserveRepository::save).then();
+            .flatMap(this::save)
+            .flatMap(reserve -> changePublisher.publishAfterCommit(ReserveChangeType.APPROVE, reserve)), reserve -> 1L, Reserve::getReserveItemId).then());
     }
 
     /**
@@ -244,12 +432,14 @@ public class ReserveService extends ReactiveAbstractService {
      * @return
      */
     private Mono<Reserve> checkReserveItems(Reserve reserve) {
-        return reserveItemServiceClient.findById(reserve.getReserveItemId())
-            .transform(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker("reserve-item")))
-            .onErrorResume(throwable -> Mono.empty())
+        return findReserveItemForCheck(reserve.getReserveItemId())
             .flatMap(reserveItemResponseDto -> {
                 // 교육, 장비인 경우 재고수량 체크
                 if (!reserveItemResponseDto.getCategoryId().equals("space")) {
+                    // 재고/인원은 snapshot 이후 바뀌었을 수 있으므로 snapshot 만 있으면 확인할 수 없다
+                    if (reserveItemResponseDto.isStale()) {
+                        return Mono.error(new BusinessMessageException("예약가능한 재고/인원을 확인할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+                    }
                     if (reserveItemResponseDto.getInventoryQty() <= 0) {
                         return Mono.error(new BusinessMessageException("예약가능한 재고/인원이 없습니다."));
                     }
@@ -277,6 +467,28 @@ public class ReserveService extends ReactiveAbstractService {
             });
     }
 
+    /**
+     * 재고 및 예약 일자 체크용 예약 물품 조회
+     * 조회한 정보는 snapshot 으로 저장하고, 예약 물품 서비스 장애(circuit breaker open, timeout, 연결 오류, 5xx)시
+     * check-max-staleness 안에 저장된 snapshot(stale)을 반환한다. 사용할 수 있는 snapshot 이 없으면 오류로 처리한다.
+     * snapshot 은 예약 일자 체크에만 사용하고, 재고/인원 체크는 실패로 처리한다. (checkReserveItems)
+     * 4xx 등 장애가 아닌 오류는 snapshot 을 사용하지 않는다.
+     *
+     * @param reserveItemId
+     * @return
+     */
+    private Mono<ReserveItemResponseDto> findReserveItemForCheck(Long reserveItemId) {
+        return stageMetrics.time(ReserveStage.CLIENT_RESERVE_ITEM,
+                reserveItemServiceClient.findById(reserveItemId)
+                    .transform(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker("reserve-item"))))
+            .doOnNext(reserveItemResponseDto -> reserveItemSnapshotStore.refresh(reserveItemResponseDto.toEntity()))
+            .onErrorResume(ServiceFailure::isUnavailable, throwable -> reserveItemSnapshotStore.findForCheck(reserveItemId)
+                .doOnNext(reserveItem -> log.warn("reserve-item service unavailable, checking with snapshot. reserveItemId={}, snapshotDate={} : {}",
+                        reserveItemId, reserveItem.getSnapshotDate(), throwable.getMessage()))
+                .map(reserveItem -> ReserveItemResponseDto.builder().reserveItem(reserveItem).build())
+                .switchIfEmpty(Mono.error(new BusinessMessageException("예약 물품 정보를 확인할 수 없습니다. 잠시 후 다시 시도해 주세요."))));
+    }
+
     /**
      * 예약 정보 수정
      *
@@ -284,13 +496,13 @@ public class ReserveService extends ReactiveAbstractService {
      * @return
      */
     public Mono<Reserve> update(String reserveId, ReserveUpdateRequestDto updateRequestDto) {
-        return getIsAdmin().flatMap(isAdmin -> {
+        return stageMetrics.time(ReserveStage.SERVICE_UPDATE, flightRecorder.record(ReserveOperation.UPDATE, reserveId, updateRequestDto.getReserveItemId(), getIsAdmin().flatMap(isAdmin -> {
             if (isAdmin) {
                 return updateReserve(reserveId, updateRequestDto);
             } else {
                 return updateReserveForUser(reserveId, updateRequestDto);
             }
-        });
+        })));
     }
 
     /**
@@ -316,7 +528,8 @@ public class ReserveService extends ReactiveAbstractService {
                 })
                 .flatMap(this::checkReserveItems)
                 .onErrorResume(throwable -> Mono.error(throwable))
-                .flatMap(reserveRepository::save);
+                .flatMap(this::save)
+                .flatMap(reserve -> changePublisher.publishAfterCommit(ReserveChangeType.UPDATE, reserve));
     }
 
     /**
@@ -336,20 +549,47 @@ public class ReserveService extends ReactiveAbstractService {
                 })
                 .flatMap(this::checkReserveItems)
                 .onErrorResume(throwable -> Mono.error(throwable))
-                .flatMap(reserveRepository::save);
+                .flatMap(this::save)
+                .flatMap(reserve -> changePublisher.publishAfterCommit(ReserveChangeType.UPDATE, reserve));
     }
 
     /**
      * 한건 정보 조회 entity return
+     * 승인/취소/수정할 예약이므로 transaction 의 connection(primary)으로 version 을 조회하여 near cache 와 같을 때만 cache 를 사용하고,
+     * 다르면 전체 컬럼을 조회하여 cache 에 저장한다.
      *
      * @param reserveId
      * @return
      */
     private Mono<Reserve> findById(String reserveId) {
-        return reserveRepository.findById(reserveId)
+        return reserveNearCache.load(reserveId, reserveRepository.findCacheVersionById(reserveId),
+                        stageMetrics.time(ReserveStage.DB_FIND, reserveRepository.findById(reserveId)))
                 .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveId));
     }
 
+    /**
+     * 예약 저장 (near cache write-through)
+     * 같은 transaction 에서 예약 물품 version 을 증가시킨다. (기간 조회 ETag, near cache version)
+     *
+     * @param reserve
+     * @return
+     */
+    private Mono<Reserve> save(Reserve reserve) {
+        return stageMetrics.time(ReserveStage.DB_SAVE, reserveRepository.save(reserve))
+                .flatMap(saved -> reserveRepository.increaseReserveItemVersion(saved.getReserveItemId()).thenReturn(saved))
+                .flatMap(this::cacheSaved);
+    }
+
+    /**
+     * 저장한 예약을 저장 transaction 에서 조회한 version 과 함께 near cache 에 반영 (commit 이후)
+     *
+     * @param reserve
+     * @return
+     */
+    private Mono<Reserve> cacheSaved(Reserve reserve) {
+        return reserveNearCache.saved(reserve, reserveRepository.findCacheVersionById(reserve.getReserveId()));
+    }
+
     /**
      * 관리자 예약 신청
      * 관리자의 경우 실시간이어도 이벤트 스트림 거치지 않고 바로 예약 처리
@@ -358,16 +598,20 @@ public class ReserveService extends ReactiveAbstractService {
      * @return
      */
     public Mono<ReserveResponseDto> create(ReserveSaveRequestDto saveRequestDto) {
-        return Mono.just(saveRequestDto)
+        return stageMetrics.time(ReserveStage.SERVICE_CREATE, flightRecorder.record(ReserveOperation.CREATE, null, saveRequestDto.getReserveItemId(), Mono.just(saveRequestDto)
             .map(dto -> {
                 String uuid = UUID.randomUUID().toString();
                 dto.setReserveId(uuid);
                 return dto.toEntity();
             })
             .flatMap(reserveRepository::insert)
+            .flatMap(reserve -> reserveRepository.increaseReserveItemVersion(reserve.getReserveItemId()).thenReturn(reserve))
+            .flatMap(this::cacheSaved)
             .flatMap(this::checkReserveItems)
+            .flatMap(reserve -> changePublisher.publishAfterCommit(ReserveChangeType.CREATE, reserve))
             .flatMap(reserveRepository::loadRelations)
-            .flatMap(this::convertReserveResponseDto);
+            .flatMap(reserveRepository::saveView)
+            .flatMap(this::convertReserveResponseDto)));
 
     }
 
@@ -381,7 +625,8 @@ public class ReserveService extends ReactiveAbstractService {
      */
     @Transactional(readOnly = true)
     public Flux<ReserveCountResponseDto> findAllByReserveDate(Long reserveItemId, ReserveCountRequestDto requestDto) {
-        return reserveRepository.findAllByReserveDate(reserveItemId, requestDto.getStartDate(), requestDto.getEndDate())
-                .flatMap(reserve -> Mono.just(ReserveCountResponseDto.builder().entity(reserve).build()));
+        return stageMetrics.time(ReserveStage.SERVICE_RESERVE_DATE,
+                reserveRepository.findAllByReserveDate(reserveItemId, requestDto.getStartDate(), requestDto.getEndDate())
+                        .flatMap(reserve -> Mono.just(ReserveCountResponseDto.builder().entity(reserve).build())));
     }
 }
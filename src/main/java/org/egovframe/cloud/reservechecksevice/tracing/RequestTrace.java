@@ -0,0 +1,170 @@
+package org.egovframe.cloud.reservechecksevice.tracing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.tracing.RequestTrace
+ * <p>
+ * sampling 된 요청 한건의 trace
+ * reactor context 에 담겨 전달되며 ReserveStageMetrics 가 단계(stage)별 span 을 기록한다.
+ * 목록 조회처럼 row 마다 client 호출이 일어나는 경우를 대비해 span 개수는 MAX_SPANS 로 제한하고,
+ * 제한을 넘은 span 은 단계별 합계(Server-Timing)에만 반영한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public class RequestTrace {
+
+    /**
+     * reactor context key
+     */
+    public static final String CONTEXT_KEY = RequestTrace.class.getName();
+
+    static final int MAX_SPANS = 256;
+
+    @Getter
+    private final String traceId;
+    @Getter
+    private final String method;
+    @Getter
+    private final String path;
+    @Getter
+    private final long startEpochMillis;
+    private final long startNanos;
+
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spanCount = new AtomicInteger();
+    private final Map<String, StageTotal> stageTotals = new LinkedHashMap<>();
+
+    public RequestTrace(String method, String path) {
+        this.traceId = UUID.randomUUID().toString().replace("-", "");
+        this.method = method;
+        this.path = path;
+        this.startEpochMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 단계 span 기록
+     *
+     * @param stage
+     * @param spanStartNanos
+     * @param durationNanos
+     * @param outcome
+     */
+    public void record(String stage, long spanStartNanos, long durationNanos, String outcome) {
+        if (spanCount.incrementAndGet() <= MAX_SPANS) {
+            spans.add(new Span(stage, spanStartNanos - startNanos, durationNanos, outcome));
+        }
+        synchronized (stageTotals) {
+            StageTotal total = stageTotals.get(stage);
+            if (total == null) {
+                total = new StageTotal();
+                stageTotals.put(stage, total);
+            }
+            total.count++;
+            total.nanos += durationNanos;
+        }
+    }
+
+    /**
+     * 요청 시작부터 경과시간 (nanoseconds)
+     *
+     * @return
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 기록된 span 수 (MAX_SPANS 초과분 포함)
+     *
+     * @return
+     */
+    public int getRecordedSpanCount() {
+        return spanCount.get();
+    }
+
+    public List<Span> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * Server-Timing header 값
+     * ex) total;dur=12.41, service.search;dur=11.90, r2dbc.search;dur=3.02, client.user;dur=7.11;desc="x10"
+     *
+     * @return
+     */
+    public String toServerTiming() {
+        StringBuilder builder = new StringBuilder(128);
+        builder.append("total;dur=").append(toMillis(elapsedNanos()));
+        synchronized (stageTotals) {
+            for (Map.Entry<String, StageTotal> entry : stageTotals.entrySet()) {
+                StageTotal total = entry.getValue();
+                builder.append(", ").append(entry.getKey())
+                        .append(";dur=").append(toMillis(total.nanos));
+                if (total.count > 1) {
+                    builder.append(";desc=\"x").append(total.count).append('"');
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", millis(nanos));
+    }
+
+    /**
+     * nanoseconds 를 소수점 둘째 자리까지의 milliseconds 로 변환
+     *
+     * @param nanos
+     * @return
+     */
+    static double millis(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MICROSECONDS.toNanos(10)) / 100.0;
+    }
+
+    /**
+     * 단계 span
+     */
+    @Getter
+    public static class Span {
+        private final String stage;
+        private final long offsetNanos;
+        private final long durationNanos;
+        private final String outcome;
+
+        Span(String stage, long offsetNanos, long durationNanos, String outcome) {
+            this.stage = stage;
+            this.offsetNanos = offsetNanos;
+            this.durationNanos = durationNanos;
+            this.outcome = outcome;
+        }
+    }
+
+    private static class StageTotal {
+        private int count;
+        private long nanos;
+    }
+}
@@ -0,0 +1,139 @@
+package org.egovframe.cloud.reservechecksevice.tracing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.tracing.TraceWebFilter
+ * <p>
+ * 설정된 비율(reserve.trace.sample-rate)로 요청을 sampling 하여 단계별 span 을 수집하는 filter
+ * sampling 된 요청은 종료시 reserve.trace logger 로 JSON 한 줄을 남기고, Server-Timing 응답 header 를 추가한다.
+ * sample-rate 가 0 이면 context 에 아무것도 담지 않으므로 추가 비용이 없다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+@Slf4j(topic = "reserve.trace")
+@Component
+public class TraceWebFilter implements WebFilter, Ordered {
+
+    // 인증 filter 를 포함한 전체 처리 시간을 측정하기 위해 가장 먼저 실행
+    private static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+    private static final String SERVER_TIMING = "Server-Timing";
+    private static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final ObjectMapper objectMapper;
+    private final double sampleRate;
+    private final boolean serverTiming;
+
+    public TraceWebFilter(ObjectMapper objectMapper,
+                          @Value("${reserve.trace.sample-rate:0}") double sampleRate,
+                          @Value("${reserve.trace.server-timing:true}") boolean serverTiming) {
+        this.objectMapper = objectMapper;
+        this.sampleRate = sampleRate;
+        this.serverTiming = serverTiming;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!sampled()) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        RequestTrace trace = new RequestTrace(request.getMethodValue(), request.getPath().value());
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            response.getHeaders().set(TRACE_ID_HEADER, trace.getTraceId());
+            if (serverTiming) {
+                response.getHeaders().set(SERVER_TIMING, trace.toServerTiming());
+            }
+            return Mono.empty();
+        });
+
+        return chain.filter(exchange)
+                .doFinally(signalType -> write(trace, response.getStatusCode(), signalType))
+                .contextWrite(context -> context.put(RequestTrace.CONTEXT_KEY, trace));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private boolean sampled() {
+        if (sampleRate <= 0) {
+            return false;
+        }
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * trace 를 JSON 한 줄로 기록
+     *
+     * @param trace
+     * @param status
+     * @param signalType
+     */
+    private void write(RequestTrace trace, HttpStatus status, SignalType signalType) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("traceId", trace.getTraceId());
+        line.put("timestamp", trace.getStartEpochMillis());
+        line.put("method", trace.getMethod());
+        line.put("path", trace.getPath());
+        line.put("status", status != null ? status.value() : null);
+        line.put("signal", signalType.name());
+        line.put("durationMs", RequestTrace.millis(trace.elapsedNanos()));
+        line.put("spanCount", trace.getRecordedSpanCount());
+
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (RequestTrace.Span span : trace.getSpans()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("stage", span.getStage());
+            item.put("offsetMs", RequestTrace.millis(span.getOffsetNanos()));
+            item.put("durationMs", RequestTrace.millis(span.getDurationNanos()));
+            item.put("outcome", span.getOutcome());
+            spans.add(item);
+        }
+        line.put("spans", spans);
+
+        try {
+            log.info(objectMapper.writeValueAsString(line));
+        } catch (JsonProcessingException e) {
+            log.warn("trace serialize failed : {}", e.getMessage());
+        }
+    }
+}
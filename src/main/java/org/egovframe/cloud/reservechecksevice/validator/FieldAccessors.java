@@ -0,0 +1,150 @@
+package org.egovframe.cloud.reservechecksevice.validator;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.validator.FieldAccessors
+ * <p>
+ * 클래스별로 한 번만 생성되어 재사용되는 field 값 조회 accessor
+ * public getter 는 LambdaMetafactory 로 생성한 Function 을, getter 가 없는 field 는 MethodHandle 을 사용한다.
+ * validator 가 요청마다 getDeclaredField, setAccessible, Field.get 을 호출하지 않도록 한다.
+ *
+ * @author 표준프레임워크센터 shinmj
+ * @version 1.0
+ * @since 2026/10/19
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/19    shinmj      최초 생성
+ * </pre>
+ */
+public final class FieldAccessors {
+
+    private static final ClassValue<FieldAccessors> CACHE = new ClassValue<FieldAccessors>() {
+        @Override
+        protected FieldAccessors computeValue(Class<?> type) {
+            return new FieldAccessors(type);
+        }
+    };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Class<?> type;
+    private final Map<String, Function<Object, Object>> accessors = new ConcurrentHashMap<>();
+
+    private FieldAccessors(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * 클래스별 accessor 조회
+     *
+     * @param type
+     * @return
+     */
+    public static FieldAccessors of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * field 값 조회
+     *
+     * @param target
+     * @param fieldName
+     * @return
+     */
+    public Object get(Object target, String fieldName) {
+        return accessor(fieldName).apply(target);
+    }
+
+    /**
+     * field 값이 null 이거나 빈 문자열인지 체크
+     *
+     * @param target
+     * @param fieldName
+     * @return
+     */
+    public boolean isEmpty(Object target, String fieldName) {
+        Object value = get(target, fieldName);
+        return value == null || (value instanceof CharSequence && ((CharSequence) value).length() == 0);
+    }
+
+    private Function<Object, Object> accessor(String fieldName) {
+        Function<Object, Object> accessor = accessors.get(fieldName);
+        if (accessor == null) {
+            accessor = accessors.computeIfAbsent(fieldName, this::compile);
+        }
+        return accessor;
+    }
+
+    /**
+     * accessor 생성
+     * public getter 가 있으면 lambda 로, 없으면 field getter MethodHandle 로 만든다.
+     *
+     * @param fieldName
+     * @return
+     */
+    private Function<Object, Object> compile(String fieldName) {
+        Method getter = ReflectionUtils.findMethod(type, "get" + StringUtils.capitalize(fieldName));
+        if (getter != null && Modifier.isPublic(getter.getModifiers())
+                && Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+            try {
+                return compileGetter(getter);
+            } catch (Throwable e) {
+                // 다른 class loader 등으로 lambda 생성이 불가능하면 MethodHandle 로 대체
+            }
+        }
+        return compileFieldHandle(fieldName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> compileGetter(Method getter) throws Throwable {
+        MethodHandle handle = LOOKUP.unreflect(getter);
+        CallSite callSite = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                handle,
+                handle.type().wrap());
+        return (Function<Object, Object>) callSite.getTarget().invokeExact();
+    }
+
+    private Function<Object, Object> compileFieldHandle(String fieldName) {
+        Field field = ReflectionUtils.findField(type, fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("no such field : " + type.getName() + "." + fieldName);
+        }
+        ReflectionUtils.makeAccessible(field);
+        final MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return target -> {
+            try {
+                return handle.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
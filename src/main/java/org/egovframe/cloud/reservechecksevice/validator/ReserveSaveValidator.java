@@ -1,16 +1,18 @@
 package org.egovframe.cloud.reservechecksevice.validator;
 
-import java.lang.reflect.Field;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 import org.egovframe.cloud.reservechecksevice.validator.annotation.ReserveSaveValid;
-import org.springframework.util.StringUtils;
 
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -28,12 +30,30 @@ import lombok.extern.slf4j.Slf4j;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/23    shinmj       최초 생성
+ *  2026/10/19    shinmj       reflection 대신 클래스별 accessor 사용, 유형별 규칙 테이블로 변경
+ *  2026/10/19    shinmj       예약 신청 시작/종료 기간이 모두 없으면 함께 반환
  * </pre>
  */
 @Slf4j
 @RequiredArgsConstructor
 public class ReserveSaveValidator implements ConstraintValidator<ReserveSaveValid, Object> {
 
+    /**
+     * 예약 유형(categoryId)별 검증 규칙
+     * 교육 : 신청인원
+     * 장비 : 신청일자(기간), 신청수량
+     * 공간 : 신청일자(기간)
+     */
+    private static final Map<String, List<Rule>> CATEGORY_RULES;
+
+    static {
+        Map<String, List<Rule>> rules = new HashMap<>();
+        rules.put("education", Collections.singletonList(ReserveSaveValidator::checkReserveQty));
+        rules.put("equipment", Arrays.asList(ReserveSaveValidator::checkReserveDate, ReserveSaveValidator::checkReserveQty));
+        rules.put("place", Collections.singletonList(ReserveSaveValidator::checkReserveDate));
+        CATEGORY_RULES = Collections.unmodifiableMap(rules);
+    }
+
     private String message;
 
 
@@ -44,51 +64,40 @@ public class ReserveSaveValidator implements ConstraintValidator<ReserveSaveVali
 
     /**
      * 예약 신청 시 비지니스 로직에 의한 validation check
+     * 해당 유형의 규칙을 모두 검사하여 위반 항목을 함께 반환한다.
      *
      * @param value
      * @param context
      * @return
      */
-    @SneakyThrows
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext context) {
-        boolean fieldValid = true;
+        FieldAccessors accessors = FieldAccessors.of(value.getClass());
 
-        String categoryId = String.valueOf(getFieldValue(value, "categoryId"));
-        if ("education".equals(categoryId)) {
-            //교육인 경우
-            //신청인원
-            fieldValid = checkReserveQty(value, context);
-
-        }else if ("equipment".equals(categoryId)) {
-            //장비인 경우
-            //신청일자(기간), 신청수량
-            fieldValid = checkReserveDate(value, context);
-            fieldValid = checkReserveQty(value, context);
-
-        }else if ("place".equals(categoryId)) {
-            //공간인 경우
-            //신청일자(기간)
-            fieldValid = checkReserveDate(value, context);
+        Object categoryId = accessors.get(value, "categoryId");
+        List<Rule> rules = categoryId == null ? null : CATEGORY_RULES.get(categoryId.toString());
+        if (rules == null) {
+            return true;
         }
 
+        boolean fieldValid = true;
+        for (Rule rule : rules) {
+            fieldValid &= rule.check(accessors, value, context);
+        }
         return fieldValid;
     }
 
     /**
      * 예약 수량 체크
      *
+     * @param accessors
      * @param value
      * @param context
      * @return
      */
-    @SneakyThrows
-    private boolean checkReserveQty(Object value, ConstraintValidatorContext context) {
-        if (isNull(value, "reserveQty")) {
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate("예약 수량은 필수입니다.")
-                    .addPropertyNode("reserveQty")
-                    .addConstraintViolation();
+    private static boolean checkReserveQty(FieldAccessors accessors, Object value, ConstraintValidatorContext context) {
+        if (accessors.isEmpty(value, "reserveQty")) {
+            addViolation(context, "예약 수량은 필수입니다.", "reserveQty");
             return false;
         }
         return true;
@@ -96,70 +105,48 @@ public class ReserveSaveValidator implements ConstraintValidator<ReserveSaveVali
 
     /**
      * 예약 신청 기간 체크
+     * 시작/종료 기간이 모두 없으면 두 항목을 함께 반환한다.
      *
+     * @param accessors
      * @param value
      * @param context
      * @return
      */
-    @SneakyThrows
-    private boolean checkReserveDate(Object value, ConstraintValidatorContext context) {
+    private static boolean checkReserveDate(FieldAccessors accessors, Object value, ConstraintValidatorContext context) {
+        Object reserveStartDate = accessors.get(value, "reserveStartDate");
+        Object reserveEndDate = accessors.get(value, "reserveEndDate");
+
         // 예약 신청 기간 필수
-        if (isNull(value, "reserveStartDate")) {
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate("예약 신청 시작 기간은 필수입니다.")
-                    .addPropertyNode("reserveStartDate")
-                    .addConstraintViolation();
+        if (reserveStartDate == null || reserveEndDate == null) {
+            if (reserveStartDate == null) {
+                addViolation(context, "예약 신청 시작 기간은 필수입니다.", "reserveStartDate");
+            }
+            if (reserveEndDate == null) {
+                addViolation(context, "예약 신청 종료 기간은 필수입니다.", "reserveEndDate");
+            }
             return false;
-        } else if (isNull(value, "reserveEndDate")) {
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate("예약 신청 종료 기간은 필수입니다.")
-                    .addPropertyNode("reserveEndDate")
-                    .addConstraintViolation();
+        }
+
+        // 예약 시작일, 종료일 체크
+        if (((LocalDateTime) reserveStartDate).isAfter((LocalDateTime) reserveEndDate)) {
+            addViolation(context, "시작일이 종료일 보다 큽니다.", "reserveStartDate");
             return false;
-        }else {
-            // 예약 시작일, 종료일 체크
-            LocalDateTime reserveStartDate = (LocalDateTime) getFieldValue(value, "reserveStartDate");
-            LocalDateTime reserveEndDate = (LocalDateTime) getFieldValue(value, "reserveEndDate");
-            if (reserveStartDate.isAfter(reserveEndDate)) {
-                context.disableDefaultConstraintViolation();
-                context.buildConstraintViolationWithTemplate("시작일이 종료일 보다 큽니다.")
-                    .addPropertyNode("reserveStartDate")
-                    .addConstraintViolation();
-                return false;
-            }
         }
         return true;
     }
 
-    /**
-     * 해당하는 field의 값 조회
-     *
-     * @param object
-     * @param fieldName
-     * @return
-     * @throws NoSuchFieldException
-     * @throws IllegalAccessException
-     */
-    private Object getFieldValue(Object object, String fieldName) throws NoSuchFieldException, IllegalAccessException {
-        Class<?> clazz = object.getClass();
-        Field field = clazz.getDeclaredField(fieldName);
-        field.setAccessible(true);
-        return field.get(object);
+    private static void addViolation(ConstraintValidatorContext context, String message, String property) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(message)
+                .addPropertyNode(property)
+                .addConstraintViolation();
     }
 
     /**
-     * 해당하는 Field가 null인지 체크
-     *
-     * @param object
-     * @param fieldName
-     * @return
-     * @throws NoSuchFieldException
-     * @throws IllegalAccessException
+     * 유형별 검증 규칙
      */
-    private boolean isNull(Object object, String fieldName) throws NoSuchFieldException, IllegalAccessException {
-        Class<?> clazz = object.getClass();
-        Field field = clazz.getDeclaredField(fieldName);
-        field.setAccessible(true);
-        return field.get(object) == null || !StringUtils.hasLength(String.valueOf(field.get(object)));
+    @FunctionalInterface
+    private interface Rule {
+        boolean check(FieldAccessors accessors, Object value, ConstraintValidatorContext context);
     }
 }
@@ -23,3 +23,57 @@ CREATE TABLE IF NOT EXISTS  reserve
 
 ALTER TABLE reserve COMMENT '예약 신청&확인';
 
+
+-- reserve_view Table Create SQL
+CREATE TABLE IF NOT EXISTS  reserve_view
+(
+    `reserve_id`               VARCHAR(255)     NOT NULL    COMMENT '예약 id',
+    `reserve_item_id`          BIGINT           NULL        COMMENT '예약 물품 id',
+    `reserve_item_name`        VARCHAR(200)     NULL        COMMENT '예약 물품 명',
+    `location_id`              BIGINT           NULL        COMMENT '지역 id',
+    `location_name`            VARCHAR(200)     NULL        COMMENT '지역 명',
+    `category_id`              VARCHAR(255)     NULL        COMMENT '예약유형 id',
+    `category_name`            VARCHAR(255)     NULL        COMMENT '예약유형 명',
+    `inventory_qty`            BIGINT(18)       NULL        COMMENT '재고/수용인원 수',
+    `user_id`                  VARCHAR(255)     NULL        COMMENT '예약자 id',
+    `user_name`                VARCHAR(255)     NULL        COMMENT '예약자 명',
+    `modified_date`            DATETIME         NULL        COMMENT '수정일',
+    `version`                  BIGINT           NOT NULL    DEFAULT 0    COMMENT '변경 version (수정할 때마다 1 증가, 조건부 조회 ETag 에 사용)',
+    PRIMARY KEY (reserve_id),
+    INDEX IDX_reserve_view_reserve_item_id (reserve_item_id),
+    INDEX IDX_reserve_view_user_id (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE reserve_view COMMENT '예약 목록 조회용 예약 물품/예약자 정보';
+
+-- reserve_item_snapshot Table Create SQL
+CREATE TABLE IF NOT EXISTS  reserve_item_snapshot
+(
+    `reserve_item_id`          BIGINT           NOT NULL    COMMENT '예약 물품 id',
+    `reserve_item_name`        VARCHAR(200)     NULL        COMMENT '예약 물품 명',
+    `location_id`              BIGINT           NULL        COMMENT '지역 id',
+    `location_name`            VARCHAR(200)     NULL        COMMENT '지역 명',
+    `category_id`              VARCHAR(255)     NULL        COMMENT '예약유형 id',
+    `category_name`            VARCHAR(255)     NULL        COMMENT '예약유형 명',
+    `total_qty`                BIGINT(18)       NULL        COMMENT '총 재고/수용인원 수',
+    `inventory_qty`            BIGINT(18)       NULL        COMMENT '재고/수용인원 수',
+    `operation_start_date`     DATETIME         NULL        COMMENT '운영 시작 일',
+    `operation_end_date`       DATETIME         NULL        COMMENT '운영 종료 일',
+    `reserve_means_id`         VARCHAR(20)      NULL        COMMENT '예약 구분 - 공통코드(reserve-means)',
+    `request_start_date`       DATETIME         NULL        COMMENT '예약 신청 시작 일시',
+    `request_end_date`         DATETIME         NULL        COMMENT '예약 신청 종료 일시',
+    `snapshot_date`            DATETIME         NOT NULL    COMMENT '예약 물품 서비스에서 조회한 일시',
+    PRIMARY KEY (reserve_item_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE reserve_item_snapshot COMMENT '예약 물품 서비스 장애시 사용할 예약 물품 snapshot';
+
+-- reserve_item_version Table Create SQL
+CREATE TABLE IF NOT EXISTS  reserve_item_version
+(
+    `reserve_item_id`          BIGINT           NOT NULL    COMMENT '예약 물품 id',
+    `version`                  BIGINT           NOT NULL    COMMENT '예약 변경 version (예약 저장 transaction 에서 1 증가)',
+    PRIMARY KEY (reserve_item_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE reserve_item_version COMMENT '예약 물품별 예약 변경 version (기간 조회 ETag)';
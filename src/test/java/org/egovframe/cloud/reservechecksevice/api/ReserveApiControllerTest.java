@@ -10,29 +10,38 @@ import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
 import org.egovframe.cloud.reservechecksevice.domain.location.Location;
 import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
 import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveItem;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveListRow;
 import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveRepository;
 import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveStatus;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveVersion;
 import org.egovframe.cloud.reservechecksevice.util.RestResponsePage;
 import org.egovframe.cloud.reservechecksevice.util.WithCustomMockUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// repository 를 test 마다 mock 하므로 near cache 는 사용하지 않는다
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "reserve.cache.enabled=false")
 @ActiveProfiles("test")
 class ReserveApiControllerTest {
 
@@ -45,6 +54,9 @@ class ReserveApiControllerTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private DatabaseClient databaseClient;
+
     private static final String API_URL = "/api/v1/reserves";
 
     private UserResponseDto user;
@@ -92,12 +104,23 @@ class ReserveApiControllerTest {
                 .build();
         reserve.setReserveItem(reserveItem);
         reserve.setUser(user);
+
+        BDDMockito.when(reserveRepository.increaseReserveItemVersion(ArgumentMatchers.any()))
+                .thenReturn(Mono.just(1));
+        BDDMockito.when(reserveRepository.searchVersion(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.any(Pageable.class), ArgumentMatchers.any()))
+                .thenReturn(Mono.empty());
+        BDDMockito.when(reserveRepository.findVersionById(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.empty());
+        BDDMockito.when(reserveRepository.findCacheVersionById(ArgumentMatchers.anyString()))
+                .thenReturn(Mono.empty());
     }
 
     @Test
     public void 예약신청관리_목록_조회_성공() throws Exception {
         BDDMockito.when(reserveRepository.search(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.any(Pageable.class)))
-                .thenReturn(Flux.just(reserve));
+                .thenReturn(Flux.just(ReserveListRow.of(reserve)));
+        BDDMockito.when(reserveRepository.loadMissingRelations(ArgumentMatchers.anyList()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
         BDDMockito.when(reserveRepository.searchCount(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.any(Pageable.class)))
                 .thenReturn(Mono.just(1L));
 
@@ -105,6 +128,7 @@ class ReserveApiControllerTest {
                 .uri(API_URL+"?page=0&size=5")
                 .exchange()
                 .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.ETAG)
                 .expectBody(new ParameterizedTypeReference<RestResponsePage<ReserveListResponseDto>>() {
                 })
                 .value(page -> {
@@ -115,6 +139,87 @@ class ReserveApiControllerTest {
 
     }
 
+    @Test
+    public void 예약신청관리_목록_ETag_일치하면_304() throws Exception {
+        BDDMockito.when(reserveRepository.searchVersion(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.any(Pageable.class), ArgumentMatchers.any()))
+                .thenReturn(Mono.just(ReserveVersion.of(reserve.getReserveId(), "request", 1L)));
+        BDDMockito.when(reserveRepository.search(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(Flux.just(ReserveListRow.of(reserve)));
+        BDDMockito.when(reserveRepository.loadMissingRelations(ArgumentMatchers.anyList()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        BDDMockito.when(reserveRepository.searchCount(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(Mono.just(1L));
+
+        String eTag = webTestClient.get()
+                .uri(API_URL+"?page=0&size=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBody().returnResult()
+                .getResponseHeaders().getETag();
+        assertThat(eTag).isNotNull();
+
+        webTestClient.get()
+                .uri(API_URL+"?page=0&size=5")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        // 다른 page 는 다른 ETag
+        webTestClient.get()
+                .uri(API_URL+"?page=1&size=5")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk();
+
+        BDDMockito.verify(reserveRepository, Mockito.times(2))
+                .search(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.any(Pageable.class));
+    }
+
+    @Test
+    public void 예약_한건조회_ETag_일치하면_예약자_예약물품_조회없이_304() throws Exception {
+        BDDMockito.when(reserveRepository.findVersionById(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.just(ReserveVersion.of(reserve.getReserveItemId(), reserve.getReserveQty(), 1L)));
+        BDDMockito.when(reserveRepository.findReserveById(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.just(reserve));
+
+        String eTag = webTestClient.get()
+                .uri(API_URL+"/{reserveId}", 1L)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBody().returnResult()
+                .getResponseHeaders().getETag();
+        assertThat(eTag).isNotNull();
+
+        webTestClient.get()
+                .uri(API_URL+"/{reserveId}", 1L)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        BDDMockito.verify(reserveRepository, Mockito.times(1)).findReserveById(ArgumentMatchers.anyLong());
+    }
+
+    @Test
+    public void 예약_한건조회_예약물품_snapshot_이면_ETag_없음() throws Exception {
+        reserve.setReserveItem(reserveItem.markStale(LocalDateTime.now()));
+        BDDMockito.when(reserveRepository.findVersionById(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.just(ReserveVersion.of(reserve.getReserveItemId(), reserve.getReserveQty(), 1L)));
+        BDDMockito.when(reserveRepository.findReserveById(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.just(reserve));
+
+        webTestClient.get()
+                .uri(API_URL+"/{reserveId}", 1L)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.ETAG)
+                .expectBody(ReserveResponseDto.class)
+                .value(response -> assertThat(response.isReserveItemStale()).isTrue());
+    }
+
     @Test
     @WithCustomMockUser(userId = "admin", role = Role.ADMIN)
     public void 관리자_취소_성공() throws Exception {
@@ -406,6 +511,8 @@ class ReserveApiControllerTest {
                 .thenReturn(Mono.just(true));
         BDDMockito.when(reserveRepository.loadRelations(ArgumentMatchers.any(Reserve.class)))
                 .thenReturn(Mono.just(reserve));
+        BDDMockito.when(reserveRepository.saveView(ArgumentMatchers.any(Reserve.class)))
+                .thenReturn(Mono.just(reserve));
 
         ReserveSaveRequestDto saveRequestDto =
                 ReserveSaveRequestDto.builder()
@@ -484,4 +591,208 @@ class ReserveApiControllerTest {
 
 
 
-}
\ No newline at end of file
+
+    @Test
+    public void 기간조회_ETag_일치하면_304() throws Exception {
+        BDDMockito.when(reserveRepository.findVersionByReserveItemId(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.just(ReserveVersion.of(1L, 50L, reserve.getReserveStartDate(), null)));
+        BDDMockito.when(reserveRepository.findAllByReserveDate(ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(Flux.just(reserve));
+
+        String eTag = webTestClient.get()
+                .uri(API_URL+"/{reserveItemId}/dates", reserveItem.getReserveItemId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(ReserveCountResponseDto.class)
+                .getResponseHeaders().getETag();
+
+        webTestClient.get()
+                .uri(API_URL+"/{reserveItemId}/dates", reserveItem.getReserveItemId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        BDDMockito.verify(reserveRepository, Mockito.times(1))
+                .findAllByReserveDate(ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void 기간조회_ETag_다르면_200() throws Exception {
+        BDDMockito.when(reserveRepository.findVersionByReserveItemId(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.just(ReserveVersion.of(1L, 50L, reserve.getReserveStartDate(), null)));
+        BDDMockito.when(reserveRepository.findAllByReserveDate(ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(Flux.just(reserve));
+
+        webTestClient.get()
+                .uri(API_URL+"/{reserveItemId}/dates", reserveItem.getReserveItemId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBodyList(ReserveCountResponseDto.class)
+                .value(list -> assertThat(list).extracting(ReserveCountResponseDto::getReserveId).containsExactly(reserve.getReserveId()));
+    }
+
+    @Test
+    public void 기간조회_응답_media_type_별_ETag() throws Exception {
+        BDDMockito.when(reserveRepository.findVersionByReserveItemId(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.just(ReserveVersion.of(1L, 50L, reserve.getReserveStartDate(), null, 1L)));
+        BDDMockito.when(reserveRepository.findAllByReserveDate(ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(Flux.just(reserve));
+
+        String jsonETag = webTestClient.get()
+                .uri(API_URL+"/{reserveItemId}/dates", reserveItem.getReserveItemId())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBody().returnResult()
+                .getResponseHeaders().getETag();
+
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        String smileETag = webTestClient.get()
+                .uri(API_URL+"/{reserveItemId}/dates", reserveItem.getReserveItemId())
+                .accept(smile)
+                .header(HttpHeaders.IF_NONE_MATCH, jsonETag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(smile)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBody().returnResult()
+                .getResponseHeaders().getETag();
+
+        assertThat(jsonETag).isNotNull();
+        assertThat(smileETag).isNotNull().isNotEqualTo(jsonETag);
+    }
+
+    @Test
+    @WithCustomMockUser(userId = "admin", role = Role.ADMIN)
+    public void 관리자_내려받기_NDJSON_성공() throws Exception {
+        BDDMockito.when(reserveRepository.exportChunks(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.anyInt()))
+                .thenReturn(Flux.just(Collections.singletonList(reserve)));
+
+        webTestClient.get()
+                .uri(API_URL+"/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> assertThat(body).contains("\"reserveId\":\"" + reserve.getReserveId() + "\""));
+    }
+
+    @Test
+    @WithCustomMockUser(userId = "user", role = Role.USER)
+    public void 관리자가_아닌_경우_내려받기_NDJSON_403() throws Exception {
+        webTestClient.get()
+                .uri(API_URL+"/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody().isEmpty();
+
+        BDDMockito.verify(reserveRepository, Mockito.never())
+                .exportChunks(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @WithCustomMockUser(userId = "admin", role = Role.ADMIN)
+    public void 관리자_내려받기_CSV_성공() throws Exception {
+        BDDMockito.when(reserveRepository.exportChunks(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.anyInt()))
+                .thenReturn(Flux.just(Collections.singletonList(reserve)));
+
+        webTestClient.get()
+                .uri(API_URL+"/export?format=csv")
+                .accept(MediaType.parseMediaType("text/csv"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.CONTENT_DISPOSITION, ".*reserves\\.csv.*")
+                .expectBody(String.class)
+                .value(body -> assertThat(body)
+                        // 앞의 BOM 은 decoder 에 따라 제거될 수 있다
+                        .contains(ReserveExportDto.CSV_HEADER.substring(1))
+                        .endsWith(ReserveExportDto.CSV_HEADER.substring(1) + new ReserveExportDto(reserve).toCsvLine()));
+    }
+
+    @Test
+    @WithCustomMockUser(userId = "user", role = Role.USER)
+    public void 관리자가_아닌_경우_내려받기_CSV_403() throws Exception {
+        webTestClient.get()
+                .uri(API_URL+"/export?format=csv")
+                .accept(MediaType.parseMediaType("text/csv"))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_DISPOSITION)
+                .expectBody().isEmpty();
+
+        BDDMockito.verify(reserveRepository, Mockito.never())
+                .exportChunks(ArgumentMatchers.any(ReserveRequestDto.class), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @WithCustomMockUser(userId = "admin", role = Role.ADMIN)
+    public void 예약물품서비스_장애시_snapshot_으로_재고확인_실패() throws Exception {
+        Reserve snapshotReserve = saveSnapshotReserve(901L, "equipment");
+
+        webTestClient.put()
+                .uri(API_URL+"/approve/{reserveId}", snapshotReserve.getReserveId())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorResponse.class)
+                .value(response -> {
+                    assertThat(response.getMessage()).isEqualTo("예약가능한 재고/인원을 확인할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+                });
+
+        BDDMockito.verify(reserveRepository, Mockito.never()).save(ArgumentMatchers.any(Reserve.class));
+    }
+
+    @Test
+    @WithCustomMockUser(userId = "admin", role = Role.ADMIN)
+    public void 예약물품서비스_장애시_snapshot_으로_공간_예약기간확인_성공() throws Exception {
+        Reserve snapshotReserve = saveSnapshotReserve(902L, "space");
+        BDDMockito.when(reserveRepository.save(ArgumentMatchers.any(Reserve.class)))
+                .thenReturn(Mono.just(snapshotReserve));
+
+        webTestClient.put()
+                .uri(API_URL+"/approve/{reserveId}", snapshotReserve.getReserveId())
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    // 예약 물품 서비스 호출은 timeout 으로 실패하고, 예약 물품 snapshot 만 있는 예약
+    private Reserve saveSnapshotReserve(Long reserveItemId, String categoryId) {
+        databaseClient.sql("DELETE FROM reserve_item_snapshot WHERE reserve_item_id = :reserveItemId")
+                .bind("reserveItemId", reserveItemId)
+                .fetch().rowsUpdated()
+                .then(databaseClient.sql("INSERT INTO reserve_item_snapshot (reserve_item_id, reserve_item_name, category_id, " +
+                                "inventory_qty, reserve_means_id, request_start_date, request_end_date, snapshot_date) " +
+                                "VALUES (:reserveItemId, 'snapshot', :categoryId, 100, 'realtime', :requestStartDate, :requestEndDate, :snapshotDate)")
+                        .bind("reserveItemId", reserveItemId)
+                        .bind("categoryId", categoryId)
+                        .bind("requestStartDate", reserveItem.getRequestStartDate())
+                        .bind("requestEndDate", reserveItem.getRequestEndDate())
+                        .bind("snapshotDate", LocalDateTime.now())
+                        .fetch().rowsUpdated())
+                .block();
+
+        Reserve snapshotReserve = Reserve.builder()
+                .reserveId("snapshot-" + reserveItemId)
+                .reserveItemId(reserveItemId)
+                .reserveQty(50)
+                .reservePurposeContent("test")
+                .reserveStatusId("request")
+                .reserveStartDate(reserve.getReserveStartDate())
+                .reserveEndDate(reserve.getReserveEndDate())
+                .userId(user.getUserId())
+                .build();
+        snapshotReserve.setUser(user);
+        BDDMockito.when(reserveRepository.findById(ArgumentMatchers.anyString()))
+                .thenReturn(Mono.just(snapshotReserve));
+        BDDMockito.when(reserveItemServiceClient.findById(ArgumentMatchers.anyLong()))
+                .thenReturn(Mono.error(new TimeoutException("reserve-item service timeout")));
+        return snapshotReserve;
+    }
+}
@@ -0,0 +1,139 @@
+package org.egovframe.cloud.reservechecksevice.api;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveCountResponseDto;
+import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.security.rsocket.metadata.BearerTokenAuthenticationEncoder;
+import org.springframework.security.rsocket.metadata.BearerTokenMetadata;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// repository 를 test 마다 mock 하므로 near cache 는 사용하지 않는다
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"reserve.cache.enabled=false", "token.secret=" + ReserveRSocketControllerTest.SECRET})
+@ActiveProfiles("test")
+class ReserveRSocketControllerTest {
+
+    static final String SECRET = "cnNvY2tldC10ZXN0LXNlY3JldC1yc29ja2V0LXRlc3Qtc2VjcmV0";
+
+    private static final ParameterizedTypeReference<List<ReserveCountResponseDto>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<List<ReserveCountResponseDto>>() {
+            };
+
+    @MockBean
+    private ReserveRepository reserveRepository;
+
+    @MockBean
+    private ReserveItemServiceClient reserveItemServiceClient;
+
+    @Autowired
+    private RSocketRequester.Builder requesterBuilder;
+
+    @LocalServerPort
+    private int port;
+
+    private RSocketRequester requester;
+
+    @BeforeEach
+    public void setup() {
+        requester = requesterBuilder
+                .rsocketStrategies(strategies -> strategies.encoder(new BearerTokenAuthenticationEncoder()))
+                .websocket(URI.create("ws://localhost:" + port + "/rsocket"));
+
+        Reserve reserve = Reserve.builder()
+                .reserveId("1")
+                .reserveItemId(1L)
+                .reserveQty(5)
+                .reserveStartDate(LocalDateTime.of(2021, 9, 9, 1, 1))
+                .reserveEndDate(LocalDateTime.of(2021, 9, 20, 1, 1))
+                .build();
+        BDDMockito.when(reserveRepository.findAllByReserveDate(ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(Flux.just(reserve));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        requester.rsocketClient().dispose();
+    }
+
+    @Test
+    public void 토큰없이_조회하면_거부() throws Exception {
+        StepVerifier.create(requester.route("reserves.{reserveItemId}.dates", 1L)
+                        .data(Collections.emptyMap())
+                        .retrieveMono(RESPONSE_TYPE))
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void 잘못된_토큰으로_구독하면_거부() throws Exception {
+        String token = token(Base64.getEncoder().encodeToString("another-secret".getBytes(StandardCharsets.UTF_8)));
+
+        StepVerifier.create(requester.route("reserves.{reserveItemId}.dates.stream", 1L)
+                        .metadata(new BearerTokenMetadata(token), BearerTokenMetadata.BEARER_AUTHENTICATION_MIME_TYPE)
+                        .data(Collections.emptyMap())
+                        .retrieveFlux(RESPONSE_TYPE))
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void 토큰으로_예약목록_조회_성공() throws Exception {
+        StepVerifier.create(requester.route("reserves.{reserveItemId}.dates", 1L)
+                        .metadata(new BearerTokenMetadata(token(SECRET)), BearerTokenMetadata.BEARER_AUTHENTICATION_MIME_TYPE)
+                        .data(Collections.emptyMap())
+                        .retrieveMono(RESPONSE_TYPE))
+                .assertNext(list -> {
+                    assertThat(list).hasSize(1);
+                    assertThat(list.get(0).getReserveId()).isEqualTo("1");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void 토큰으로_예약목록_구독_성공() throws Exception {
+        StepVerifier.create(requester.route("reserves.{reserveItemId}.dates.stream", 1L)
+                        .metadata(new BearerTokenMetadata(token(SECRET)), BearerTokenMetadata.BEARER_AUTHENTICATION_MIME_TYPE)
+                        .data(Collections.emptyMap())
+                        .retrieveFlux(RESPONSE_TYPE)
+                        .take(1))
+                .assertNext(list -> assertThat(list.get(0).getReserveQty()).isEqualTo(5))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static String token(String secret) {
+        return Jwts.builder()
+                .setSubject("user")
+                .claim("authorities", "ROLE_USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+    }
+}
@@ -0,0 +1,154 @@
+package org.egovframe.cloud.reservechecksevice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ReserveNearCacheTest {
+
+    private static final ReserveVersion V1 = ReserveVersion.of(LocalDateTime.of(2021, 10, 1, 9, 0), "request", 1L);
+    private static final ReserveVersion V2 = ReserveVersion.of(LocalDateTime.of(2021, 10, 1, 9, 0), "approve", 2L);
+
+    private StreamBridge streamBridge;
+    private ReserveNearCache nearCache;
+    private TransactionalOperator transactionalOperator;
+
+    @BeforeEach
+    public void setup() {
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory("near-cache-" + UUID.randomUUID())
+                .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+                .username("sa")
+                .build());
+        streamBridge = mock(StreamBridge.class);
+        nearCache = new ReserveNearCache(new R2dbcEntityTemplate(connectionFactory), streamBridge, new SimpleMeterRegistry(),
+                true, 1024 * 1024, Duration.ofMinutes(1));
+        transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Test
+    public void 저장된_예약은_version_이_같으면_DB_조회없이_새_entity_로_반환() {
+        Reserve reserve = reserve("1", "request");
+        nearCache.saved(reserve, Mono.just(V1)).block();
+
+        Reserve cached = nearCache.get("1", Mono.just(V1), Mono.error(new IllegalStateException("DB 를 조회하면 안된다"))).block();
+
+        assertThat(cached).isNotSameAs(reserve);
+        assertThat(cached.getReserveId()).isEqualTo("1");
+        assertThat(cached.getReserveStatusId()).isEqualTo("request");
+    }
+
+    @Test
+    public void version_이_다르면_DB_에서_조회() {
+        nearCache.saved(reserve("1", "request"), Mono.just(V1)).block();
+
+        Reserve loaded = nearCache.get("1", Mono.just(V2), Mono.just(reserve("1", "approve"))).block();
+
+        assertThat(loaded.getReserveStatusId()).isEqualTo("approve");
+    }
+
+    @Test
+    public void version_이_없으면_cache_를_제거하고_DB_에서_조회() {
+        nearCache.saved(reserve("1", "request"), Mono.just(V1)).block();
+
+        assertThat(nearCache.get("1", Mono.empty(), Mono.empty()).block()).isNull();
+        assertThat(nearCache.get("1", Mono.just(V1), Mono.empty()).block()).isNull();
+    }
+
+    @Test
+    public void primary_조회_결과는_cache_에_저장하고_readOnly_조회_결과는_저장하지_않는다() {
+        nearCache.get("1", Mono.just(V1), Mono.just(reserve("1", "request"))).block();
+        assertThat(nearCache.get("1", Mono.just(V1), Mono.empty()).block()).isNull();
+
+        nearCache.load("1", Mono.just(V1), Mono.just(reserve("1", "request"))).block();
+        Reserve cached = nearCache.get("1", Mono.just(V1), Mono.error(new IllegalStateException("DB 를 조회하면 안된다"))).block();
+
+        assertThat(cached.getReserveStatusId()).isEqualTo("request");
+    }
+
+    @Test
+    public void 조회한_entity_를_변경해도_cache_에_영향이_없다() {
+        nearCache.load("1", Mono.just(V1), Mono.just(reserve("1", "request")))
+                .map(reserve -> reserve.updateStatus("approve"))
+                .block();
+
+        assertThat(nearCache.get("1", Mono.just(V1), Mono.empty()).block().getReserveStatusId()).isEqualTo("request");
+    }
+
+    @Test
+    public void 저장하면_commit_전까지_제거되고_commit_이후_저장된_값으로_갱신() {
+        nearCache.saved(reserve("1", "request"), Mono.just(V1)).block();
+
+        Reserve inTransaction = transactionalOperator.transactional(nearCache.saved(reserve("1", "approve"), Mono.just(V2))
+                        .then(nearCache.get("1", Mono.just(V1), Mono.empty())))
+                .block();
+
+        assertThat(inTransaction).isNull();
+        assertThat(nearCache.get("1", Mono.just(V2), Mono.empty()).block().getReserveStatusId()).isEqualTo("approve");
+    }
+
+    @Test
+    public void rollback_되면_제거된_상태로_남는다() {
+        nearCache.saved(reserve("1", "request"), Mono.just(V1)).block();
+
+        transactionalOperator.execute(status -> {
+                    status.setRollbackOnly();
+                    return nearCache.saved(reserve("1", "approve"), Mono.just(V2));
+                })
+                .blockLast();
+
+        assertThat(nearCache.get("1", Mono.just(V1), Mono.empty()).block()).isNull();
+        assertThat(nearCache.get("1", Mono.just(V2), Mono.empty()).block()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void 자신이_보낸_무효화는_무시하고_다른_서버의_무효화는_반영() {
+        nearCache.saved(reserve("1", "request"), Mono.just(V1)).block();
+
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(streamBridge, timeout(1000)).send(eq(ReserveNearCache.INVALIDATION_OUTPUT), sent.capture());
+        nearCache.onInvalidation((Message<String>) sent.getValue());
+        assertThat(nearCache.get("1", Mono.just(V1), Mono.empty()).block()).isNotNull();
+
+        nearCache.onInvalidation(MessageBuilder.withPayload("1")
+                .setHeader(ReserveNearCache.ORIGIN_HEADER, "other-node")
+                .build());
+        assertThat(nearCache.get("1", Mono.just(V1), Mono.empty()).block()).isNull();
+    }
+
+    private static Reserve reserve(String reserveId, String reserveStatusId) {
+        return Reserve.builder()
+                .reserveId(reserveId)
+                .reserveItemId(1L)
+                .reserveQty(1)
+                .reserveStatusId(reserveStatusId)
+                .reserveStartDate(LocalDateTime.of(2021, 10, 1, 9, 0))
+                .reserveEndDate(LocalDateTime.of(2021, 10, 2, 9, 0))
+                .userId("user")
+                .build();
+    }
+}
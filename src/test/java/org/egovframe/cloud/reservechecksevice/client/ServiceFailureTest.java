@@ -0,0 +1,35 @@
+package org.egovframe.cloud.reservechecksevice.client;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceFailureTest {
+
+    @Test
+    public void circuit_breaker_open_timeout_연결오류_5xx_는_장애() {
+        assertThat(ServiceFailure.isUnavailable(
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("reserve-item")))).isTrue();
+        assertThat(ServiceFailure.isUnavailable(new TimeoutException())).isTrue();
+        assertThat(ServiceFailure.isUnavailable(new IllegalStateException(new ConnectException("refused")))).isTrue();
+        assertThat(ServiceFailure.isUnavailable(response(503))).isTrue();
+    }
+
+    @Test
+    public void 요청_오류_4xx_와_그_외_오류는_장애가_아니다() {
+        assertThat(ServiceFailure.isUnavailable(response(404))).isFalse();
+        assertThat(ServiceFailure.isUnavailable(response(400))).isFalse();
+        assertThat(ServiceFailure.isUnavailable(new IllegalArgumentException("bad request"))).isFalse();
+    }
+
+    private static WebClientResponseException response(int status) {
+        return WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
@@ -0,0 +1,51 @@
+package org.egovframe.cloud.reservechecksevice.codec;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper isoMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializerByType(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE)
+            .build();
+
+    @Test
+    public void 기본_serializer_와_같은_문자열로_직렬화() throws Exception {
+        LocalDateTime[] values = {
+                LocalDateTime.of(2021, 9, 15, 0, 0),
+                LocalDateTime.of(2021, 12, 31, 23, 59, 59),
+                LocalDateTime.of(2021, 1, 2, 3, 4, 5, 100_000_000),
+                LocalDateTime.of(2021, 1, 2, 3, 4, 5, 123_456_789),
+                LocalDateTime.of(2021, 1, 2, 3, 4, 5, 1_000),
+                LocalDateTime.of(12, 1, 2, 3, 4, 5),
+                LocalDateTime.of(10000, 1, 2, 3, 4, 5)
+        };
+
+        for (LocalDateTime value : values) {
+            assertThat(isoMapper.writeValueAsString(value)).isEqualTo(defaultMapper.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    public void timestamp_설정이면_기본_serializer_사용() throws Exception {
+        ObjectMapper timestampMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE)
+                .build();
+
+        assertThat(timestampMapper.writeValueAsString(LocalDateTime.of(2021, 9, 15, 10, 30)))
+                .isEqualTo("[2021,9,15,10,30]");
+    }
+}
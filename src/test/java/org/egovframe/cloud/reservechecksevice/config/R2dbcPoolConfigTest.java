@@ -0,0 +1,65 @@
+package org.egovframe.cloud.reservechecksevice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.egovframe.cloud.reservechecksevice.r2dbc.MeteredConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcPoolConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(R2dbcAutoConfiguration.class))
+            .withUserConfiguration(R2dbcPoolConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "spring.r2dbc.url=r2dbc:h2:mem:///pool-" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1",
+                    "spring.r2dbc.username=sa",
+                    "spring.r2dbc.pool.initial-size=3",
+                    "spring.r2dbc.pool.max-size=5");
+
+    @Test
+    public void spring_r2dbc_pool_설정으로_pool_생성하고_warmup() {
+        contextRunner.run(context -> {
+            ConnectionPool pool = context.getBean("primaryConnectionPool", ConnectionPool.class);
+            assertThat(pool.getMetrics().get().getMaxAllocatedSize()).isEqualTo(5);
+            assertThat(pool.getMetrics().get().allocatedSize()).isZero();
+
+            context.getBean("connectionPoolWarmup", ApplicationRunner.class).run(new DefaultApplicationArguments());
+
+            assertThat(pool.getMetrics().get().allocatedSize()).isEqualTo(3);
+            assertThat(pool.getMetrics().get().idleSize()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    public void 주입되는_ConnectionFactory_는_획득시간을_측정하는_reserveConnectionFactory() {
+        contextRunner.run(context -> {
+            ConnectionFactory connectionFactory = context.getBean(ConnectionFactory.class);
+            assertThat(connectionFactory).isSameAs(context.getBean("reserveConnectionFactory"));
+            assertThat(connectionFactory).isInstanceOf(MeteredConnectionFactory.class);
+            assertThat(context).doesNotHaveBean("transactionManager");
+
+            Mono.usingWhen(Mono.from(connectionFactory.create()), connection -> Mono.just(1), connection -> connection.close())
+                    .block();
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            assertThat(meterRegistry.get(MeteredConnectionFactory.ACQUIRE_METRIC_NAME)
+                    .tag("pool", R2dbcPoolConfig.PRIMARY_POOL)
+                    .tag("outcome", "success")
+                    .timer()
+                    .count()).isEqualTo(1);
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package org.egovframe.cloud.reservechecksevice.dataset;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReserveDatasetGeneratorTest {
+
+    private H2ConnectionFactory connectionFactory;
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    public void setup() {
+        connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory("dataset-" + UUID.randomUUID())
+                .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+                .username("sa")
+                .build());
+        databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    @Test
+    public void 지정한_건수만큼_H2에_적재() {
+        ReserveDatasetGenerator generator = generator(20211001L);
+        generator.createH2Schema().block();
+
+        Long loaded = generator.load().block();
+
+        assertThat(generator.getRows()).isEqualTo(300L);
+        assertThat(loaded).isEqualTo(300L);
+        assertThat(count("SELECT COUNT(*) FROM reserve")).isEqualTo(300L);
+        assertThat(count("SELECT COUNT(*) FROM reserve WHERE create_date IS NULL OR user_id IS NULL"
+                + " OR reserve_status_id IS NULL OR last_modified_by IS NULL")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM reserve WHERE attachment_code IS NOT NULL")).isZero();
+    }
+
+    @Test
+    public void 같은_seed면_같은_데이터() {
+        ReserveDatasetGenerator generator = generator(7L);
+        generator.createH2Schema().block();
+        generator.load().block();
+        String first = databaseClient.sql("SELECT user_id FROM reserve WHERE reserve_id = '150'")
+                .map((row, metadata) -> row.get(0, String.class))
+                .one()
+                .block();
+
+        databaseClient.sql("DELETE FROM reserve").fetch().rowsUpdated().block();
+        generator(7L).load().block();
+        String second = databaseClient.sql("SELECT user_id FROM reserve WHERE reserve_id = '150'")
+                .map((row, metadata) -> row.get(0, String.class))
+                .one()
+                .block();
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    private ReserveDatasetGenerator generator(long seed) {
+        return ReserveDatasetGenerator.builder(connectionFactory)
+                .scaleFactor(0.0003)
+                .itemCount(20)
+                .userCount(50)
+                .batchSize(128)
+                .seed(seed)
+                .now(LocalDateTime.of(2021, 10, 1, 0, 0))
+                .build();
+    }
+
+    private Long count(String sql) {
+        return databaseClient.sql(sql)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .block();
+    }
+}
@@ -0,0 +1,105 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReserveItemSnapshotStoreTest {
+
+    private R2dbcEntityTemplate entityTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private ReserveItemSnapshotStore snapshotStore;
+
+    @BeforeEach
+    public void setup() {
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory("snapshot-" + UUID.randomUUID())
+                .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+                .username("sa")
+                .build());
+        new ResourceDatabasePopulator(new ClassPathResource("dataset/schema-h2.sql"), new ClassPathResource("schema-h2.sql"))
+                .populate(connectionFactory)
+                .block();
+        entityTemplate = new R2dbcEntityTemplate(connectionFactory);
+        meterRegistry = new SimpleMeterRegistry();
+        snapshotStore = new ReserveItemSnapshotStore(entityTemplate, meterRegistry, true,
+                Duration.ofMinutes(1), Duration.ofHours(24), Duration.ofMinutes(30));
+    }
+
+    @Test
+    public void 허용_기간_안의_snapshot_은_stale_로_표시하여_사용() {
+        LocalDateTime snapshotDate = LocalDateTime.now().minusMinutes(10).withNano(0);
+        insertSnapshot(10L, snapshotDate);
+
+        ReserveItem reserveItem = snapshotStore.findForCheck(10L).block();
+
+        assertThat(reserveItem.getReserveItemId()).isEqualTo(10L);
+        assertThat(reserveItem.getReserveItemName()).isEqualTo("회의실");
+        assertThat(reserveItem.getInventoryQty()).isEqualTo(5);
+        assertThat(reserveItem.isStale()).isTrue();
+        assertThat(reserveItem.getSnapshotDate()).isEqualTo(snapshotDate);
+        assertThat(count("used")).isEqualTo(1);
+    }
+
+    @Test
+    public void 허용_기간이_지난_snapshot_은_사용하지_않는다() {
+        insertSnapshot(10L, LocalDateTime.now().minusHours(1));
+
+        // 재고 확인은 30분, 목록/상세 표시는 24시간까지 사용
+        assertThat(snapshotStore.findForCheck(10L).block()).isNull();
+        assertThat(snapshotStore.findForDisplay(10L).block()).isNotNull();
+        assertThat(count("expired")).isEqualTo(1);
+        assertThat(count("used")).isEqualTo(1);
+    }
+
+    @Test
+    public void snapshot_이_없으면_empty() {
+        assertThat(snapshotStore.findForCheck(10L).block()).isNull();
+        assertThat(count("missing")).isEqualTo(1);
+    }
+
+    @Test
+    public void 조회한_예약물품을_snapshot_으로_저장() {
+        snapshotStore.refresh(ReserveItem.builder()
+                .reserveItemId(20L)
+                .reserveItemName("강의실")
+                .categoryId("education")
+                .inventoryQty(3)
+                .build());
+
+        ReserveItem reserveItem = snapshotStore.findForDisplay(20L)
+                .repeatWhenEmpty(50, repeat -> repeat.delayElements(Duration.ofMillis(100)))
+                .block();
+
+        assertThat(reserveItem.getReserveItemName()).isEqualTo("강의실");
+        assertThat(reserveItem.isStale()).isTrue();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(ReserveItemSnapshotStore.METRIC_NAME, "result", result).count();
+    }
+
+    private void insertSnapshot(Long reserveItemId, LocalDateTime snapshotDate) {
+        entityTemplate.getDatabaseClient()
+                .sql("INSERT INTO reserve_item_snapshot (reserve_item_id, reserve_item_name, location_id, location_name,"
+                        + " category_id, category_name, total_qty, inventory_qty, reserve_means_id, snapshot_date)"
+                        + " VALUES (:reserveItemId, '회의실', 1, '서울', 'place', '공간', 10, 5, 'realtime', :snapshotDate)")
+                .bind("reserveItemId", reserveItemId)
+                .bind("snapshotDate", snapshotDate)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+}
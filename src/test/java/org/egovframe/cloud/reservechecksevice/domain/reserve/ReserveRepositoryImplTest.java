@@ -0,0 +1,501 @@
+package org.egovframe.cloud.reservechecksevice.domain.reserve;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveRequestDto;
+import org.egovframe.cloud.reservechecksevice.cache.ReserveNearCache;
+import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
+import org.egovframe.cloud.reservechecksevice.client.UserServiceClient;
+import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemRelationResponseDto;
+import org.egovframe.cloud.reservechecksevice.client.dto.UserResponseDto;
+import org.egovframe.cloud.reservechecksevice.jfr.ReserveFlightRecorder;
+import org.egovframe.cloud.reservechecksevice.metrics.ReserveStageMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReserveRepositoryImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2021, 10, 1, 9, 0);
+
+    private H2ConnectionFactory connectionFactory;
+    private R2dbcEntityTemplate entityTemplate;
+    private DatabaseClient databaseClient;
+    private ReserveItemServiceClient reserveItemServiceClient;
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    public void setup() {
+        connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory("reserve-" + UUID.randomUUID())
+                .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+                .username("sa")
+                .build());
+        // reserve 는 entity 와 같은 컬럼 구성(dataset)으로 먼저 만들고, 나머지 table 은 test schema 로 만든다
+        new ResourceDatabasePopulator(new ClassPathResource("dataset/schema-h2.sql"), new ClassPathResource("schema-h2.sql"))
+                .populate(connectionFactory)
+                .block();
+        entityTemplate = new R2dbcEntityTemplate(connectionFactory);
+        databaseClient = entityTemplate.getDatabaseClient();
+        reserveItemServiceClient = mock(ReserveItemServiceClient.class);
+        userServiceClient = mock(UserServiceClient.class);
+    }
+
+    @Test
+    public void window_function_지원_DB_는_목록과_전체건수를_한번에_조회() {
+        for (int i = 1; i <= 5; i++) {
+            insertReserve(String.valueOf(i), 1L, "user", BASE.plusMinutes(i));
+        }
+        WindowFunctionSupport windowFunctionSupport = new WindowFunctionSupport(entityTemplate);
+
+        Page<ReserveListRow> page = repository(windowFunctionSupport, false)
+                .searchPage(new ReserveRequestDto(), PageRequest.of(0, 2), null)
+                .block();
+
+        assertThat(windowFunctionSupport.isSupported().block()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(ReserveListRow::getReserveId).containsExactly("5", "4");
+    }
+
+    @Test
+    public void window_function_미지원_DB_는_목록과_건수를_각각_조회() {
+        for (int i = 1; i <= 5; i++) {
+            insertReserve(String.valueOf(i), 1L, i % 2 == 0 ? "even" : "odd", BASE.plusMinutes(i));
+        }
+        // 확인 쿼리 문법 오류 = 미지원 DB
+        WindowFunctionSupport windowFunctionSupport = new WindowFunctionSupport(databaseClient,
+                "SELECT COUNT(*) OVER(UNSUPPORTED) FROM reserve");
+
+        Page<ReserveListRow> page = repository(windowFunctionSupport, false)
+                .searchPage(new ReserveRequestDto(), PageRequest.of(1, 2), "odd")
+                .block();
+
+        assertThat(windowFunctionSupport.isSupported().block()).isFalse();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(ReserveListRow::getReserveId).containsExactly("1");
+    }
+
+    @Test
+    public void 내려받기는_등록일이_같은_예약이_chunk_경계에_걸쳐도_모두_한번씩_조회() {
+        // 등록일이 같은 예약 7건 + 서로 다른 등록일 2건 + 등록일 없는 예약 4건
+        for (int i = 1; i <= 7; i++) {
+            insertReserve("same-" + i, 1L, "user", BASE);
+        }
+        insertReserve("newer", 1L, "user", BASE.plusDays(1));
+        insertReserve("older", 1L, "user", BASE.minusDays(1));
+        for (int i = 1; i <= 4; i++) {
+            insertReserve("null-" + i, 1L, "user", null);
+        }
+
+        List<List<Reserve>> chunks = repository(new WindowFunctionSupport(entityTemplate), false)
+                .exportChunks(new ReserveRequestDto(), 3)
+                .collectList()
+                .block();
+
+        List<String> reserveIds = new ArrayList<>();
+        for (List<Reserve> chunk : chunks) {
+            assertThat(chunk).hasSizeLessThanOrEqualTo(3).isNotEmpty();
+            for (Reserve reserve : chunk) {
+                reserveIds.add(reserve.getReserveId());
+            }
+        }
+        assertThat(reserveIds).containsExactly(
+                "newer", "same-7", "same-6", "same-5", "same-4", "same-3", "same-2", "same-1", "older",
+                "null-4", "null-3", "null-2", "null-1");
+    }
+
+    @Test
+    public void 내려받기_chunk_크기와_등록일_있는_예약_건수가_같아도_등록일_없는_예약_조회() {
+        for (int i = 1; i <= 3; i++) {
+            insertReserve("dated-" + i, 1L, "user", BASE.plusMinutes(i));
+        }
+        insertReserve("null-1", 1L, "user", null);
+
+        List<List<Reserve>> chunks = repository(new WindowFunctionSupport(entityTemplate), false)
+                .exportChunks(new ReserveRequestDto(), 3)
+                .collectList()
+                .block();
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).extracting(Reserve::getReserveId).containsExactly("dated-3", "dated-2", "dated-1");
+        assertThat(chunks.get(1)).extracting(Reserve::getReserveId).containsExactly("null-1");
+    }
+
+    @Test
+    public void relation_일괄_조회는_같은_예약물품과_예약자를_한번만_조회하여_설정() {
+        insertReserve("1", 10L, "user-a", BASE);
+        insertReserve("2", 10L, "user-b", BASE.plusMinutes(1));
+        insertReserve("3", 20L, "user-a", BASE.plusMinutes(2));
+        when(reserveItemServiceClient.findByIdWithRelations(10L)).thenReturn(Mono.just(reserveItem(10L, "회의실")));
+        when(reserveItemServiceClient.findByIdWithRelations(20L)).thenReturn(Mono.just(reserveItem(20L, "강의실")));
+        when(userServiceClient.findByUserId(anyString())).thenAnswer(invocation -> Mono.just(UserResponseDto.builder()
+                .userId(invocation.getArgument(0))
+                .userName("name-" + invocation.getArgument(0))
+                .build()));
+        ReserveRepositoryImpl repository = repository(new WindowFunctionSupport(entityTemplate), false);
+        List<Reserve> reserves = repository.exportChunks(new ReserveRequestDto(), 10).blockFirst();
+
+        List<Reserve> loaded = repository.loadRelationsInBatch(reserves, 4).block();
+
+        assertThat(loaded).extracting(Reserve::getReserveId).containsExactly("3", "2", "1");
+        assertThat(loaded).extracting(reserve -> reserve.getReserveItem().getReserveItemName())
+                .containsExactly("강의실", "회의실", "회의실");
+        assertThat(loaded).extracting(reserve -> reserve.getUser().getUserName())
+                .containsExactly("name-user-a", "name-user-b", "name-user-a");
+        verify(reserveItemServiceClient, times(1)).findByIdWithRelations(10L);
+        verify(reserveItemServiceClient, times(1)).findByIdWithRelations(20L);
+        verify(userServiceClient, times(1)).findByUserId("user-a");
+    }
+
+    @Test
+    public void read_model_에_있는_relation_은_외부_서비스를_조회하지_않는다() {
+        insertReserve("1", 10L, "user-a", BASE);
+        insertView("1", 10L, "회의실", "user-a", "사용자");
+        ReserveRepositoryImpl repository = spy(repository(new WindowFunctionSupport(entityTemplate), true));
+
+        List<ReserveListRow> rows = repository.search(new ReserveRequestDto(), PageRequest.of(0, 10))
+                .collectList()
+                .flatMap(repository::loadMissingRelations)
+                .block();
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getReserveItem().getReserveItemName()).isEqualTo("회의실");
+        assertThat(rows.get(0).getUser().getUserName()).isEqualTo("사용자");
+        verify(reserveItemServiceClient, never()).findByIdWithRelations(anyLong());
+        verify(userServiceClient, never()).findByUserId(anyString());
+        verify(repository, never()).writeBackViews(anyList());
+    }
+
+    @Test
+    public void read_model_에_없는_relation_은_page_단위로_한번만_조회하고_순서를_유지하며_채운_행만_저장() {
+        insertReserve("1", 10L, "user-a", BASE);
+        insertReserve("2", 20L, "user-b", BASE.plusMinutes(1));
+        insertReserve("3", 10L, "user-a", BASE.plusMinutes(2));
+        insertView("2", 20L, "강의실", "user-b", "사용자 b");
+        when(reserveItemServiceClient.findByIdWithRelations(10L)).thenReturn(Mono.just(reserveItem(10L, "회의실")));
+        when(userServiceClient.findByUserId("user-a")).thenReturn(Mono.just(UserResponseDto.builder()
+                .userId("user-a")
+                .userName("사용자 a")
+                .build()));
+        ReserveRepositoryImpl repository = spy(repository(new WindowFunctionSupport(entityTemplate), true));
+        doReturn(Mono.empty()).when(repository).writeBackViews(anyList());
+
+        List<ReserveListRow> rows = repository.search(new ReserveRequestDto(), PageRequest.of(0, 10))
+                .collectList()
+                .flatMap(repository::loadMissingRelations)
+                .block();
+
+        assertThat(rows).extracting(ReserveListRow::getReserveId).containsExactly("3", "2", "1");
+        assertThat(rows).extracting(row -> row.getReserveItem().getReserveItemName()).containsExactly("회의실", "강의실", "회의실");
+        assertThat(rows).extracting(row -> row.getUser().getUserName()).containsExactly("사용자 a", "사용자 b", "사용자 a");
+        verify(reserveItemServiceClient, times(1)).findByIdWithRelations(10L);
+        verify(userServiceClient, times(1)).findByUserId("user-a");
+        ArgumentCaptor<List<ReserveListRow>> written = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).writeBackViews(written.capture());
+        assertThat(written.getValue()).extracting(ReserveListRow::getReserveId).containsExactly("3", "1");
+    }
+
+    @Test
+    public void read_model_저장은_목록_조회_transaction_이_rollback_되어도_저장() {
+        insertReserve("1", 10L, "user-a", BASE);
+        ReserveRepositoryImpl repository = repository(new WindowFunctionSupport(entityTemplate), true);
+
+        TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory))
+                .execute(status -> {
+                    status.setRollbackOnly();
+                    return repository.writeBackViews(Collections.singletonList(listRow("1", 10L, "user-a")));
+                })
+                .blockLast();
+
+        assertThat(databaseClient.sql("SELECT reserve_item_id, user_name FROM reserve_view WHERE reserve_id = '1'")
+                .map(row -> row.get("reserve_item_id", Long.class) + "/" + row.get("user_name", String.class))
+                .one()
+                .block()).isEqualTo("10/사용자");
+    }
+
+    @Test
+    public void 최근_저장한_행은_다시_저장하지_않고_저장에_실패한_행은_다시_저장() {
+        ReserveRepositoryImpl repository = repository(new WindowFunctionSupport(entityTemplate), true);
+        List<ReserveListRow> rows = Collections.singletonList(listRow("1", 10L, "user-a"));
+
+        repository.writeBackViews(rows).block();
+        databaseClient.sql("DELETE FROM reserve_view").fetch().rowsUpdated().block();
+        repository.writeBackViews(rows).block();
+        assertThat(countView()).isZero();
+
+        // 저장 실패(table 없음)는 기록만 하고, 다음 저장시 다시 시도한다
+        List<ReserveListRow> failed = Collections.singletonList(listRow("2", 10L, "user-a"));
+        databaseClient.sql("ALTER TABLE reserve_view RENAME TO reserve_view_backup").fetch().rowsUpdated().block();
+        repository.writeBackViews(failed).block();
+        databaseClient.sql("ALTER TABLE reserve_view_backup RENAME TO reserve_view").fetch().rowsUpdated().block();
+        repository.writeBackViews(failed).block();
+        assertThat(countView()).isEqualTo(1);
+    }
+
+    @Test
+    public void read_model_을_사용하지_않으면_relation_을_조회하고_저장하지_않는다() {
+        insertReserve("1", 10L, "user-a", BASE);
+        when(reserveItemServiceClient.findByIdWithRelations(10L)).thenReturn(Mono.just(reserveItem(10L, "회의실")));
+        when(userServiceClient.findByUserId("user-a")).thenReturn(Mono.just(UserResponseDto.builder()
+                .userId("user-a")
+                .userName("사용자")
+                .build()));
+        ReserveRepositoryImpl repository = spy(repository(new WindowFunctionSupport(entityTemplate), false));
+
+        List<ReserveListRow> rows = repository.search(new ReserveRequestDto(), PageRequest.of(0, 10))
+                .collectList()
+                .flatMap(repository::loadMissingRelations)
+                .block();
+
+        assertThat(rows.get(0).getReserveItem().getReserveItemName()).isEqualTo("회의실");
+        assertThat(rows.get(0).getUser().getUserName()).isEqualTo("사용자");
+        verify(repository, never()).writeBackViews(anyList());
+        assertThat(countView()).isZero();
+    }
+
+    @Test
+    public void 예약물품_변경은_해당_물품의_read_model_에_반영() {
+        insertView("1", 10L, "회의실", "user-a", "사용자");
+        insertView("2", 10L, "회의실", "user-b", "사용자");
+        insertView("3", 20L, "강의실", "user-a", "사용자");
+        when(reserveItemServiceClient.findByIdWithRelations(10L)).thenReturn(Mono.just(reserveItem(10L, "대회의실")));
+
+        Integer updated = repository(new WindowFunctionSupport(entityTemplate), true)
+                .refreshViewByReserveItem(10L)
+                .block();
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(databaseClient.sql("SELECT reserve_item_name FROM reserve_view ORDER BY reserve_id")
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collectList()
+                .block()).containsExactly("대회의실", "대회의실", "강의실");
+    }
+
+    @Test
+    public void 단건_version_은_read_model_변경시_바뀌고_read_model_이_없으면_비어있다() {
+        insertReserve("1", 10L, "user-a", BASE);
+        insertReserve("2", 20L, "user-b", BASE);
+        insertView("1", 10L, "회의실", "user-a", "사용자");
+        when(reserveItemServiceClient.findByIdWithRelations(10L)).thenReturn(Mono.just(reserveItem(10L, "대회의실")));
+        ReserveRepositoryImpl repository = repository(new WindowFunctionSupport(entityTemplate), true);
+
+        ReserveVersion before = repository.findVersionById(1L).block();
+        repository.refreshViewByReserveItem(10L).block();
+        ReserveVersion after = repository.findVersionById(1L).block();
+
+        assertThat(before).isNotNull();
+        assertThat(after).isNotNull();
+        assertThat(after.toETag("reserve")).isNotEqualTo(before.toETag("reserve"));
+        assertThat(repository.findVersionById(2L).blockOptional()).isEmpty();
+        assertThat(repository(new WindowFunctionSupport(entityTemplate), false).findVersionById(1L).blockOptional()).isEmpty();
+    }
+
+    @Test
+    public void 예약물품_version_은_변경할_때마다_1씩_증가() {
+        ReserveRepositoryImpl repository = repository(new WindowFunctionSupport(entityTemplate), true);
+
+        repository.increaseReserveItemVersion(10L).block();
+        repository.increaseReserveItemVersion(10L).block();
+        repository.increaseReserveItemVersion(20L).block();
+
+        assertThat(databaseClient.sql("SELECT version FROM reserve_item_version ORDER BY reserve_item_id")
+                .map(row -> row.get(0, Long.class))
+                .all()
+                .collectList()
+                .block()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    public void near_cache_version_은_같은_초_안의_저장도_구분하고_예약이_없으면_비어있다() {
+        insertReserve("1", 10L, "user-a", BASE);
+        ReserveRepositoryImpl repository = repository(new WindowFunctionSupport(entityTemplate), true);
+
+        ReserveVersion before = repository.findCacheVersionById("1").block();
+        repository.increaseReserveItemVersion(10L).block();
+        ReserveVersion after = repository.findCacheVersionById("1").block();
+
+        assertThat(before).isNotNull();
+        assertThat(after).isNotEqualTo(before);
+        assertThat(repository.findCacheVersionById("1").block()).isEqualTo(after);
+        assertThat(repository.findCacheVersionById("2").blockOptional()).isEmpty();
+    }
+
+    @Test
+    public void 사용자_서비스_장애시_변경_반영은_오류() {
+        insertView("1", 10L, "회의실", "user-a", "사용자");
+        when(userServiceClient.findByUserId("user-a")).thenReturn(Mono.error(new IllegalStateException("user service down")));
+
+        assertThatThrownBy(() -> repository(new WindowFunctionSupport(entityTemplate), true)
+                .refreshViewByUser("user-a")
+                .block())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void 예약물품_서비스_장애시_snapshot_을_stale_로_표시하여_사용() {
+        insertSnapshot(10L, LocalDateTime.now().minusMinutes(5));
+        when(reserveItemServiceClient.findByIdWithRelations(10L)).thenReturn(Mono.error(
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("reserve-item"))));
+        when(userServiceClient.findByUserId("user-a")).thenReturn(Mono.empty());
+
+        Reserve reserve = repository(new WindowFunctionSupport(entityTemplate), false)
+                .loadRelations(reserve("1", 10L, "user-a"))
+                .block();
+
+        assertThat(reserve.getReserveItem().getReserveItemName()).isEqualTo("snapshot");
+        assertThat(reserve.getReserveItem().isStale()).isTrue();
+    }
+
+    @Test
+    public void 예약물품_서비스_4xx_는_snapshot_을_사용하지_않는다() {
+        insertSnapshot(10L, LocalDateTime.now().minusMinutes(5));
+        when(reserveItemServiceClient.findByIdWithRelations(10L)).thenReturn(Mono.error(
+                WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY, new byte[0], null)));
+        when(userServiceClient.findByUserId("user-a")).thenReturn(Mono.empty());
+
+        Reserve reserve = repository(new WindowFunctionSupport(entityTemplate), false)
+                .loadRelations(reserve("1", 10L, "user-a"))
+                .block();
+
+        assertThat(reserve.getReserveItem()).isNull();
+        assertThat(reserve.getReserveItemId()).isEqualTo(10L);
+    }
+
+    private ReserveRepositoryImpl repository(WindowFunctionSupport windowFunctionSupport, boolean readModel) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReserveRepositoryImpl repository = new ReserveRepositoryImpl(entityTemplate,
+                reserveItemServiceClient,
+                userServiceClient,
+                CircuitBreakerRegistry.ofDefaults(),
+                new ReserveStageMetrics(meterRegistry),
+                new ReserveFlightRecorder(false),
+                new ReserveNearCache(entityTemplate, null, meterRegistry, false, 1024 * 1024, Duration.ofSeconds(10)),
+                new ReserveItemSnapshotStore(entityTemplate, meterRegistry, true,
+                        Duration.ofMinutes(1), Duration.ofHours(24), Duration.ofMinutes(30)),
+                windowFunctionSupport);
+        ReflectionTestUtils.setField(repository, "readModel", readModel);
+        return repository;
+    }
+
+    private static ReserveItemRelationResponseDto reserveItem(Long reserveItemId, String reserveItemName) {
+        ReserveItemRelationResponseDto reserveItem = new ReserveItemRelationResponseDto();
+        ReflectionTestUtils.setField(reserveItem, "reserveItemId", reserveItemId);
+        ReflectionTestUtils.setField(reserveItem, "reserveItemName", reserveItemName);
+        ReflectionTestUtils.setField(reserveItem, "locationId", 1L);
+        ReflectionTestUtils.setField(reserveItem, "categoryId", "place");
+        ReflectionTestUtils.setField(reserveItem, "inventoryQty", 10);
+        return reserveItem;
+    }
+
+    private void insertReserve(String reserveId, Long reserveItemId, String userId, LocalDateTime createDate) {
+        databaseClient.sql("INSERT INTO reserve (reserve_id, reserve_item_id, location_id, category_id, reserve_qty,"
+                        + " reserve_start_date, reserve_end_date, reserve_status_id, user_id, create_date, modified_date)"
+                        + " VALUES (:reserveId, :reserveItemId, 1, 'place', 1, :startDate, :endDate, 'request', :userId,"
+                        + " :createDate, :createDate)")
+                .bind("reserveId", reserveId)
+                .bind("reserveItemId", reserveItemId)
+                .bind("startDate", BASE.plusDays(1))
+                .bind("endDate", BASE.plusDays(2))
+                .bind("userId", userId)
+                .bind("createDate", Parameter.fromOrEmpty(createDate, LocalDateTime.class))
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    private static Reserve reserve(String reserveId, Long reserveItemId, String userId) {
+        return Reserve.builder()
+                .reserveId(reserveId)
+                .reserveItemId(reserveItemId)
+                .userId(userId)
+                .build();
+    }
+
+    private static ReserveListRow listRow(String reserveId, Long reserveItemId, String userId) {
+        return ReserveListRow.builder()
+                .reserveId(reserveId)
+                .reserveItemId(reserveItemId)
+                .userId(userId)
+                .reserveItem(ReserveItem.builder()
+                        .reserveItemId(reserveItemId)
+                        .reserveItemName("회의실")
+                        .build())
+                .user(UserResponseDto.builder()
+                        .userId(userId)
+                        .userName("사용자")
+                        .build())
+                .build();
+    }
+
+    private void insertSnapshot(Long reserveItemId, LocalDateTime snapshotDate) {
+        databaseClient.sql("INSERT INTO reserve_item_snapshot (reserve_item_id, reserve_item_name, category_id, inventory_qty,"
+                        + " snapshot_date) VALUES (:reserveItemId, 'snapshot', 'place', 5, :snapshotDate)")
+                .bind("reserveItemId", reserveItemId)
+                .bind("snapshotDate", snapshotDate)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    private void insertView(String reserveId, Long reserveItemId, String reserveItemName, String userId, String userName) {
+        databaseClient.sql("INSERT INTO reserve_view (reserve_id, reserve_item_id, reserve_item_name, location_id, location_name,"
+                        + " category_id, category_name, inventory_qty, user_id, user_name, modified_date)"
+                        + " VALUES (:reserveId, :reserveItemId, :reserveItemName, 1, '서울', 'place', '공간', 10, :userId,"
+                        + " :userName, :modifiedDate)")
+                .bind("reserveId", reserveId)
+                .bind("reserveItemId", reserveItemId)
+                .bind("reserveItemName", reserveItemName)
+                .bind("userId", userId)
+                .bind("userName", userName)
+                .bind("modifiedDate", BASE)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    private long countView() {
+        return databaseClient.sql("SELECT COUNT(*) FROM reserve_view")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+    }
+}
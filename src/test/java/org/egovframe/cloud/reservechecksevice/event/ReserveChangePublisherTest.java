@@ -0,0 +1,114 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egovframe.cloud.reservechecksevice.domain.reserve.Reserve;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ReserveChangePublisherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StreamBridge streamBridge;
+    private ReserveChangePublisher publisher;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        streamBridge = mock(StreamBridge.class);
+        publisher = new ReserveChangePublisher(streamBridge, meterRegistry, 2, Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void 느린_구독자는_buffer_를_넘친_오래된_event_를_버리고_heartbeat_를_받음() {
+        StepVerifier.withVirtualTime(() -> publisher.subscribe(null, null), 0)
+                .expectSubscription()
+                .then(() -> {
+                    for (int i = 1; i <= 5; i++) {
+                        publisher.publish(event(String.valueOf(i)));
+                    }
+                })
+                .thenRequest(2)
+                .assertNext(sse -> assertThat(sse.id()).isEqualTo("4"))
+                .assertNext(sse -> assertThat(sse.id()).isEqualTo("5"))
+                .thenAwait(Duration.ofSeconds(15))
+                .thenRequest(1)
+                .assertNext(sse -> {
+                    assertThat(sse.comment()).isEqualTo("heartbeat");
+                    assertThat(sse.data()).isNull();
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(count("published")).isEqualTo(5);
+        assertThat(count("dropped")).isEqualTo(3);
+    }
+
+    @Test
+    public void 구독자가_없으면_발행하지_않은_event_로_집계() {
+        publisher.publish(event("1"));
+
+        assertThat(count("published")).isZero();
+        assertThat(count("no-subscriber")).isEqualTo(1);
+    }
+
+    @Test
+    public void 다른_서버에서_전파된_event_는_발행하고_자신이_보낸_event_는_무시() {
+        StepVerifier.create(publisher.changes(null, null))
+                .then(() -> {
+                    publisher.onMessage(MessageBuilder.withPayload(event("remote"))
+                            .setHeader(ReserveChangePublisher.ORIGIN_HEADER, "other-node")
+                            .build());
+                    publisher.publishAfterCommit(ReserveChangeType.CREATE, reserve("local")).block();
+                })
+                .assertNext(event -> assertThat(event.getReserveId()).isEqualTo("remote"))
+                .assertNext(event -> assertThat(event.getReserveId()).isEqualTo("local"))
+                .then(() -> {
+                    // 자신이 보낸 message 가 다시 수신된 경우
+                    Message<ReserveChangeEvent> sent = sentMessage();
+                    publisher.onMessage(sent);
+                    publisher.complete();
+                })
+                .verifyComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Message<ReserveChangeEvent> sentMessage() {
+        ArgumentCaptor<Message<ReserveChangeEvent>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(streamBridge, timeout(5000)).send(eq(ReserveChangePublisher.OUTPUT), captor.capture());
+        assertThat(captor.getValue().getPayload().getReserveId()).isEqualTo("local");
+        return captor.getValue();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(ReserveChangePublisher.METRIC_NAME).tag("result", result).counter().count();
+    }
+
+    private static ReserveChangeEvent event(String reserveId) {
+        return ReserveChangeEvent.builder()
+                .changeType(ReserveChangeType.UPDATE)
+                .entity(reserve(reserveId))
+                .build();
+    }
+
+    private static Reserve reserve(String reserveId) {
+        return Reserve.builder()
+                .reserveId(reserveId)
+                .reserveItemId(1L)
+                .userId("user")
+                .reserveStatusId("request")
+                .build();
+    }
+}
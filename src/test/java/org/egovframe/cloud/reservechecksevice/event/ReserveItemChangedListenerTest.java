@@ -0,0 +1,56 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReserveItemChangedListenerTest {
+
+    private ReserveRepository reserveRepository;
+    private ReserveItemChangedListener listener;
+
+    @BeforeEach
+    public void setup() {
+        reserveRepository = mock(ReserveRepository.class);
+        listener = new ReserveItemChangedListener(reserveRepository);
+    }
+
+    @Test
+    public void 예약물품_변경을_read_model_에_반영() {
+        when(reserveRepository.refreshViewByReserveItem(10L)).thenReturn(Mono.just(2));
+
+        listener.accept(message(10L));
+
+        verify(reserveRepository).refreshViewByReserveItem(10L);
+    }
+
+    @Test
+    public void 반영에_실패하면_binder_가_다시_처리하도록_오류() {
+        when(reserveRepository.refreshViewByReserveItem(10L)).thenReturn(Mono.error(new IllegalStateException("reserve-item service down")));
+
+        assertThatThrownBy(() -> listener.accept(message(10L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void 예약물품_id_가_없으면_무시() {
+        listener.accept(message(null));
+
+        verify(reserveRepository, never()).refreshViewByReserveItem(anyLong());
+    }
+
+    private static ReserveItemChangedMessage message(Long reserveItemId) {
+        ReserveItemChangedMessage message = new ReserveItemChangedMessage();
+        ReflectionTestUtils.setField(message, "reserveItemId", reserveItemId);
+        return message;
+    }
+}
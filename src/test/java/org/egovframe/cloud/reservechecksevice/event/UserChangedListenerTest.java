@@ -0,0 +1,47 @@
+package org.egovframe.cloud.reservechecksevice.event;
+
+import org.egovframe.cloud.reservechecksevice.domain.reserve.ReserveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserChangedListenerTest {
+
+    private ReserveRepository reserveRepository;
+    private UserChangedListener listener;
+
+    @BeforeEach
+    public void setup() {
+        reserveRepository = mock(ReserveRepository.class);
+        listener = new UserChangedListener(reserveRepository);
+    }
+
+    @Test
+    public void 사용자_변경을_read_model_에_반영() {
+        when(reserveRepository.refreshViewByUser("user")).thenReturn(Mono.just(3));
+
+        listener.accept(message("user"));
+
+        verify(reserveRepository).refreshViewByUser("user");
+    }
+
+    @Test
+    public void 반영에_실패하면_binder_가_다시_처리하도록_오류() {
+        when(reserveRepository.refreshViewByUser("user")).thenReturn(Mono.error(new IllegalStateException("user service down")));
+
+        assertThatThrownBy(() -> listener.accept(message("user")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static UserChangedMessage message(String userId) {
+        UserChangedMessage message = new UserChangedMessage();
+        ReflectionTestUtils.setField(message, "userId", userId);
+        return message;
+    }
+}
@@ -0,0 +1,38 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatisticsTest {
+
+    @Test
+    public void fingerprint_별_집계는_운영_registry_에_노출하지_않음() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QueryStatistics queryStatistics = new QueryStatistics(meterRegistry, 10);
+
+        for (int i = 0; i < 5; i++) {
+            StatementFingerprint fingerprint = queryStatistics.fingerprint("SELECT * FROM reserve WHERE reserve_id = '" + i + "'");
+            queryStatistics.recordExecution(fingerprint, Duration.ofMillis(10), true);
+            queryStatistics.recordRow(fingerprint, 1);
+        }
+        queryStatistics.recordExecution(queryStatistics.fingerprint("DELETE FROM reserve_view"), Duration.ofMillis(5), false);
+
+        for (Meter meter : meterRegistry.getMeters()) {
+            assertThat(meter.getId().getTag("fingerprint")).isNull();
+        }
+        assertThat(meterRegistry.get(QueryStatistics.METRIC_NAME).tag("outcome", "success").timer().count()).isEqualTo(5);
+        assertThat(meterRegistry.get(QueryStatistics.METRIC_NAME).tag("outcome", "error").timer().count()).isEqualTo(1);
+
+        List<QueryStatistics.Snapshot> snapshots = queryStatistics.snapshot();
+        assertThat(snapshots).hasSize(2);
+        assertThat(snapshots.get(0).getCount()).isEqualTo(5);
+        assertThat(snapshots.get(0).getRows()).isEqualTo(5);
+        assertThat(snapshots.get(1).getErrors()).isEqualTo(1);
+    }
+}
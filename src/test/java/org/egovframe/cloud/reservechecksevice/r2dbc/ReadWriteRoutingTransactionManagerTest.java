@@ -0,0 +1,100 @@
+package org.egovframe.cloud.reservechecksevice.r2dbc;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingTransactionManagerTest {
+
+    private DatabaseClient databaseClient;
+    private ReadWriteRoutingTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setup() {
+        H2ConnectionFactory primary = h2("primary");
+        H2ConnectionFactory replica = h2("replica");
+
+        ReadWriteRoutingConnectionFactory routing = new ReadWriteRoutingConnectionFactory(primary, replica);
+        transactionManager = new ReadWriteRoutingTransactionManager(routing,
+                new RecentWriterRegistry(Duration.ofMinutes(1), 100));
+        databaseClient = DatabaseClient.create(routing);
+    }
+
+    @Test
+    public void 읽기전용_트랜잭션은_replica_사용() {
+        assertThat(currentDatabase(true).block()).isEqualTo("replica");
+    }
+
+    @Test
+    public void 쓰기_트랜잭션은_primary_사용() {
+        assertThat(currentDatabase(false).block()).isEqualTo("primary");
+    }
+
+    @Test
+    public void 트랜잭션_밖의_조회는_primary_사용() {
+        assertThat(selectName().block()).isEqualTo("primary");
+    }
+
+    @Test
+    public void 최근_쓰기한_사용자의_조회는_primary_사용() {
+        currentDatabase(false)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("writer")))
+                .block();
+
+        String writer = currentDatabase(true)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("writer")))
+                .block();
+        String other = currentDatabase(true)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("other")))
+                .block();
+
+        assertThat(writer).isEqualTo("primary");
+        assertThat(other).isEqualTo("replica");
+    }
+
+    private Mono<String> currentDatabase(boolean readOnly) {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(readOnly);
+        return TransactionalOperator.create(transactionManager, definition).transactional(selectName());
+    }
+
+    private Mono<String> selectName() {
+        return databaseClient.sql("SELECT name FROM database_role")
+                .map(row -> row.get("name", String.class))
+                .one();
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String userId) {
+        return new UsernamePasswordAuthenticationToken(userId, null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+
+    /**
+     * 테이블 database_role 에 자신의 이름을 한건 가진 in-memory H2
+     */
+    private static H2ConnectionFactory h2(String name) {
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory(name + "-" + UUID.randomUUID())
+                .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+                .username("sa")
+                .build());
+        DatabaseClient client = DatabaseClient.create(connectionFactory);
+        client.sql("CREATE TABLE database_role (name VARCHAR(20))").then()
+                .then(client.sql("INSERT INTO database_role (name) VALUES (:name)").bind("name", name).then())
+                .block();
+        return connectionFactory;
+    }
+}
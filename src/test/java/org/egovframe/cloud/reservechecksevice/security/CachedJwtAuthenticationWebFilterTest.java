@@ -0,0 +1,86 @@
+package org.egovframe.cloud.reservechecksevice.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.WebFilterChain;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedJwtAuthenticationWebFilterTest {
+
+    private static final String SECRET = VerifiedTokenCacheTest.secret("reserve-check-service-test-secret-key-0123456789");
+
+    private VerifiedTokenCache cache;
+    private CachedJwtAuthenticationWebFilter filter;
+
+    private final AtomicBoolean called = new AtomicBoolean();
+    private final AtomicReference<Authentication> authentication = new AtomicReference<>();
+    private final WebFilterChain chain = exchange -> {
+        called.set(true);
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .doOnNext(authentication::set)
+                .then();
+    };
+
+    @BeforeEach
+    public void setup() {
+        cache = new VerifiedTokenCache(SECRET, "authorities", 100, 3600, new VerifiedTokenCacheTest.FakeTicker());
+        filter = new CachedJwtAuthenticationWebFilter(cache);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+    }
+
+    @Test
+    public void bearer_토큰이_없으면_인증없이_통과() {
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/reserves")), chain).block();
+
+        assertThat(called).isTrue();
+        assertThat(authentication.get()).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void 검증된_토큰은_인증정보_설정() {
+        String token = VerifiedTokenCacheTest.token("user", SECRET, cache.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+
+        filter.filter(exchange(token), chain).block();
+
+        assertThat(called).isTrue();
+        assertThat(authentication.get()).isNotNull();
+        assertThat(authentication.get().getPrincipal()).isEqualTo("user");
+
+        Authentication first = authentication.getAndSet(null);
+        filter.filter(exchange(token), chain).block();
+        assertThat(authentication.get().getPrincipal()).isEqualTo(first.getPrincipal());
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void 검증에_실패한_토큰은_인증없이_통과() {
+        String forged = VerifiedTokenCacheTest.token("user",
+                VerifiedTokenCacheTest.secret("another-secret-key-0123456789-0123456789"),
+                cache.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+
+        filter.filter(exchange(forged), chain).block();
+
+        assertThat(called).isTrue();
+        assertThat(authentication.get()).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private MockServerWebExchange exchange(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/reserves")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+}
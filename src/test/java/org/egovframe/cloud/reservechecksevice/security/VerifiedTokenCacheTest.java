@@ -0,0 +1,105 @@
+package org.egovframe.cloud.reservechecksevice.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = secret("reserve-check-service-test-secret-key-0123456789");
+
+    private FakeTicker ticker;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    public void setup() {
+        ticker = new FakeTicker();
+        cache = new VerifiedTokenCache(SECRET, "authorities", 100, 3600, ticker);
+    }
+
+    @Test
+    public void 캐시된_토큰은_같은_인증정보_재사용() {
+        String token = token("user", SECRET, cache.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+
+        VerifiedToken first = cache.verify(token);
+        VerifiedToken second = cache.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(second.toAuthentication().getPrincipal()).isEqualTo("user");
+        assertThat(second.toAuthentication().getAuthorities())
+                .extracting(authority -> authority.getAuthority())
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    public void 만료시각이_지나면_캐시에서_제거되고_만료_오류() {
+        String token = token("user", SECRET, cache.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1));
+        cache.verify(token);
+
+        ticker.advance(TimeUnit.SECONDS.toNanos(59));
+        assertThat(cache.verify(token)).isNotNull();
+
+        ticker.advance(TimeUnit.SECONDS.toNanos(2));
+        assertThatThrownBy(() -> cache.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void 같은_사용자의_변조된_토큰은_캐시를_사용하지_않음() {
+        long expiration = cache.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10);
+        String token = token("user", SECRET, expiration);
+        cache.verify(token);
+
+        String forged = token("user", secret("another-secret-key-0123456789-0123456789"), expiration);
+        assertThatThrownBy(() -> cache.verify(forged)).isInstanceOf(SignatureException.class);
+
+        String[] parts = token.split("\\.");
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"sub\":\"admin\",\"authorities\":\"ROLE_ADMIN\"}".getBytes(StandardCharsets.UTF_8));
+        String tampered = parts[0] + "." + payload + "." + parts[2];
+        assertThatThrownBy(() -> cache.verify(tampered)).isInstanceOf(SignatureException.class);
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    static String secret(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String token(String subject, String secret, long expirationMillis) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("authorities", "ROLE_USER")
+                .setExpiration(new Date(expirationMillis))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+    }
+
+    static class FakeTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(long amount) {
+            nanos.addAndGet(amount);
+        }
+    }
+}
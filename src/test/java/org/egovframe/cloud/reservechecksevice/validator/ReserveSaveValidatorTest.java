@@ -0,0 +1,127 @@
+package org.egovframe.cloud.reservechecksevice.validator;
+
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveSaveRequestDto;
+import org.egovframe.cloud.reservechecksevice.api.reserve.dto.ReserveUpdateRequestDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ReserveSaveValidatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2021, 10, 1, 9, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2021, 10, 2, 18, 0);
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    public static void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    public static void close() {
+        validatorFactory.close();
+    }
+
+    @Test
+    public void 교육은_신청인원만_필수() {
+        assertThat(validator.validate(saveRequest("education", null, null, null)))
+                .extracting(this::property, ConstraintViolation::getMessage)
+                .containsExactly(tuple("reserveQty", "예약 수량은 필수입니다."));
+
+        assertThat(validator.validate(saveRequest("education", 10, null, null))).isEmpty();
+    }
+
+    @Test
+    public void 장비는_신청기간과_신청수량_필수() {
+        assertThat(validator.validate(saveRequest("equipment", null, START, END)))
+                .extracting(this::property, ConstraintViolation::getMessage)
+                .containsExactly(tuple("reserveQty", "예약 수량은 필수입니다."));
+
+        assertThat(validator.validate(saveRequest("equipment", 1, START, END))).isEmpty();
+    }
+
+    @Test
+    public void 공간은_신청기간만_필수() {
+        assertThat(validator.validate(saveRequest("place", null, START, null)))
+                .extracting(this::property, ConstraintViolation::getMessage)
+                .containsExactly(tuple("reserveEndDate", "예약 신청 종료 기간은 필수입니다."));
+
+        assertThat(validator.validate(saveRequest("place", null, START, END))).isEmpty();
+    }
+
+    @Test
+    public void 시작일이_종료일_이후이면_위반() {
+        assertThat(validator.validate(saveRequest("place", null, END, START)))
+                .extracting(this::property, ConstraintViolation::getMessage)
+                .containsExactly(tuple("reserveStartDate", "시작일이 종료일 보다 큽니다."));
+    }
+
+    @Test
+    public void 여러_항목이_없으면_위반_항목을_모두_반환() {
+        Set<ConstraintViolation<ReserveSaveRequestDto>> violations = validator.validate(saveRequest("equipment", null, null, null));
+
+        assertThat(violations)
+                .extracting(this::property, ConstraintViolation::getMessage)
+                .containsExactlyInAnyOrder(
+                        tuple("reserveStartDate", "예약 신청 시작 기간은 필수입니다."),
+                        tuple("reserveEndDate", "예약 신청 종료 기간은 필수입니다."),
+                        tuple("reserveQty", "예약 수량은 필수입니다."));
+        // 위반 항목이 있으면 기본 message(저장할 수 없습니다.)는 반환하지 않는다
+        assertThat(violations).extracting(ConstraintViolation::getMessage).doesNotContain("저장할 수 없습니다.");
+    }
+
+    @Test
+    public void 규칙이_없는_유형은_검사하지_않는다() {
+        assertThat(validator.validate(saveRequest(null, null, null, null))).isEmpty();
+        assertThat(validator.validate(saveRequest("unknown", null, null, null))).isEmpty();
+    }
+
+    @Test
+    public void 수정_요청도_같은_규칙으로_검사() {
+        ReserveUpdateRequestDto updateRequestDto = ReserveUpdateRequestDto.builder()
+                .reserveItemId(1L)
+                .categoryId("equipment")
+                .reservePurposeContent("purpose")
+                .reserveEndDate(END)
+                .userId("user")
+                .userContactNo("contact")
+                .userEmail("user@email.com")
+                .build();
+
+        assertThat(validator.validate(updateRequestDto))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("reserveStartDate", "reserveQty");
+    }
+
+    private String property(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath().toString();
+    }
+
+    private static ReserveSaveRequestDto saveRequest(String categoryId, Integer reserveQty,
+                                                     LocalDateTime reserveStartDate, LocalDateTime reserveEndDate) {
+        return ReserveSaveRequestDto.builder()
+                .reserveItemId(1L)
+                .categoryId(categoryId)
+                .reserveQty(reserveQty)
+                .reservePurposeContent("purpose")
+                .reserveStartDate(reserveStartDate)
+                .reserveEndDate(reserveEndDate)
+                .userId("user")
+                .userContactNo("contact")
+                .userEmail("user@email.com")
+                .build();
+    }
+}
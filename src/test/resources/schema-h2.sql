@@ -79,3 +79,49 @@ CREATE TABLE IF NOT EXISTS reserve
         REFERENCES reserve_item (reserve_item_id) ON DELETE RESTRICT ON UPDATE RESTRICT
 ) ;
 
+
+-- reserve_view Table Create SQL
+CREATE TABLE IF NOT EXISTS reserve_view
+(
+    reserve_id               VARCHAR(255)     NOT NULL    COMMENT '예약 id',
+    reserve_item_id          BIGINT           NULL        COMMENT '예약 물품 id',
+    reserve_item_name        VARCHAR(200)     NULL        COMMENT '예약 물품 명',
+    location_id              BIGINT           NULL        COMMENT '지역 id',
+    location_name            VARCHAR(200)     NULL        COMMENT '지역 명',
+    category_id              VARCHAR(255)     NULL        COMMENT '예약유형 id',
+    category_name            VARCHAR(255)     NULL        COMMENT '예약유형 명',
+    inventory_qty            BIGINT(18)       NULL        COMMENT '재고/수용인원 수',
+    user_id                  VARCHAR(255)     NULL        COMMENT '예약자 id',
+    user_name                VARCHAR(255)     NULL        COMMENT '예약자 명',
+    modified_date            DATETIME         NULL        COMMENT '수정일',
+    version                  BIGINT           DEFAULT 0   NOT NULL    COMMENT '변경 version',
+    PRIMARY KEY (reserve_id)
+) ;
+
+-- reserve_item_snapshot Table Create SQL
+CREATE TABLE IF NOT EXISTS reserve_item_snapshot
+(
+    reserve_item_id          BIGINT           NOT NULL    COMMENT '예약 물품 id',
+    reserve_item_name        VARCHAR(200)     NULL        COMMENT '예약 물품 명',
+    location_id              BIGINT           NULL        COMMENT '지역 id',
+    location_name            VARCHAR(200)     NULL        COMMENT '지역 명',
+    category_id              VARCHAR(255)     NULL        COMMENT '예약유형 id',
+    category_name            VARCHAR(255)     NULL        COMMENT '예약유형 명',
+    total_qty                BIGINT(18)       NULL        COMMENT '총 재고/수용인원 수',
+    inventory_qty            BIGINT(18)       NULL        COMMENT '재고/수용인원 수',
+    operation_start_date     DATETIME         NULL        COMMENT '운영 시작 일',
+    operation_end_date       DATETIME         NULL        COMMENT '운영 종료 일',
+    reserve_means_id         VARCHAR(20)      NULL        COMMENT '예약 구분 - 공통코드(reserve-means)',
+    request_start_date       DATETIME         NULL        COMMENT '예약 신청 시작 일시',
+    request_end_date         DATETIME         NULL        COMMENT '예약 신청 종료 일시',
+    snapshot_date            DATETIME         NOT NULL    COMMENT '예약 물품 서비스에서 조회한 일시',
+    PRIMARY KEY (reserve_item_id)
+) ;
+
+-- reserve_item_version Table Create SQL
+CREATE TABLE IF NOT EXISTS reserve_item_version
+(
+    reserve_item_id          BIGINT           NOT NULL    COMMENT '예약 물품 id',
+    version                  BIGINT           NOT NULL    COMMENT '예약 변경 version',
+    PRIMARY KEY (reserve_item_id)
+) ;
@@ -0,0 +1,22 @@
+-- 대량 데이터 적재용 reserve Table (H2, schema.sql 과 같은 컬럼 구성)
+CREATE TABLE IF NOT EXISTS reserve
+(
+    reserve_id               VARCHAR(255)     NOT NULL,
+    reserve_item_id          BIGINT           NULL,
+    location_id              BIGINT           NULL,
+    category_id              VARCHAR(255)     NULL,
+    reserve_qty              BIGINT           NULL,
+    reserve_purpose_content  VARCHAR(4000)    NULL,
+    attachment_code          VARCHAR(255)     NULL,
+    reserve_start_date       DATETIME         NULL,
+    reserve_end_date         DATETIME         NULL,
+    reserve_status_id        VARCHAR(20)      NULL,
+    user_id                  VARCHAR(255)     NULL,
+    user_contact_no          VARCHAR(50)      NULL,
+    user_email_addr          VARCHAR(500)     NULL,
+    create_date              DATETIME         NULL,
+    created_by               VARCHAR(255)     NULL,
+    modified_date            DATETIME         NULL,
+    last_modified_by         VARCHAR(255)     NULL,
+    PRIMARY KEY (reserve_id)
+);
@@ -0,0 +1,45 @@
+-- 목록 조회 read model, 예약 물품 snapshot, 예약 물품별 version Table (H2, schema.sql 과 같은 컬럼 구성)
+-- reserve.search.read-model=true 이면 목록 조회가 reserve_view 를 join 하고, 예약 저장/기간 조회가 reserve_item_version 을 사용하므로
+-- 서비스를 실행하는 환경(loadTest)에서 함께 만든다
+CREATE TABLE IF NOT EXISTS reserve_view
+(
+    reserve_id               VARCHAR(255)     NOT NULL,
+    reserve_item_id          BIGINT           NULL,
+    reserve_item_name        VARCHAR(200)     NULL,
+    location_id              BIGINT           NULL,
+    location_name            VARCHAR(200)     NULL,
+    category_id              VARCHAR(255)     NULL,
+    category_name            VARCHAR(255)     NULL,
+    inventory_qty            BIGINT           NULL,
+    user_id                  VARCHAR(255)     NULL,
+    user_name                VARCHAR(255)     NULL,
+    modified_date            DATETIME         NULL,
+    version                  BIGINT           DEFAULT 0   NOT NULL,
+    PRIMARY KEY (reserve_id)
+);
+
+CREATE TABLE IF NOT EXISTS reserve_item_snapshot
+(
+    reserve_item_id          BIGINT           NOT NULL,
+    reserve_item_name        VARCHAR(200)     NULL,
+    location_id              BIGINT           NULL,
+    location_name            VARCHAR(200)     NULL,
+    category_id              VARCHAR(255)     NULL,
+    category_name            VARCHAR(255)     NULL,
+    total_qty                BIGINT           NULL,
+    inventory_qty            BIGINT           NULL,
+    operation_start_date     DATETIME         NULL,
+    operation_end_date       DATETIME         NULL,
+    reserve_means_id         VARCHAR(20)      NULL,
+    request_start_date       DATETIME         NULL,
+    request_end_date         DATETIME         NULL,
+    snapshot_date            DATETIME         NOT NULL,
+    PRIMARY KEY (reserve_item_id)
+);
+
+CREATE TABLE IF NOT EXISTS reserve_item_version
+(
+    reserve_item_id          BIGINT           NOT NULL,
+    version                  BIGINT           NOT NULL,
+    PRIMARY KEY (reserve_item_id)
+);